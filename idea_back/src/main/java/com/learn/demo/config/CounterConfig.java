@@ -0,0 +1,17 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "counters")
+@Data
+public class CounterConfig {
+    private boolean writeBehind = true;
+    private long flushMillis = 1000L;
+    private int flushBatchSize = 1000;
+    private long flushBudgetMillis = 500L;
+    private long reconcileMillis = 3600000L;
+    private int reconcileBatchSize = 500;
+}
@@ -0,0 +1,75 @@
+package com.learn.demo.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Every cached entity needs a region here, or Hibernate fails at startup.
+@Configuration
+@ConfigurationProperties(prefix = "entity-cache")
+@Data
+public class EntityCacheConfig {
+    public static final String USERS = "users";
+    public static final String USER_NATURAL_IDS = "user-natural-ids";
+
+    private Map<String, Region> regions = defaultRegions();
+    // Hit/miss counters for tuning; off by default because Hibernate counts on every session.
+    private boolean statistics;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, Region> entry : regions.entrySet()) {
+            Region region = entry.getValue();
+            configuration = configuration.withCache(entry.getKey(), CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTtl()))
+                .build());
+        }
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        // A distinct URI per application context, so contexts never share or close each other's caches.
+        return provider.getCacheManager(URI.create("urn:entity-cache:" + UUID.randomUUID()), configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+
+    private static Map<String, Region> defaultRegions() {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put(USERS, new Region(10000, Duration.ofMinutes(30)));
+        regions.put(USER_NATURAL_IDS, new Region(10000, Duration.ofMinutes(30)));
+        return regions;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maxEntries;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,17 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "hot")
+@Data
+public class HotRankingConfig {
+    private double gravity = 1.8;
+    private double commentWeight = 2.0;
+    private int windowDays = 14;
+    private int batchSize = 500;
+    private long refreshMillis = 300000L;
+    private long dirtyFlushMillis = 10000L;
+}
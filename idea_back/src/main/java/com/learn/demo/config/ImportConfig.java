@@ -0,0 +1,13 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "import")
+@Data
+public class ImportConfig {
+    private int batchSize = 500;
+    private int maxErrors = 1000;
+}
@@ -0,0 +1,18 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "listing")
+@Data
+public class ListingConfig {
+    private int countCacheSize = 1000;
+    private long countRefreshMillis = 60000L;
+    private int resultCacheMaxIds = 20000;
+    private int likedCacheUsers = 10000;
+    private int exportFetchSize = 500;
+    private int fragmentCacheSize = 10000;
+    private int snippetBackfillBatchSize = 1000;
+}
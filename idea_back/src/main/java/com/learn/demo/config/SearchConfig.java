@@ -0,0 +1,17 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "search")
+@Data
+public class SearchConfig {
+    private String strategy = "index";
+    private int maxCandidates = 1000;
+    private int rebuildBatchSize = 500;
+    private int tagIndexMaxIds = 1000;
+    private int tagSuggestSize = 10;
+    private int tagDictionarySize = 10000;
+}
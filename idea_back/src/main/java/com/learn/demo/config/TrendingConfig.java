@@ -0,0 +1,14 @@
+package com.learn.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "trending")
+@Data
+public class TrendingConfig {
+    private int capacity = 100;
+    private int topSize = 10;
+    private long refreshMillis = 60000L;
+}
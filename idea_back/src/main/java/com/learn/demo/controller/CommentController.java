@@ -0,0 +1,56 @@
+package com.learn.demo.controller;
+
+import com.learn.demo.dto.ApiResponse;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.comment.CommentResponse;
+import com.learn.demo.dto.comment.CreateCommentRequest;
+import com.learn.demo.enums.UserRole;
+import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.CommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/ideas/{ideaId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+    private final CommentService commentService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<CommentResponse>>> listComments(
+            @PathVariable Long ideaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.listComments(ideaId, cursor, size)));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<CommentResponse>> createComment(
+            @PathVariable Long ideaId,
+            @Valid @RequestBody CreateCommentRequest request,
+            @AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
+            commentService.createComment(ideaId, request, user.getId())));
+    }
+
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<ApiResponse<Void>> deleteComment(
+            @PathVariable Long ideaId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal UserPrincipal user) {
+        boolean isAdmin = user.getRole() == UserRole.ADMIN;
+        commentService.deleteComment(ideaId, commentId, user.getId(), isAdmin);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+}
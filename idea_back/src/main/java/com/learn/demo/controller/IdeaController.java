@@ -4,15 +4,25 @@ import com.learn.demo.dto.ApiResponse;
 import com.learn.demo.dto.PageResponse;
 import com.learn.demo.dto.idea.CreateIdeaRequest;
 import com.learn.demo.dto.idea.IdeaDetailResponse;
+import com.learn.demo.dto.idea.IdeaImportResult;
 import com.learn.demo.dto.idea.IdeaListResponse;
 import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.dto.idea.LikeResponse;
 import com.learn.demo.dto.idea.UpdateIdeaRequest;
 import com.learn.demo.enums.UserRole;
 import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.IdeaExportService;
+import com.learn.demo.service.IdeaImportService;
 import com.learn.demo.service.IdeaService;
+import com.learn.demo.service.LikeService;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,12 +34,16 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class IdeaController {
     private final IdeaService ideaService;
+    private final LikeService likeService;
+    private final IdeaExportService ideaExportService;
+    private final IdeaImportService ideaImportService;
 
     @GetMapping("/ideas")
     public ResponseEntity<ApiResponse<PageResponse<IdeaListResponse>>> listIdeas(
@@ -39,6 +53,21 @@ public class IdeaController {
             ideaService.listIdeas(request, user.getId())));
     }
 
+    @GetMapping(value = "/ideas/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportIdeas(@ModelAttribute IdeaQueryRequest request) {
+        StreamingResponseBody body = out -> ideaExportService.export(request, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("ideas.ndjson").build().toString())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    @PostMapping(value = "/ideas/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<IdeaImportResult>> importIdeas(InputStream body) throws IOException {
+        return ResponseEntity.ok(ApiResponse.success(ideaImportService.importIdeas(body)));
+    }
+
     @GetMapping("/ideas/{id}")
     public ResponseEntity<ApiResponse<IdeaDetailResponse>> getIdea(
             @PathVariable Long id,
@@ -73,6 +102,20 @@ public class IdeaController {
         return ResponseEntity.ok(ApiResponse.success());
     }
 
+    @PostMapping("/ideas/{id}/like")
+    public ResponseEntity<ApiResponse<LikeResponse>> likeIdea(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.ok(ApiResponse.success(likeService.like(id, user.getId())));
+    }
+
+    @DeleteMapping("/ideas/{id}/like")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlikeIdea(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.ok(ApiResponse.success(likeService.unlike(id, user.getId())));
+    }
+
     @GetMapping("/users/me/ideas")
     public ResponseEntity<ApiResponse<PageResponse<IdeaListResponse>>> getMyIdeas(
             @ModelAttribute IdeaQueryRequest request,
@@ -0,0 +1,50 @@
+package com.learn.demo.controller;
+
+import com.learn.demo.dto.ApiResponse;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.report.CreateReportRequest;
+import com.learn.demo.dto.report.ReportGroupResponse;
+import com.learn.demo.dto.report.ReportResolutionResponse;
+import com.learn.demo.dto.report.ReportResponse;
+import com.learn.demo.dto.report.ResolveReportsRequest;
+import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.ReportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReportController {
+    private final ReportService reportService;
+
+    @PostMapping("/reports")
+    public ResponseEntity<ApiResponse<ReportResponse>> createReport(
+            @Valid @RequestBody CreateReportRequest request,
+            @AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
+            reportService.createReport(request, user.getId())));
+    }
+
+    @GetMapping("/admin/reports")
+    public ResponseEntity<ApiResponse<PageResponse<ReportGroupResponse>>> listPendingReports(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(reportService.listPendingGroups(page, size)));
+    }
+
+    @PostMapping("/admin/reports/resolve")
+    public ResponseEntity<ApiResponse<ReportResolutionResponse>> resolveReports(
+            @Valid @RequestBody ResolveReportsRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(reportService.resolve(request)));
+    }
+}
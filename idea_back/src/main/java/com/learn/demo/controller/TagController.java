@@ -0,0 +1,34 @@
+package com.learn.demo.controller;
+
+import com.learn.demo.dto.ApiResponse;
+import com.learn.demo.dto.tag.TagResponse;
+import com.learn.demo.dto.tag.TrendingTagResponse;
+import com.learn.demo.service.TagService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+    private final TagService tagService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<TagResponse>>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(tagService.suggest(prefix, limit)));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingTagResponse>>> trending(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(tagService.trending(window, limit)));
+    }
+}
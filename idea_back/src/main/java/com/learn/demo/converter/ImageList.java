@@ -0,0 +1,189 @@
+package com.learn.demo.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Decodes the stored JSON array lazily, only as far as the requested index.
+final class ImageList extends AbstractList<String> {
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+	private final String json;
+	private final String baseUrl;
+	private final List<String> decoded = new ArrayList<>();
+	private int position;
+
+	ImageList(String json, String baseUrl) {
+		this.json = json;
+		this.baseUrl = baseUrl;
+		int start = skipWhitespace(0);
+		if (start < json.length() && json.charAt(start) == '[') {
+			int next = skipWhitespace(start + 1);
+			position = next < json.length() && json.charAt(next) == ']' ? end(next + 1) : next;
+		} else {
+			position = -2;
+		}
+	}
+
+	String json() {
+		return json;
+	}
+
+	String baseUrl() {
+		return baseUrl;
+	}
+
+	@Override
+	public String get(int index) {
+		decodeThrough(index);
+		return decoded.get(index);
+	}
+
+	@Override
+	public int size() {
+		decodeThrough(Integer.MAX_VALUE);
+		return decoded.size();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof ImageList other && json.equals(other.json) && Objects.equals(baseUrl, other.baseUrl)) {
+			return true;
+		}
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+
+	private void decodeThrough(int index) {
+		while (position >= 0 && decoded.size() <= index) {
+			readNext();
+		}
+		if (position == -2) {
+			decodeWithJackson();
+		}
+	}
+
+	// Sets position to -1 at the closing bracket and to -2 when the text is not the known shape.
+	private void readNext() {
+		int i = position;
+		String value;
+		if (json.startsWith("null", i)) {
+			value = null;
+			i += 4;
+		} else if (i < json.length() && json.charAt(i) == '"') {
+			int close = json.indexOf('"', i + 1);
+			int escape = json.indexOf('\\', i + 1);
+			if (close < 0) {
+				position = -2;
+				return;
+			}
+			if (escape < 0 || escape > close) {
+				value = json.substring(i + 1, close);
+				i = close + 1;
+			} else {
+				StringBuilder text = new StringBuilder(close - i);
+				i = unescape(i + 1, text);
+				if (i < 0) {
+					position = -2;
+					return;
+				}
+				value = text.toString();
+			}
+		} else {
+			position = -2;
+			return;
+		}
+		decoded.add(expand(value));
+		i = skipWhitespace(i);
+		if (i < json.length() && json.charAt(i) == ',') {
+			position = skipWhitespace(i + 1);
+		} else if (i < json.length() && json.charAt(i) == ']') {
+			position = end(i + 1);
+		} else {
+			position = -2;
+		}
+	}
+
+	// Returns the index after the closing quote, or -1 on an invalid escape.
+	private int unescape(int i, StringBuilder text) {
+		while (i < json.length()) {
+			char c = json.charAt(i++);
+			if (c == '"') {
+				return i;
+			}
+			if (c != '\\') {
+				text.append(c);
+				continue;
+			}
+			if (i >= json.length()) {
+				return -1;
+			}
+			char escaped = json.charAt(i++);
+			switch (escaped) {
+				case '"', '\\', '/' -> text.append(escaped);
+				case 'b' -> text.append('\b');
+				case 'f' -> text.append('\f');
+				case 'n' -> text.append('\n');
+				case 'r' -> text.append('\r');
+				case 't' -> text.append('\t');
+				case 'u' -> {
+					if (i + 4 > json.length()) {
+						return -1;
+					}
+					try {
+						text.append((char) Integer.parseInt(json, i, i + 4, 16));
+					} catch (NumberFormatException e) {
+						return -1;
+					}
+					i += 4;
+				}
+				default -> {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	// On failure keeps the images already handed out and drops the rest.
+	private void decodeWithJackson() {
+		position = -1;
+		List<String> values;
+		try {
+			values = mapper.readValue(json, STRING_LIST);
+		} catch (JsonProcessingException e) {
+			return;
+		}
+		decoded.clear();
+		if (values != null) {
+			values.forEach(value -> decoded.add(expand(value)));
+		}
+	}
+
+	private String expand(String value) {
+		if (baseUrl != null && value != null && value.startsWith(ImagesConverter.UPLOAD_PATH)) {
+			return baseUrl + value;
+		}
+		return value;
+	}
+
+	private int end(int i) {
+		return skipWhitespace(i) == json.length() ? -1 : -2;
+	}
+
+	private int skipWhitespace(int i) {
+		while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+}
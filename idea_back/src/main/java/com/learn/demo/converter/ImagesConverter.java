@@ -1,27 +1,57 @@
 package com.learn.demo.converter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.FileStorageConfig;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 
+// Uploaded-file URLs are stored relative to the base URL and expanded on read.
 @Converter
 public class ImagesConverter implements AttributeConverter<List<String>, String> {
-	private static final ObjectMapper mapper = new ObjectMapper();
+	static final String UPLOAD_PATH = "/uploads/";
+
+	private final String baseUrl;
+
+	public ImagesConverter() {
+		this((String) null);
+	}
+
+	@Autowired
+	public ImagesConverter(ObjectProvider<FileStorageConfig> fileStorageConfig) {
+		this(baseUrlOf(fileStorageConfig.getIfAvailable()));
+	}
+
+	ImagesConverter(String baseUrl) {
+		this.baseUrl = baseUrl == null || baseUrl.isBlank()
+			? null
+			: baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+	}
 
 	@Override
 	public String convertToDatabaseColumn(List<String> images) {
+		if (images instanceof ImageList loaded && Objects.equals(loaded.baseUrl(), baseUrl)) {
+			return loaded.json();
+		}
 		if (images == null || images.isEmpty()) {
 			return "[]";
 		}
-		try {
-			return mapper.writeValueAsString(images);
-		} catch (JsonProcessingException e) {
-			return "[]";
+		StringBuilder json = new StringBuilder(2 + images.size() * 48);
+		json.append('[');
+		for (String image : images) {
+			if (json.length() > 1) {
+				json.append(',');
+			}
+			if (image == null) {
+				json.append("null");
+			} else {
+				appendQuoted(json, compact(image));
+			}
 		}
+		return json.append(']').toString();
 	}
 
 	@Override
@@ -29,10 +59,41 @@ public class ImagesConverter implements AttributeConverter<List<String>, String>
 		if (json == null || json.isBlank()) {
 			return new ArrayList<>();
 		}
-		try {
-			return mapper.readValue(json, new TypeReference<>() {});
-		} catch (JsonProcessingException e) {
-			return new ArrayList<>();
+		return new ImageList(json, baseUrl);
+	}
+
+	private String compact(String url) {
+		if (baseUrl != null && url.startsWith(baseUrl) && url.startsWith(UPLOAD_PATH, baseUrl.length())) {
+			return url.substring(baseUrl.length());
+		}
+		return url;
+	}
+
+	private static void appendQuoted(StringBuilder json, String value) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				case '\b' -> json.append("\\b");
+				case '\f' -> json.append("\\f");
+				default -> {
+					if (c < 0x20) {
+						json.append(String.format("\\u%04x", (int) c));
+					} else {
+						json.append(c);
+					}
+				}
+			}
 		}
+		json.append('"');
+	}
+
+	private static String baseUrlOf(FileStorageConfig config) {
+		return config == null ? null : config.getBaseUrl();
 	}
 }
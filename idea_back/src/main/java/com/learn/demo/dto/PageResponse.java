@@ -1,11 +1,13 @@
 package com.learn.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Data
 @NoArgsConstructor
@@ -17,6 +19,10 @@ public class PageResponse<T> {
     private int size;
     private long totalElements;
     private int totalPages;
+    private boolean hasNext;
+    private boolean totalEstimated;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public static <T> PageResponse<T> of(Page<T> page) {
         return PageResponse.<T>builder()
@@ -25,6 +31,46 @@ public class PageResponse<T> {
             .size(page.getSize())
             .totalElements(page.getTotalElements())
             .totalPages(page.getTotalPages())
+            .hasNext(page.hasNext())
+            .build();
+    }
+
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor) {
+        return PageResponse.<T>builder()
+            .content(content)
+            .size(size)
+            .totalElements(-1)
+            .totalPages(-1)
+            .nextCursor(nextCursor)
+            .hasNext(nextCursor != null)
+            .build();
+    }
+
+    // A negative total means unknown.
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice, long total, boolean estimated) {
+        int pageSize = slice.getSize();
+        int totalPages = total < 0 ? -1 : (pageSize == 0 ? 1 : (int) Math.ceil((double) total / pageSize));
+        return PageResponse.<T>builder()
+            .content(slice.getContent())
+            .page(slice.getNumber())
+            .size(pageSize)
+            .totalElements(total)
+            .totalPages(totalPages)
+            .hasNext(slice.hasNext())
+            .totalEstimated(estimated)
+            .build();
+    }
+
+    public <R> PageResponse<R> withContent(List<R> newContent) {
+        return PageResponse.<R>builder()
+            .content(newContent)
+            .page(page)
+            .size(size)
+            .totalElements(totalElements)
+            .totalPages(totalPages)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .totalEstimated(totalEstimated)
             .build();
     }
 }
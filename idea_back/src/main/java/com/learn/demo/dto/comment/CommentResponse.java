@@ -0,0 +1,31 @@
+package com.learn.demo.dto.comment;
+
+import com.learn.demo.dto.idea.AuthorDto;
+import com.learn.demo.entity.Comment;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentResponse {
+    private Long id;
+    private Long ideaId;
+    private String content;
+    private AuthorDto author;
+    private LocalDateTime createdAt;
+
+    public static CommentResponse fromComment(Comment comment) {
+        return CommentResponse.builder()
+            .id(comment.getId())
+            .ideaId(comment.getIdea() == null ? null : comment.getIdea().getId())
+            .content(comment.getContent())
+            .author(AuthorDto.fromUser(comment.getUser()))
+            .createdAt(comment.getCreatedAt())
+            .build();
+    }
+}
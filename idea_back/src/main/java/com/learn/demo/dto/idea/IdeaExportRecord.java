@@ -0,0 +1,48 @@
+package com.learn.demo.dto.idea;
+
+import com.learn.demo.entity.Idea;
+import com.learn.demo.enums.IdeaStatus;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdeaExportRecord {
+    private Long id;
+    private String title;
+    private String description;
+    private List<String> images;
+    private List<String> tags;
+    private AuthorDto author;
+    private IdeaStatus status;
+    private Long likeCount;
+    private Long commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static IdeaExportRecord fromIdea(Idea idea, List<String> tags) {
+        if (idea == null) {
+            return null;
+        }
+        return IdeaExportRecord.builder()
+            .id(idea.getId())
+            .title(idea.getTitle())
+            .description(idea.getDescription())
+            .images(idea.getImages() == null ? Collections.emptyList() : List.copyOf(idea.getImages()))
+            .tags(tags == null ? Collections.emptyList() : tags)
+            .author(AuthorDto.fromUser(idea.getUser()))
+            .status(idea.getStatus())
+            .likeCount(idea.getLikeCount())
+            .commentCount(idea.getCommentCount())
+            .createdAt(idea.getCreatedAt())
+            .updatedAt(idea.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.learn.demo.dto.idea;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdeaImportError {
+    private long line;
+    private String message;
+}
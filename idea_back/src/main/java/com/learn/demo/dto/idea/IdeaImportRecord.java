@@ -0,0 +1,32 @@
+package com.learn.demo.dto.idea;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdeaImportRecord {
+    @NotNull
+    private Long userId;
+
+    @NotBlank
+    @Size(min = 1, max = 100)
+    private String title;
+
+    @NotBlank
+    @Size(min = 1, max = 5000)
+    private String description;
+
+    @Size(max = 9)
+    private List<String> images;
+
+    private List<String> tags;
+}
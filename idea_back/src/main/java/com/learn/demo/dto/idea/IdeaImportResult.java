@@ -0,0 +1,18 @@
+package com.learn.demo.dto.idea;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdeaImportResult {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<IdeaImportError> errors;
+}
@@ -1,20 +1,24 @@
 package com.learn.demo.dto.idea;
 
-import com.learn.demo.entity.Idea;
-import com.learn.demo.entity.Tag;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.learn.demo.repository.projection.IdeaCardView;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonSerialize(using = IdeaListResponseSerializer.class)
 public class IdeaListResponse {
     private Long id;
     private String title;
@@ -27,34 +31,37 @@ public class IdeaListResponse {
     private boolean liked;
     private LocalDateTime createdAt;
 
-    public static IdeaListResponse fromIdea(Idea idea, boolean liked) {
-        if (idea == null) {
+    // When set, the serializer writes this in place of the static fields.
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private SerializableString fragment;
+
+    public static IdeaListResponse fromCard(IdeaCardView card, boolean liked) {
+        if (card == null) {
             return null;
         }
-        List<String> images = idea.getImages() == null
-            ? Collections.emptyList()
-            : List.copyOf(idea.getImages());
-        List<String> tags = idea.getTags() == null
-            ? Collections.emptyList()
-            : idea.getTags().stream()
-                .map(Tag::getName)
-                .filter(Objects::nonNull)
-                .toList();
-        String description = idea.getDescription();
-        String snippet = description == null ? null
-            : description.length() <= 200 ? description : description.substring(0, 200);
+        return IdeaListResponse.builder()
+            .id(card.id())
+            .title(card.title())
+            .description(card.snippet())
+            .images(card.images() == null ? Collections.emptyList() : card.images())
+            .tags(card.tags() == null ? Collections.emptyList() : card.tags())
+            .author(new AuthorDto(card.authorId(), card.authorUsername(), card.authorAvatar()))
+            .likeCount(card.likeCount())
+            .commentCount(card.commentCount())
+            .liked(liked)
+            .createdAt(card.createdAt())
+            .build();
+    }
 
+    public static IdeaListResponse ofFragment(IdeaCardView card, boolean liked, SerializableString fragment) {
         return IdeaListResponse.builder()
-            .id(idea.getId())
-            .title(idea.getTitle())
-            .description(snippet)
-            .images(images)
-            .tags(tags)
-            .author(AuthorDto.fromUser(idea.getUser()))
-            .likeCount(idea.getLikeCount())
-            .commentCount(idea.getCommentCount())
+            .id(card.id())
+            .likeCount(card.likeCount())
+            .commentCount(card.commentCount())
             .liked(liked)
-            .createdAt(idea.getCreatedAt())
+            .fragment(fragment)
             .build();
     }
 }
@@ -0,0 +1,58 @@
+package com.learn.demo.dto.idea;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+public class IdeaListResponseSerializer extends StdSerializer<IdeaListResponse> {
+
+    public IdeaListResponseSerializer() {
+        super(IdeaListResponse.class);
+    }
+
+    @Override
+    public void serialize(IdeaListResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        if (value.getFragment() != null) {
+            gen.writeRawValue(value.getFragment());
+            gen.writeRaw(",\"likeCount\":" + value.getLikeCount()
+                + ",\"commentCount\":" + value.getCommentCount()
+                + ",\"liked\":" + value.isLiked() + "}");
+            return;
+        }
+        gen.writeStartObject(value);
+        writeStaticFields(value, gen, ctxt);
+        ctxt.defaultSerializeProperty("likeCount", value.getLikeCount(), gen);
+        ctxt.defaultSerializeProperty("commentCount", value.getCommentCount(), gen);
+        gen.writeBooleanProperty("liked", value.isLiked());
+        gen.writeEndObject();
+    }
+
+    private static void writeStaticFields(IdeaListResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        ctxt.defaultSerializeProperty("id", value.getId(), gen);
+        ctxt.defaultSerializeProperty("title", value.getTitle(), gen);
+        ctxt.defaultSerializeProperty("description", value.getDescription(), gen);
+        ctxt.defaultSerializeProperty("images", value.getImages(), gen);
+        ctxt.defaultSerializeProperty("tags", value.getTags(), gen);
+        ctxt.defaultSerializeProperty("author", value.getAuthor(), gen);
+        ctxt.defaultSerializeProperty("createdAt", value.getCreatedAt(), gen);
+    }
+
+    // A fragment is this object serialized without its closing brace.
+    @JsonSerialize(using = StaticFieldsSerializer.class)
+    public record StaticFields(IdeaListResponse card) {}
+
+    static class StaticFieldsSerializer extends StdSerializer<StaticFields> {
+
+        StaticFieldsSerializer() {
+            super(StaticFields.class);
+        }
+
+        @Override
+        public void serialize(StaticFields value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            writeStaticFields(value.card(), gen, ctxt);
+            gen.writeEndObject();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.learn.demo.dto.idea;
 
 import jakarta.validation.constraints.Max;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,5 +30,37 @@ public class IdeaQueryRequest {
 
     private String tag;
 
+    private List<String> tags;
+
+    private String tagMode;
+
     private Long userId;
+
+    private String cursor;
+
+    private String count;
+
+    public List<String> resolveTagNames() {
+        Set<String> names = new LinkedHashSet<>();
+        addTagName(names, tag);
+        if (tags != null) {
+            for (String name : tags) {
+                addTagName(names, name);
+            }
+        }
+        List<String> sorted = new ArrayList<>(names);
+        sorted.sort(null);
+        return sorted;
+    }
+
+    private static void addTagName(Set<String> names, String name) {
+        if (name == null) {
+            return;
+        }
+        for (String part : name.split(",")) {
+            if (!part.isBlank()) {
+                names.add(part.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.learn.demo.dto.idea;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LikeResponse {
+    private Long ideaId;
+    private boolean liked;
+    private long likeCount;
+}
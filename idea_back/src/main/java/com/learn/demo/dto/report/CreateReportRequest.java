@@ -0,0 +1,26 @@
+package com.learn.demo.dto.report;
+
+import com.learn.demo.enums.TargetType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateReportRequest {
+    @NotNull
+    private TargetType targetType;
+
+    @NotNull
+    private Long targetId;
+
+    @NotBlank
+    @Size(max = 200)
+    private String reason;
+}
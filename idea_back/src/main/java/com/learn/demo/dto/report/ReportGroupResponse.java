@@ -0,0 +1,31 @@
+package com.learn.demo.dto.report;
+
+import com.learn.demo.enums.TargetType;
+import com.learn.demo.repository.projection.ReportGroupView;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportGroupResponse {
+    private TargetType targetType;
+    private Long targetId;
+    private long reportCount;
+    private LocalDateTime firstReportedAt;
+    private LocalDateTime lastReportedAt;
+
+    public static ReportGroupResponse fromView(ReportGroupView view) {
+        return ReportGroupResponse.builder()
+            .targetType(view.getTargetType())
+            .targetId(view.getTargetId())
+            .reportCount(view.getReportCount() == null ? 0L : view.getReportCount())
+            .firstReportedAt(view.getFirstReportedAt())
+            .lastReportedAt(view.getLastReportedAt())
+            .build();
+    }
+}
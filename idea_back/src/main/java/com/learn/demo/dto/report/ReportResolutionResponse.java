@@ -0,0 +1,16 @@
+package com.learn.demo.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResolutionResponse {
+    private int reports;
+    private int hiddenIdeas;
+    private int deletedComments;
+}
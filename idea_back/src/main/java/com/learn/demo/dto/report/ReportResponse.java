@@ -0,0 +1,34 @@
+package com.learn.demo.dto.report;
+
+import com.learn.demo.entity.Report;
+import com.learn.demo.enums.ReportStatus;
+import com.learn.demo.enums.TargetType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportResponse {
+    private Long id;
+    private TargetType targetType;
+    private Long targetId;
+    private String reason;
+    private ReportStatus status;
+    private LocalDateTime createdAt;
+
+    public static ReportResponse fromReport(Report report) {
+        return ReportResponse.builder()
+            .id(report.getId())
+            .targetType(report.getTargetType())
+            .targetId(report.getTargetId())
+            .reason(report.getReason())
+            .status(report.getStatus())
+            .createdAt(report.getCreatedAt())
+            .build();
+    }
+}
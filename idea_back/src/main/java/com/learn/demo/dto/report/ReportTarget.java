@@ -0,0 +1,20 @@
+package com.learn.demo.dto.report;
+
+import com.learn.demo.enums.TargetType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportTarget {
+    @NotNull
+    private TargetType targetType;
+
+    @NotNull
+    private Long targetId;
+}
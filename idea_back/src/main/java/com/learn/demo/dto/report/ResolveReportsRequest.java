@@ -0,0 +1,26 @@
+package com.learn.demo.dto.report;
+
+import com.learn.demo.enums.ReportStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResolveReportsRequest {
+    // RESOLVED hides each target, REJECTED only closes its reports.
+    @NotNull
+    private ReportStatus status;
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid ReportTarget> targets;
+}
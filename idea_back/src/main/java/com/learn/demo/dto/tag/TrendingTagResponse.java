@@ -0,0 +1,17 @@
+package com.learn.demo.dto.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingTagResponse {
+    private Long id;
+    private String name;
+    private long count;
+    private String window;
+}
@@ -8,8 +8,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.FetchType;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -24,6 +26,7 @@ import jakarta.validation.constraints.Size;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_comments_idea_status_created", columnList = "idea_id, status, createdAt, id"))
 public class Comment {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
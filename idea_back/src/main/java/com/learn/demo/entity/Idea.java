@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -32,8 +33,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "ideas")
+@Table(name = "ideas", indexes = {
+	@Index(name = "idx_ideas_hot_score", columnList = "hotScore, id"),
+	@Index(name = "idx_ideas_created_at", columnList = "createdAt")
+})
 public class Idea {
+	public static final int SNIPPET_LENGTH = 200;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -48,6 +54,10 @@ public class Idea {
 	@Column(columnDefinition = "TEXT")
 	private String description;
 
+	// Kept in step by setDescription so list cards never need the TEXT column.
+	@Column(length = SNIPPET_LENGTH)
+	private String snippet;
+
 	@Convert(converter = ImagesConverter.class)
 	@Column(columnDefinition = "TEXT")
 	private List<String> images;
@@ -62,6 +72,9 @@ public class Idea {
 	@Column(nullable = false)
 	private Long commentCount = 0L;
 
+	@Column(nullable = false)
+	private Double hotScore = 0.0;
+
 	@ManyToMany
 	@JoinTable(
 		name = "idea_tags",
@@ -78,6 +91,18 @@ public class Idea {
 	@Column(nullable = false)
 	private LocalDateTime updatedAt;
 
+	public void setDescription(String description) {
+		this.description = description;
+		this.snippet = snippetOf(description);
+	}
+
+	public static String snippetOf(String description) {
+		if (description == null || description.length() <= SNIPPET_LENGTH) {
+			return description;
+		}
+		return description.substring(0, SNIPPET_LENGTH);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -9,8 +9,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.FetchType;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -25,6 +27,7 @@ import jakarta.validation.constraints.Size;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_reports_status_target", columnList = "status, targetType, targetId"))
 public class Report {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
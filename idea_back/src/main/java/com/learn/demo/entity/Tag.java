@@ -6,6 +6,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +27,10 @@ public class Tag {
 	@Column(nullable = false, unique = true)
 	private String name;
 
+	// Kept in step by setName; name lookups go through its unique index.
+	@Column(name = "lower_name", unique = true)
+	private String lowerName;
+
 	@Column(nullable = false)
 	private Long usageCount = 0L;
 
@@ -32,6 +38,15 @@ public class Tag {
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
+	public void setName(String name) {
+		this.name = name;
+		this.lowerName = fold(name);
+	}
+
+	public static String fold(String name) {
+		return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -41,6 +56,6 @@ public class Tag {
 
 	@Override
 	public int hashCode() {
-		return getClass().hashCode();
+		return Objects.hashCode(id);
 	}
 }
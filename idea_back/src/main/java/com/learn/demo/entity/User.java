@@ -1,7 +1,9 @@
 package com.learn.demo.entity;
 
+import com.learn.demo.config.EntityCacheConfig;
 import com.learn.demo.enums.UserRole;
 import com.learn.demo.enums.UserStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -15,7 +17,11 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.validation.constraints.Size;
 
@@ -25,11 +31,15 @@ import jakarta.validation.constraints.Size;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USERS)
+@NaturalIdCache(region = EntityCacheConfig.USER_NATURAL_IDS)
 public class User {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@NaturalId
 	@Size(min = 3, max = 20)
 	@Column(nullable = false, unique = true, length = 20)
 	private String username;
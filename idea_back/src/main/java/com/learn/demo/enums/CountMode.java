@@ -0,0 +1,18 @@
+package com.learn.demo.enums;
+
+public enum CountMode {
+	EXACT,
+	ESTIMATE,
+	NONE;
+
+	public static CountMode from(String value) {
+		if (value != null) {
+			for (CountMode mode : values()) {
+				if (mode.name().equalsIgnoreCase(value.trim())) {
+					return mode;
+				}
+			}
+		}
+		return ESTIMATE;
+	}
+}
@@ -0,0 +1,7 @@
+package com.learn.demo.enums;
+
+public enum CounterKind {
+	IDEA_LIKES,
+	IDEA_COMMENTS,
+	TAG_USAGE
+}
@@ -0,0 +1,13 @@
+package com.learn.demo.enums;
+
+public enum TagMatchMode {
+	ALL,
+	ANY;
+
+	public static TagMatchMode from(String value) {
+		if (value != null && ANY.name().equalsIgnoreCase(value.trim())) {
+			return ANY;
+		}
+		return ALL;
+	}
+}
@@ -0,0 +1,29 @@
+package com.learn.demo.enums;
+
+public enum TrendingWindow {
+	HOUR("1h"),
+	DAY("24h"),
+	WEEK("7d");
+
+	private final String label;
+
+	TrendingWindow(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public static TrendingWindow from(String value) {
+		if (value != null) {
+			String trimmed = value.trim();
+			for (TrendingWindow window : values()) {
+				if (window.label.equalsIgnoreCase(trimmed) || window.name().equalsIgnoreCase(trimmed)) {
+					return window;
+				}
+			}
+		}
+		return DAY;
+	}
+}
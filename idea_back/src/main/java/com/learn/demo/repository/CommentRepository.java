@@ -2,12 +2,65 @@ package com.learn.demo.repository;
 
 import com.learn.demo.entity.Comment;
 import com.learn.demo.enums.CommentStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 	Page<Comment> findByIdeaIdAndStatus(Long ideaId, CommentStatus status, Pageable pageable);
 
 	long countByIdeaIdAndStatus(Long ideaId, CommentStatus status);
+
+	@Query(
+		"select c from Comment c join fetch c.user where c.idea.id = :ideaId and c.status = :status "
+			+ "order by c.createdAt desc, c.id desc"
+	)
+	List<Comment> findNewest(
+		@Param("ideaId") Long ideaId,
+		@Param("status") CommentStatus status,
+		Limit limit
+	);
+
+	@Query(
+		"select c from Comment c join fetch c.user where c.idea.id = :ideaId and c.status = :status "
+			+ "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) "
+			+ "order by c.createdAt desc, c.id desc"
+	)
+	List<Comment> findOlderThan(
+		@Param("ideaId") Long ideaId,
+		@Param("status") CommentStatus status,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id,
+		Limit limit
+	);
+
+	@Transactional
+	@Modifying
+	@Query("update Comment c set c.status = :to where c.id = :id and c.status = :from")
+	int updateStatus(@Param("id") Long id, @Param("from") CommentStatus from, @Param("to") CommentStatus to);
+
+	boolean existsByIdAndStatus(Long id, CommentStatus status);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from Comment c where c.id in :ids and c.status = :status")
+	List<Comment> lockByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") CommentStatus status);
+
+	@Transactional
+	@Modifying
+	@Query("update Comment c set c.status = :to where c.id in :ids and c.status = :from")
+	int updateStatusByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("from") CommentStatus from,
+		@Param("to") CommentStatus to
+	);
 }
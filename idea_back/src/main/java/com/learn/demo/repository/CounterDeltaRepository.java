@@ -0,0 +1,32 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.CounterDelta;
+import com.learn.demo.repository.projection.CounterTotalView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CounterDeltaRepository extends JpaRepository<CounterDelta, Long>, CounterDeltaRepositoryCustom {
+	// Skips rows another flush has already claimed.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select d from CounterDelta d order by d.id")
+	List<CounterDelta> claimOldest(Limit limit);
+
+	@Query("select d.kind as kind, d.targetId as targetId, sum(d.delta) as total from CounterDelta d group by d.kind, d.targetId")
+	List<CounterTotalView> sumByTarget();
+
+	@Transactional
+	@Modifying
+	@Query("delete from CounterDelta d where d.id in :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,8 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.enums.CounterKind;
+import java.util.Collection;
+
+public interface CounterDeltaRepositoryCustom {
+	int append(CounterKind kind, Collection<Long> targetIds, long delta);
+}
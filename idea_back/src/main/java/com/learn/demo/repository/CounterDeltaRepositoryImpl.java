@@ -0,0 +1,35 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.enums.CounterKind;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+
+public class CounterDeltaRepositoryImpl implements CounterDeltaRepositoryCustom {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public int append(CounterKind kind, Collection<Long> targetIds, long delta) {
+		if (targetIds == null || targetIds.isEmpty() || delta == 0) {
+			return 0;
+		}
+		List<Long> ids = new ArrayList<>(targetIds);
+		StringBuilder hql = new StringBuilder("insert into CounterDelta (kind, targetId, delta, createdAt) values ");
+		for (int i = 0; i < ids.size(); i++) {
+			hql.append(i == 0 ? "" : ", ").append("(:kind, :target").append(i).append(", :delta, local datetime)");
+		}
+		Query query = entityManager.createQuery(hql.toString())
+			.setParameter("kind", kind)
+			.setParameter("delta", delta);
+		for (int i = 0; i < ids.size(); i++) {
+			query.setParameter("target" + i, ids.get(i));
+		}
+		return query.executeUpdate();
+	}
+}
@@ -2,18 +2,29 @@ package com.learn.demo.repository;
 
 import com.learn.demo.entity.Idea;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.projection.IdeaEngagementView;
+import com.learn.demo.repository.projection.IdeaOwnerView;
+import com.learn.demo.repository.projection.IdeaTagNameView;
+import com.learn.demo.repository.projection.IdeaTagUsageView;
+import com.learn.demo.repository.projection.IdeaTagView;
+import com.learn.demo.repository.projection.IdeaTextView;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface IdeaRepository
-	extends JpaRepository<Idea, Long>, JpaSpecificationExecutor<Idea> {
+	extends JpaRepository<Idea, Long>, JpaSpecificationExecutor<Idea>, IdeaRepositoryCustom {
 	Page<Idea> findByUserId(Long userId, Pageable pageable);
 
 	Page<Idea> findByStatus(IdeaStatus status, Pageable pageable);
@@ -25,6 +36,112 @@ public interface IdeaRepository
 	)
 	Page<Idea> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-	@EntityGraph(attributePaths = {"user", "tags"})
-	Page<Idea> findAll(Specification<Idea> spec, Pageable pageable);
+	@Query(
+		value = "select id from ideas where status = 'ACTIVE' "
+			+ "and match(title, description) against (:query in boolean mode) "
+			+ "order by match(title, description) against (:query in boolean mode) desc limit :limit",
+		nativeQuery = true
+	)
+	List<Long> searchFulltextIds(@Param("query") String query, @Param("limit") int limit);
+
+	@Query(
+		"select i.id as id, i.title as title, i.description as description from Idea i "
+			+ "where i.id > :afterId and i.status = :status order by i.id"
+	)
+	List<IdeaTextView> findTextBatch(
+		@Param("afterId") Long afterId,
+		@Param("status") IdeaStatus status,
+		Pageable pageable
+	);
+
+	@Query(
+		"select i.id as ideaId, t.id as tagId from Idea i join i.tags t where i.status = :status "
+			+ "and (i.id > :afterIdea or (i.id = :afterIdea and t.id > :afterTag)) order by i.id, t.id"
+	)
+	List<IdeaTagView> findTagPairs(
+		@Param("afterIdea") Long afterIdea,
+		@Param("afterTag") Long afterTag,
+		@Param("status") IdeaStatus status,
+		Pageable pageable
+	);
+
+	@Query("select i.id as ideaId, t.name as name from Idea i join i.tags t where i.id in :ids")
+	List<IdeaTagNameView> findTagNamesByIdeaIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query(
+		"select i.id as id, i.likeCount as likeCount, i.commentCount as commentCount, i.createdAt as createdAt "
+			+ "from Idea i where i.id in :ids"
+	)
+	List<IdeaEngagementView> findEngagementByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query(
+		"select i.id as id, i.likeCount as likeCount, i.commentCount as commentCount, i.createdAt as createdAt "
+			+ "from Idea i where i.id > :afterId and i.createdAt >= :since and i.status = :status order by i.id"
+	)
+	List<IdeaEngagementView> findEngagementBatch(
+		@Param("afterId") Long afterId,
+		@Param("since") LocalDateTime since,
+		@Param("status") IdeaStatus status,
+		Pageable pageable
+	);
+
+	@Query("select min(i.id) from Idea i where i.createdAt >= :since")
+	Optional<Long> findFirstIdCreatedSince(@Param("since") LocalDateTime since);
+
+	// Scores are never negative, so "> 0" reads only scored rows off the hot score index.
+	@Transactional
+	@Modifying
+	@Query("update Idea i set i.hotScore = 0 where i.hotScore > 0 and i.createdAt < :cutoff")
+	int clearHotScoresBefore(@Param("cutoff") LocalDateTime cutoff);
+
+	boolean existsByIdAndStatus(Long id, IdeaStatus status);
+
+	@Query("select i.likeCount from Idea i where i.id = :id")
+	Optional<Long> findLikeCountById(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query(
+		"update Idea i set i.likeCount = case when i.likeCount + :delta < 0 then 0L else i.likeCount + :delta end "
+			+ "where i.id in :ids"
+	)
+	int adjustLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+	@Transactional
+	@Modifying
+	@Query(
+		"update Idea i set i.commentCount = case when i.commentCount + :delta < 0 then 0L else i.commentCount + :delta end "
+			+ "where i.id in :ids"
+	)
+	int adjustCommentCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+	@Query("select coalesce(max(i.id), 0) from Idea i")
+	long findMaxId();
+
+	@Transactional
+	@Modifying
+	@Query(
+		"update Idea i set i.snippet = substring(i.description, 1, :length) "
+			+ "where i.id > :fromId and i.id <= :toId and i.snippet is null and i.description is not null"
+	)
+	int backfillSnippets(@Param("fromId") long fromId, @Param("toId") long toId, @Param("length") int length);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select i.id as id, i.user.id as userId from Idea i where i.id in :ids and i.status = :status")
+	List<IdeaOwnerView> lockOwnersByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") IdeaStatus status);
+
+	@Transactional
+	@Modifying
+	@Query("update Idea i set i.status = :to where i.id in :ids and i.status = :from")
+	int updateStatusByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("from") IdeaStatus from,
+		@Param("to") IdeaStatus to
+	);
+
+	@Query(
+		"select i.id as ideaId, t.id as tagId, t.name as name, t.usageCount as usageCount "
+			+ "from Idea i join i.tags t where i.id in :ids"
+	)
+	List<IdeaTagUsageView> findTagUsagesByIdeaIdIn(@Param("ids") Collection<Long> ids);
 }
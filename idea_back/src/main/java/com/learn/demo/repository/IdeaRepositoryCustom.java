@@ -0,0 +1,29 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.Idea;
+import com.learn.demo.repository.projection.IdeaCardView;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface IdeaRepositoryCustom {
+	Page<Long> findIdPage(Specification<Idea> spec, Pageable pageable);
+
+	Slice<Long> findIdSlice(Specification<Idea> spec, Pageable pageable);
+
+	List<Long> findIds(Specification<Idea> spec, Sort sort, int limit);
+
+	List<IdeaCardView> findCardsByIdIn(Collection<Long> ids);
+
+	Stream<Idea> streamAll(Specification<Idea> spec, int fetchSize);
+
+	void insertBatch(List<Idea> ideas);
+
+	void updateHotScores(Map<Long, Double> scores);
+}
@@ -0,0 +1,284 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.repository.projection.IdeaCardView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+public class IdeaRepositoryImpl implements IdeaRepositoryCustom {
+	private static final String[] INSERTED_PROPERTIES = {
+		"user", "title", "description", "snippet", "images", "status",
+		"likeCount", "commentCount", "hotScore", "createdAt", "updatedAt"
+	};
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile String[] insertStatements;
+	private volatile String hotScoreStatement;
+	private volatile BasicValueConverter<Object, Object> imagesConverter;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<Long> findIdPage(Specification<Idea> spec, Pageable pageable) {
+		TypedQuery<Long> query = createIdQuery(spec, pageable.getSort());
+		if (pageable.isPaged()) {
+			query.setFirstResult((int) pageable.getOffset());
+			query.setMaxResults(pageable.getPageSize());
+		}
+		return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> countMatching(spec));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Long> findIdSlice(Specification<Idea> spec, Pageable pageable) {
+		TypedQuery<Long> query = createIdQuery(spec, pageable.getSort());
+		if (pageable.isUnpaged()) {
+			return new SliceImpl<>(query.getResultList(), pageable, false);
+		}
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize() + 1);
+		List<Long> ids = query.getResultList();
+		boolean hasNext = ids.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findIds(Specification<Idea> spec, Sort sort, int limit) {
+		return createIdQuery(spec, sort).setMaxResults(limit).getResultList();
+	}
+
+	// Leaves out the description TEXT column and adds nothing to the persistence context.
+	@Override
+	@Transactional(readOnly = true)
+	public List<IdeaCardView> findCardsByIdIn(Collection<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<IdeaCardView> rows = entityManager.createQuery(
+				"select new " + IdeaCardView.class.getName() + "(i.id, i.title, i.snippet, i.images, "
+					+ "i.likeCount, i.commentCount, i.hotScore, i.createdAt, i.updatedAt, "
+					+ "u.id, u.username, u.avatar) from Idea i join i.user u where i.id in :ids",
+				IdeaCardView.class)
+			.setParameter("ids", ids)
+			.getResultList();
+		if (rows.isEmpty()) {
+			return rows;
+		}
+		Map<Long, List<String>> tagsByIdea = new HashMap<>();
+		List<Object[]> links = entityManager.createQuery(
+				"select i.id, t.name from Idea i join i.tags t where i.id in :ids", Object[].class)
+			.setParameter("ids", ids)
+			.getResultList();
+		for (Object[] link : links) {
+			tagsByIdea.computeIfAbsent((Long) link[0], key -> new ArrayList<>()).add((String) link[1]);
+		}
+		List<IdeaCardView> cards = new ArrayList<>(rows.size());
+		for (IdeaCardView row : rows) {
+			cards.add(row.withTags(tagsByIdea.get(row.id())));
+		}
+		return cards;
+	}
+
+	// The caller must consume and close the stream inside a transaction.
+	@Override
+	public Stream<Idea> streamAll(Specification<Idea> spec, int fetchSize) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Idea> query = cb.createQuery(Idea.class);
+		Root<Idea> root = query.from(Idea.class);
+		root.fetch("user");
+		query.select(root);
+		applySpecification(spec, root, query, cb);
+		query.orderBy(cb.asc(root.get("id")));
+		return entityManager.createQuery(query)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.getResultStream();
+	}
+
+	// The ideas are not attached to the persistence context.
+	@Override
+	public void insertBatch(List<Idea> ideas) {
+		if (ideas == null || ideas.isEmpty()) {
+			return;
+		}
+		String[] sql = insertStatements();
+		BasicValueConverter<Object, Object> images = imagesConverter;
+		entityManager.flush();
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(sql[0], Statement.RETURN_GENERATED_KEYS)) {
+				for (Idea idea : ideas) {
+					statement.setLong(1, idea.getUser().getId());
+					statement.setString(2, idea.getTitle());
+					statement.setString(3, idea.getDescription());
+					statement.setString(4, idea.getSnippet());
+					statement.setString(5, (String) images.toRelationalValue(idea.getImages()));
+					statement.setString(6, idea.getStatus().name());
+					statement.setLong(7, idea.getLikeCount());
+					statement.setLong(8, idea.getCommentCount());
+					statement.setDouble(9, idea.getHotScore());
+					statement.setTimestamp(10, Timestamp.valueOf(idea.getCreatedAt()));
+					statement.setTimestamp(11, Timestamp.valueOf(idea.getUpdatedAt()));
+					statement.addBatch();
+				}
+				statement.executeBatch();
+				try (ResultSet keys = statement.getGeneratedKeys()) {
+					for (Idea idea : ideas) {
+						if (!keys.next()) {
+							throw new IllegalStateException("Missing generated id for imported idea");
+						}
+						idea.setId(keys.getLong(1));
+					}
+				}
+			}
+			try (PreparedStatement statement = connection.prepareStatement(sql[1])) {
+				int links = 0;
+				for (Idea idea : ideas) {
+					for (Tag tag : idea.getTags()) {
+						statement.setLong(1, idea.getId());
+						statement.setLong(2, tag.getId());
+						statement.addBatch();
+						links++;
+					}
+				}
+				if (links > 0) {
+					statement.executeBatch();
+				}
+			}
+		});
+	}
+
+	@Override
+	@Transactional
+	public void updateHotScores(Map<Long, Double> scores) {
+		if (scores == null || scores.isEmpty()) {
+			return;
+		}
+		String sql = hotScoreStatement();
+		entityManager.flush();
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				for (Map.Entry<Long, Double> score : scores.entrySet()) {
+					statement.setDouble(1, score.getValue());
+					statement.setLong(2, score.getKey());
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		});
+	}
+
+	private String hotScoreStatement() {
+		String statement = hotScoreStatement;
+		if (statement == null) {
+			AbstractEntityPersister ideas = (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactoryImplementor.class)
+				.getMappingMetamodel()
+				.getEntityDescriptor(Idea.class);
+			statement = "update " + ideas.getTableName() + " set " + ideas.getPropertyColumnNames("hotScore")[0]
+				+ " = ? where " + ideas.getIdentifierColumnNames()[0] + " = ?";
+			hotScoreStatement = statement;
+		}
+		return statement;
+	}
+
+	private String[] insertStatements() {
+		String[] statements = insertStatements;
+		if (statements == null) {
+			MappingMetamodelImplementor metamodel = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactoryImplementor.class)
+				.getMappingMetamodel();
+			AbstractEntityPersister ideas = (AbstractEntityPersister) metamodel.getEntityDescriptor(Idea.class);
+			AbstractCollectionPersister tags = (AbstractCollectionPersister) metamodel
+				.getCollectionDescriptor(Idea.class.getName() + ".tags");
+			List<String> columns = new ArrayList<>();
+			for (String property : INSERTED_PROPERTIES) {
+				columns.addAll(List.of(ideas.getPropertyColumnNames(property)));
+			}
+			statements = new String[] {
+				insertSql(ideas.getTableName(), columns),
+				insertSql(tags.getTableName(), List.of(tags.getKeyColumnNames()[0], tags.getElementColumnNames()[0]))
+			};
+			imagesConverter = imagesConverter(ideas);
+			insertStatements = statements;
+		}
+		return statements;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BasicValueConverter<Object, Object> imagesConverter(AbstractEntityPersister ideas) {
+		return (BasicValueConverter<Object, Object>) ideas.findAttributeMapping("images")
+			.getSingleJdbcMapping()
+			.getValueConverter();
+	}
+
+	private static String insertSql(String table, List<String> columns) {
+		return "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+			+ String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+	}
+
+	private TypedQuery<Long> createIdQuery(Specification<Idea> spec, Sort sort) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Idea> root = query.from(Idea.class);
+		query.select(root.get("id"));
+		applySpecification(spec, root, query, cb);
+		query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		return entityManager.createQuery(query);
+	}
+
+	private long countMatching(Specification<Idea> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Idea> root = query.from(Idea.class);
+		query.select(cb.count(root));
+		applySpecification(spec, root, query, cb);
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private void applySpecification(
+		Specification<Idea> spec, Root<Idea> root, CriteriaQuery<?> query, CriteriaBuilder cb
+	) {
+		if (spec == null) {
+			return;
+		}
+		Predicate predicate = spec.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+	}
+}
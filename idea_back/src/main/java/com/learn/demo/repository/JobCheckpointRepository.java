@@ -0,0 +1,7 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
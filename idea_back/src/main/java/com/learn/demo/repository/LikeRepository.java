@@ -4,6 +4,11 @@ import com.learn.demo.entity.Like;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
 	boolean existsByUserIdAndIdeaId(Long userId, Long ideaId);
@@ -13,4 +18,23 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 	Optional<Like> findByUserIdAndIdeaId(Long userId, Long ideaId);
 
 	List<Like> findByUserIdAndIdeaIdIn(Long userId, List<Long> ideaIds);
+
+	// Own transaction, so the result is never older than the caller's snapshot.
+	@Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+	@Query("select l.idea.id from Like l where l.user.id = :userId")
+	List<Long> findIdeaIdsByUserId(@Param("userId") Long userId);
+
+	// MySQL renders this as an upsert; useAffectedRows=true makes a duplicate report 0 rows.
+	@Transactional
+	@Modifying
+	@Query(
+		"insert into Like (user.id, idea.id, createdAt) values (:userId, :ideaId, local datetime) "
+			+ "on conflict do nothing"
+	)
+	int insertIfAbsent(@Param("userId") Long userId, @Param("ideaId") Long ideaId);
+
+	@Transactional
+	@Modifying
+	@Query("delete from Like l where l.user.id = :userId and l.idea.id = :ideaId")
+	int deleteByUserIdAndIdeaId(@Param("userId") Long userId, @Param("ideaId") Long ideaId);
 }
@@ -3,10 +3,17 @@ package com.learn.demo.repository;
 import com.learn.demo.entity.Report;
 import com.learn.demo.enums.ReportStatus;
 import com.learn.demo.enums.TargetType;
+import com.learn.demo.repository.projection.ReportGroupView;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 	List<Report> findByTargetTypeAndTargetId(TargetType type, Long targetId);
@@ -14,4 +21,25 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 	Page<Report> findByStatus(ReportStatus status, Pageable pageable);
 
 	long countByStatus(ReportStatus status);
+
+	@Query(
+		"select r.targetType as targetType, r.targetId as targetId, count(r) as reportCount, "
+			+ "min(r.createdAt) as firstReportedAt, max(r.createdAt) as lastReportedAt "
+			+ "from Report r where r.status = :status group by r.targetType, r.targetId "
+			+ "order by count(r) desc, min(r.createdAt) asc, r.targetType asc, r.targetId asc"
+	)
+	Slice<ReportGroupView> findGroupsByStatus(@Param("status") ReportStatus status, Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query(
+		"update Report r set r.status = :to "
+			+ "where r.targetType = :type and r.targetId in :targetIds and r.status = :from"
+	)
+	int updateStatusByTargets(
+		@Param("type") TargetType type,
+		@Param("targetIds") Collection<Long> targetIds,
+		@Param("from") ReportStatus from,
+		@Param("to") ReportStatus to
+	);
 }
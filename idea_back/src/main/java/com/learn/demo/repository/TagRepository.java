@@ -1,14 +1,59 @@
 package com.learn.demo.repository;
 
 import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.projection.TagUsageView;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 	Optional<Tag> findByNameIgnoreCase(String name);
 
 	List<Tag> findTop10ByOrderByUsageCountDesc();
 
 	boolean existsByNameIgnoreCase(String name);
+
+	@Query("select t from Tag t where t.lowerName in :names")
+	List<Tag> findByLowerNameIn(@Param("names") Collection<String> names);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select t from Tag t where t.lowerName in :names")
+	List<Tag> lockByLowerNameIn(@Param("names") Collection<String> names);
+
+	@Transactional
+	@Modifying
+	@Query(
+		"update Tag t set t.usageCount = case when t.usageCount + :delta < 0 then 0L else t.usageCount + :delta end "
+			+ "where t.id in :ids"
+	)
+	int adjustUsage(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+	// One statement, so the three values come from the same snapshot.
+	@Query(
+		"select t.id as id, t.name as name, t.usageCount as usageCount, "
+			+ "(select count(i) from Idea i join i.tags x where x.id = t.id and i.status = :status) as linked, "
+			+ "(select coalesce(sum(d.delta), 0L) from CounterDelta d where d.kind = :kind and d.targetId = t.id) as pending "
+			+ "from Tag t where t.id > :afterId order by t.id"
+	)
+	List<TagUsageView> findUsageBatch(
+		@Param("afterId") Long afterId,
+		@Param("status") IdeaStatus status,
+		@Param("kind") CounterKind kind,
+		Limit limit
+	);
+
+	@Transactional
+	@Modifying
+	@Query("update Tag t set t.usageCount = :expected where t.id = :id and t.usageCount = :observed")
+	int compareAndSetUsage(@Param("id") Long id, @Param("observed") Long observed, @Param("expected") Long expected);
 }
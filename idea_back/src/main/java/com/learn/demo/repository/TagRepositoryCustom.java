@@ -0,0 +1,7 @@
+package com.learn.demo.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+	int insertIgnoringConflicts(Collection<String> names);
+}
@@ -0,0 +1,64 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TagRepositoryImpl implements TagRepositoryCustom {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile Boolean nativeConflictClause;
+
+	// Dialects that emulate the conflict clause with MERGE insert one row at a time.
+	@Override
+	@Transactional
+	public int insertIgnoringConflicts(Collection<String> names) {
+		if (names == null || names.isEmpty()) {
+			return 0;
+		}
+		List<String> values = new ArrayList<>(names);
+		int rowsPerStatement = supportsNativeConflictClause() ? values.size() : 1;
+		int inserted = 0;
+		for (int from = 0; from < values.size(); from += rowsPerStatement) {
+			inserted += insert(values.subList(from, Math.min(values.size(), from + rowsPerStatement)));
+		}
+		return inserted;
+	}
+
+	private int insert(List<String> values) {
+		StringBuilder hql = new StringBuilder("insert into Tag (name, lowerName, usageCount, createdAt) values ");
+		for (int i = 0; i < values.size(); i++) {
+			hql.append(i == 0 ? "" : ", ").append("(:name").append(i).append(", :lowerName").append(i).append(", 0L, local datetime)");
+		}
+		hql.append(" on conflict do nothing");
+		Query query = entityManager.createQuery(hql.toString());
+		for (int i = 0; i < values.size(); i++) {
+			query.setParameter("name" + i, values.get(i));
+			query.setParameter("lowerName" + i, Tag.fold(values.get(i)));
+		}
+		return query.executeUpdate();
+	}
+
+	private boolean supportsNativeConflictClause() {
+		Boolean supported = nativeConflictClause;
+		if (supported == null) {
+			Dialect dialect = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices()
+				.getDialect();
+			supported = dialect instanceof MySQLDialect || dialect instanceof PostgreSQLDialect;
+			nativeConflictClause = supported;
+		}
+		return supported;
+	}
+}
@@ -1,13 +1,20 @@
 package com.learn.demo.repository;
 
 import com.learn.demo.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 	Optional<User> findByUsername(String username);
 
 	boolean existsByUsername(String username);
 
 	Optional<User> findByEmail(String email);
+
+	@Query("select u.id from User u where u.id in :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,9 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.User;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+	// Resolves through the natural-id cache before querying.
+	Optional<User> loadByUsername(String username);
+}
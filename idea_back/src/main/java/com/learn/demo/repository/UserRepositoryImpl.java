@@ -0,0 +1,22 @@
+package com.learn.demo.repository;
+
+import com.learn.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<User> loadByUsername(String username) {
+		if (username == null) {
+			return Optional.empty();
+		}
+		return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(username);
+	}
+}
@@ -0,0 +1,11 @@
+package com.learn.demo.repository.projection;
+
+import com.learn.demo.enums.CounterKind;
+
+public interface CounterTotalView {
+	CounterKind getKind();
+
+	Long getTargetId();
+
+	Long getTotal();
+}
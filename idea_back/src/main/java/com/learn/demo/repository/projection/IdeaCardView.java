@@ -0,0 +1,43 @@
+package com.learn.demo.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record IdeaCardView(
+	Long id,
+	String title,
+	String snippet,
+	List<String> images,
+	Long likeCount,
+	Long commentCount,
+	Double hotScore,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt,
+	Long authorId,
+	String authorUsername,
+	String authorAvatar,
+	List<String> tags
+) {
+	public IdeaCardView(
+		Long id,
+		String title,
+		String snippet,
+		List<String> images,
+		Long likeCount,
+		Long commentCount,
+		Double hotScore,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt,
+		Long authorId,
+		String authorUsername,
+		String authorAvatar
+	) {
+		this(id, title, snippet, images, likeCount, commentCount, hotScore, createdAt, updatedAt,
+			authorId, authorUsername, authorAvatar, List.of());
+	}
+
+	public IdeaCardView withTags(List<String> tags) {
+		return new IdeaCardView(id, title, snippet, images, likeCount, commentCount, hotScore, createdAt, updatedAt,
+			authorId, authorUsername, authorAvatar, tags == null ? List.of() : tags);
+	}
+}
@@ -0,0 +1,13 @@
+package com.learn.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface IdeaEngagementView {
+	Long getId();
+
+	Long getLikeCount();
+
+	Long getCommentCount();
+
+	LocalDateTime getCreatedAt();
+}
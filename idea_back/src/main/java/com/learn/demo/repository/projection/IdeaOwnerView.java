@@ -0,0 +1,7 @@
+package com.learn.demo.repository.projection;
+
+public interface IdeaOwnerView {
+	Long getId();
+
+	Long getUserId();
+}
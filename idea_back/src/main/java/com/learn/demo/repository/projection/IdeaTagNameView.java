@@ -0,0 +1,7 @@
+package com.learn.demo.repository.projection;
+
+public interface IdeaTagNameView {
+	Long getIdeaId();
+
+	String getName();
+}
@@ -0,0 +1,11 @@
+package com.learn.demo.repository.projection;
+
+public interface IdeaTagUsageView {
+	Long getIdeaId();
+
+	Long getTagId();
+
+	String getName();
+
+	Long getUsageCount();
+}
@@ -0,0 +1,9 @@
+package com.learn.demo.repository.projection;
+
+public interface IdeaTextView {
+	Long getId();
+
+	String getTitle();
+
+	String getDescription();
+}
@@ -0,0 +1,16 @@
+package com.learn.demo.repository.projection;
+
+import com.learn.demo.enums.TargetType;
+import java.time.LocalDateTime;
+
+public interface ReportGroupView {
+	TargetType getTargetType();
+
+	Long getTargetId();
+
+	Long getReportCount();
+
+	LocalDateTime getFirstReportedAt();
+
+	LocalDateTime getLastReportedAt();
+}
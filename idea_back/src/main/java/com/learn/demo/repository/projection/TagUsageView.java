@@ -0,0 +1,13 @@
+package com.learn.demo.repository.projection;
+
+public interface TagUsageView {
+	Long getId();
+
+	String getName();
+
+	Long getUsageCount();
+
+	Long getLinked();
+
+	Long getPending();
+}
@@ -0,0 +1,82 @@
+package com.learn.demo.search;
+
+import com.learn.demo.repository.IdeaRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Needs the index from db/mysql/ideas_fulltext_ngram.sql; without it queries fall back to LIKE.
+@Component
+@ConditionalOnProperty(prefix = "search", name = "strategy", havingValue = "fulltext")
+@RequiredArgsConstructor
+@Slf4j
+public class FulltextSearchStrategy implements IdeaSearchStrategy {
+    static final String INDEX_NAME = "ft_ideas_title_description";
+    private static final String BOOLEAN_OPERATORS = "+-<>()~*\"@";
+
+    private final IdeaRepository ideaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (product == null || !product.toLowerCase(Locale.ROOT).contains("mysql")) {
+            log.warn("FULLTEXT search requires MySQL, found {}; falling back to LIKE", product);
+            return;
+        }
+        Integer existing = jdbcTemplate.queryForObject(
+            "select count(*) from information_schema.statistics "
+                + "where table_schema = database() and table_name = 'ideas' and index_name = ?",
+            Integer.class, INDEX_NAME);
+        if (existing == null || existing == 0) {
+            log.warn("FULLTEXT index {} is missing, apply db/mysql/ideas_fulltext_ngram.sql; falling back to LIKE",
+                INDEX_NAME);
+            return;
+        }
+        available = true;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public Optional<List<Long>> search(String keyword, int limit) {
+        if (!available) {
+            return Optional.empty();
+        }
+        String query = toBooleanQuery(keyword);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ideaRepository.searchFulltextIds(query, limit));
+    }
+
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        StringBuilder cleaned = new StringBuilder(keyword.length());
+        for (char c : keyword.toCharArray()) {
+            cleaned.append(BOOLEAN_OPERATORS.indexOf(c) >= 0 ? ' ' : c);
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : cleaned.toString().trim().split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add("+" + term);
+            }
+        }
+        return String.join(" ", terms);
+    }
+}
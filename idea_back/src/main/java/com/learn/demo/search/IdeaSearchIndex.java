@@ -0,0 +1,212 @@
+package com.learn.demo.search;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaTextView;
+import com.learn.demo.util.AfterCommit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+// Latin query words match indexed words by prefix.
+@Component
+@ConditionalOnProperty(prefix = "search", name = "strategy", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class IdeaSearchIndex implements IdeaSearchStrategy {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final IdeaRepository ideaRepository;
+    private final SearchConfig searchConfig;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long afterId = 0L;
+        int batchSize = Math.max(1, searchConfig.getRebuildBatchSize());
+        List<IdeaTextView> batch;
+        do {
+            batch = ideaRepository.findTextBatch(afterId, IdeaStatus.ACTIVE, PageRequest.of(0, batchSize));
+            for (IdeaTextView view : batch) {
+                put(view.getId(), view.getTitle(), view.getDescription());
+                afterId = view.getId();
+            }
+        } while (batch.size() == batchSize);
+        ready = true;
+        log.info("Idea search index built with {} documents", size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Idea idea) {
+        if (idea == null || idea.getId() == null) {
+            return;
+        }
+        Long id = idea.getId();
+        if (idea.getStatus() != IdeaStatus.ACTIVE) {
+            AfterCommit.run(() -> remove(id));
+            return;
+        }
+        String title = idea.getTitle();
+        String description = idea.getDescription();
+        AfterCommit.run(() -> put(id, title, description));
+    }
+
+    public void remove(Long ideaId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(ideaId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<Long>> search(String keyword, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenizeQuery(keyword)));
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(rank(terms, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Long id, String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : TextTokenizer.tokenize(title)) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : TextTokenizer.tokenize(description)) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, weights);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private List<Long> rank(List<String> terms, int limit) {
+        int total = Math.max(1, documents.size());
+        List<Map<Long, Integer>> matches = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> docs = lookup(term);
+            if (docs.isEmpty()) {
+                return List.of();
+            }
+            matches.add(docs);
+        }
+        matches.sort(Comparator.comparingInt(Map::size));
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : matches.get(0).entrySet()) {
+            scores.put(entry.getKey(), 0.0);
+        }
+        for (Map<Long, Integer> docs : matches) {
+            double idf = Math.log(1.0 + (double) total / docs.size());
+            scores.entrySet().removeIf(entry -> !docs.containsKey(entry.getKey()));
+            scores.replaceAll((id, score) -> score + docs.get(id) * idf);
+        }
+
+        Comparator<Map.Entry<Long, Double>> byRank = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byRank);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private Map<Long, Integer> lookup(String term) {
+        if (TextTokenizer.isCjkToken(term)) {
+            return postings.getOrDefault(term, Map.of());
+        }
+        Map<Long, Integer> merged = new HashMap<>();
+        for (Map<Long, Integer> docs : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+            docs.forEach((id, weight) -> merged.merge(id, weight, Integer::sum));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,13 @@
+package com.learn.demo.search;
+
+import com.learn.demo.entity.Idea;
+import java.util.List;
+import java.util.Optional;
+
+// An empty result tells callers to fall back to LIKE matching.
+public interface IdeaSearchStrategy {
+    Optional<List<Long>> search(String keyword, int limit);
+
+    default void index(Idea idea) {
+    }
+}
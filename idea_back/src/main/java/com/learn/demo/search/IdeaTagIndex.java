@@ -0,0 +1,216 @@
+package com.learn.demo.search;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.repository.projection.IdeaTagView;
+import com.learn.demo.util.AfterCommit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+// Callers fall back to SQL when the index is not ready or the match is too large.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdeaTagIndex {
+    private static final long[] NO_TAGS = new long[0];
+
+    private final IdeaRepository ideaRepository;
+    private final TagRepository tagRepository;
+    private final SearchConfig searchConfig;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Roaring64Bitmap> ideasByTag = new HashMap<>();
+    private final Map<String, Long> tagIdsByName = new HashMap<>();
+    private final Map<Long, long[]> tagsByIdea = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            ideasByTag.clear();
+            tagIdsByName.clear();
+            tagsByIdea.clear();
+            for (Tag tag : tagRepository.findAll()) {
+                registerTag(tag.getId(), tag.getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        int batchSize = Math.max(1, searchConfig.getRebuildBatchSize());
+        long afterIdea = 0L;
+        long afterTag = 0L;
+        Map<Long, List<Long>> pending = new HashMap<>();
+        List<IdeaTagView> batch;
+        do {
+            batch = ideaRepository.findTagPairs(afterIdea, afterTag, IdeaStatus.ACTIVE, PageRequest.of(0, batchSize));
+            for (IdeaTagView pair : batch) {
+                pending.computeIfAbsent(pair.getIdeaId(), id -> new ArrayList<>()).add(pair.getTagId());
+                afterIdea = pair.getIdeaId();
+                afterTag = pair.getTagId();
+            }
+            lock.writeLock().lock();
+            try {
+                pending.forEach((ideaId, tagIds) -> addPairs(ideaId, tagIds));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            pending.clear();
+        } while (batch.size() == batchSize);
+        ready = true;
+        log.info("Idea tag index built for {} tags and {} ideas", tagCount(), ideaCount());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int tagCount() {
+        lock.readLock().lock();
+        try {
+            return ideasByTag.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int ideaCount() {
+        lock.readLock().lock();
+        try {
+            return tagsByIdea.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Applied after commit; ideas that are not active are removed.
+    public void index(Idea idea) {
+        if (idea == null || idea.getId() == null) {
+            return;
+        }
+        Long ideaId = idea.getId();
+        Map<Long, String> tags = new HashMap<>();
+        if (idea.getStatus() == IdeaStatus.ACTIVE && idea.getTags() != null) {
+            for (Tag tag : idea.getTags()) {
+                if (tag.getId() != null) {
+                    tags.put(tag.getId(), tag.getName());
+                }
+            }
+        }
+        AfterCommit.run(() -> put(ideaId, tags));
+    }
+
+    public Optional<List<Long>> match(Collection<String> tagNames, TagMatchMode mode) {
+        if (!ready || tagNames == null || tagNames.isEmpty()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        Roaring64Bitmap result;
+        try {
+            result = mode == TagMatchMode.ANY ? union(tagNames) : intersection(tagNames);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (result.getLongCardinality() > searchConfig.getTagIndexMaxIds()) {
+            return Optional.empty();
+        }
+        List<Long> ids = new ArrayList<>((int) result.getLongCardinality());
+        result.forEach(ids::add);
+        return Optional.of(ids);
+    }
+
+    void put(Long ideaId, Map<Long, String> tags) {
+        lock.writeLock().lock();
+        try {
+            for (long tagId : tagsByIdea.getOrDefault(ideaId, NO_TAGS)) {
+                Roaring64Bitmap ideas = ideasByTag.get(tagId);
+                if (ideas != null) {
+                    ideas.removeLong(ideaId);
+                }
+            }
+            tagsByIdea.remove(ideaId);
+            tags.forEach(this::registerTag);
+            addPairs(ideaId, tags.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addPairs(Long ideaId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        long[] merged = tagsByIdea.getOrDefault(ideaId, NO_TAGS);
+        int offset = merged.length;
+        merged = Arrays.copyOf(merged, offset + tagIds.size());
+        for (Long tagId : tagIds) {
+            ideasByTag.computeIfAbsent(tagId, id -> new Roaring64Bitmap()).addLong(ideaId);
+            merged[offset++] = tagId;
+        }
+        tagsByIdea.put(ideaId, merged);
+    }
+
+    private void registerTag(Long tagId, String name) {
+        if (tagId != null && name != null) {
+            tagIdsByName.put(name.trim().toLowerCase(Locale.ROOT), tagId);
+        }
+    }
+
+    private Roaring64Bitmap intersection(Collection<String> tagNames) {
+        List<Roaring64Bitmap> bitmaps = new ArrayList<>(tagNames.size());
+        for (String name : tagNames) {
+            Roaring64Bitmap ideas = bitmapFor(name);
+            if (ideas == null || ideas.isEmpty()) {
+                return new Roaring64Bitmap();
+            }
+            bitmaps.add(ideas);
+        }
+        bitmaps.sort((left, right) -> Long.compare(left.getLongCardinality(), right.getLongCardinality()));
+        Roaring64Bitmap result = bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result.and(bitmaps.get(i));
+        }
+        return result;
+    }
+
+    private Roaring64Bitmap union(Collection<String> tagNames) {
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        for (String name : tagNames) {
+            Roaring64Bitmap ideas = bitmapFor(name);
+            if (ideas != null) {
+                result.or(ideas);
+            }
+        }
+        return result;
+    }
+
+    private Roaring64Bitmap bitmapFor(String name) {
+        Long tagId = name == null ? null : tagIdsByName.get(name.trim().toLowerCase(Locale.ROOT));
+        return tagId == null ? null : ideasByTag.get(tagId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.learn.demo.search;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "search", name = "strategy", havingValue = "like")
+public class LikeSearchStrategy implements IdeaSearchStrategy {
+    @Override
+    public Optional<List<Long>> search(String keyword, int limit) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,250 @@
+package com.learn.demo.search;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.util.AfterCommit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Every trie node keeps the top tags of its subtree, so a lookup copies one short array.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagSuggestIndex {
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::usageCount).reversed()
+        .thenComparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+        .thenComparingLong(Entry::id);
+
+    private final TagRepository tagRepository;
+    private final SearchConfig searchConfig;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+    private Node root = new Node();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        ready = false;
+        List<Tag> tags = tagRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            entriesById.clear();
+            for (Tag tag : tags) {
+                apply(tag.getId(), tag.getName(), tag.getUsageCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("Tag suggest index built with {} tags", size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Applied after commit; a tag the index does not hold starts from its loaded count.
+    public void adjust(Tag tag, long delta) {
+        if (tag != null) {
+            adjust(tag.getId(), tag.getName(), tag.getUsageCount(), delta);
+        }
+    }
+
+    public void adjust(Long id, String name, Long loadedCount, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        long loaded = loadedCount == null ? 0L : loadedCount;
+        AfterCommit.run(() -> shift(id, name, loaded, delta));
+    }
+
+    public List<Entry> suggest(String prefix, int limit) {
+        if (!ready || limit < 1) {
+            return List.of();
+        }
+        String key = prefix == null ? "" : fold(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; ) {
+                int codePoint = key.codePointAt(i);
+                node = node.children.get(codePoint);
+                i += Character.charCount(codePoint);
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Long id, String name, Long usageCount) {
+        lock.writeLock().lock();
+        try {
+            apply(id, name, usageCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void shift(Long id, String name, long loaded, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entriesById.get(id);
+            long base = current == null ? loaded : current.usageCount();
+            apply(id, name, Math.max(0L, base + delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Long id, String name, Long usageCount) {
+        if (id == null) {
+            return;
+        }
+        Entry previous = entriesById.remove(id);
+        String previousKey = previous == null ? null : fold(previous.name());
+        boolean live = name != null && !name.isBlank() && usageCount != null && usageCount > 0;
+        String key = live ? fold(name) : null;
+        if (previousKey != null && !previousKey.equals(key)) {
+            write(previousKey, id, null);
+        }
+        if (live) {
+            Entry entry = new Entry(id, name, usageCount);
+            entriesById.put(id, entry);
+            write(key, id, entry);
+        }
+    }
+
+    private void write(String key, Long id, Entry entry) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); ) {
+            int codePoint = key.codePointAt(i);
+            Node next = node.children.get(codePoint);
+            if (next == null) {
+                if (entry == null) {
+                    return;
+                }
+                next = new Node();
+                node.children.put(codePoint, next);
+            }
+            node = next;
+            path.add(node);
+            i += Character.charCount(codePoint);
+        }
+        if (entry == null && node.entry != null && !node.entry.id().equals(id)) {
+            return;
+        }
+        node.entry = entry;
+        int topSize = Math.max(1, searchConfig.getTagSuggestSize());
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            rerank(path.get(depth), id, entry, topSize);
+        }
+        prune(key, path);
+    }
+
+    private void rerank(Node node, Long id, Entry entry, int topSize) {
+        Entry[] top = node.top;
+        int index = indexOf(top, id);
+        boolean full = top.length >= topSize;
+        if (index >= 0 && full) {
+            Entry boundary = top[top.length - 1];
+            if (entry == null || boundary.id().equals(id) || RANK.compare(entry, boundary) > 0) {
+                node.top = collect(node, topSize);
+                return;
+            }
+        }
+        List<Entry> merged = new ArrayList<>(top.length + 1);
+        for (Entry existing : top) {
+            if (!existing.id().equals(id)) {
+                merged.add(existing);
+            }
+        }
+        if (entry != null) {
+            merged.add(entry);
+        }
+        merged.sort(RANK);
+        node.top = merged.subList(0, Math.min(topSize, merged.size())).toArray(EMPTY);
+    }
+
+    private Entry[] collect(Node node, int topSize) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANK);
+        return candidates.subList(0, Math.min(topSize, candidates.size())).toArray(EMPTY);
+    }
+
+    private void prune(String key, List<Node> path) {
+        int depth = path.size() - 1;
+        int end = key.length();
+        while (depth > 0) {
+            Node node = path.get(depth);
+            if (node.entry != null || !node.children.isEmpty()) {
+                return;
+            }
+            int codePoint = key.codePointBefore(end);
+            path.get(depth - 1).children.remove(codePoint);
+            end -= Character.charCount(codePoint);
+            depth--;
+        }
+    }
+
+    private static int indexOf(Entry[] top, Long id) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String fold(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Entry(Long id, String name, long usageCount) {}
+
+    private static final class Node {
+        private final Map<Integer, Node> children = new HashMap<>(4);
+        private Entry entry;
+        private Entry[] top = EMPTY;
+    }
+}
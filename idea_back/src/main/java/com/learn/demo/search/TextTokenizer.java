@@ -0,0 +1,81 @@
+package com.learn.demo.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Latin text yields words, CJK runs unigrams and bigrams; queries use bigrams only.
+public final class TextTokenizer {
+    private TextTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        return split(text, false);
+    }
+
+    public static List<String> tokenizeQuery(String query) {
+        return split(query, true);
+    }
+
+    public static boolean isCjkToken(String token) {
+        return !token.isEmpty() && isCjk(token.codePointAt(0));
+    }
+
+    private static List<String> split(String text, boolean query) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        List<Integer> cjkRun = new ArrayList<>();
+        int i = 0;
+        while (i < lower.length()) {
+            int codePoint = lower.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjkRun.add(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjkRun, tokens, query);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjkRun, tokens, query);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjkRun, tokens, query);
+        return tokens;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<Integer> run, List<String> tokens, boolean query) {
+        if (run.isEmpty()) {
+            return;
+        }
+        boolean unigrams = !query || run.size() == 1;
+        for (int i = 0; i < run.size(); i++) {
+            if (unigrams) {
+                tokens.add(new String(Character.toChars(run.get(i))));
+            }
+            if (i + 1 < run.size()) {
+                tokens.add(new StringBuilder(4).appendCodePoint(run.get(i)).appendCodePoint(run.get(i + 1)).toString());
+            }
+        }
+        run.clear();
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,150 @@
+package com.learn.demo.search;
+
+import com.learn.demo.config.TrendingConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.TrendingWindow;
+import com.learn.demo.util.AfterCommit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Space-Saving summaries per time bucket, so memory does not grow with the number of tags.
+@Component
+@RequiredArgsConstructor
+public class TrendingTagTracker {
+    private static final long FINE_BUCKET_MILLIS = 5 * 60_000L;
+    private static final int FINE_SLOTS = 12;
+    private static final long COARSE_BUCKET_MILLIS = 60 * 60_000L;
+    private static final int COARSE_SLOTS = 7 * 24;
+    private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::count).reversed()
+        .thenComparingLong(Entry::id);
+
+    private final TrendingConfig trendingConfig;
+
+    private final Bucket[] fine = newBuckets(FINE_SLOTS);
+    private final Bucket[] coarse = newBuckets(COARSE_SLOTS);
+    private volatile Map<TrendingWindow, List<Entry>> snapshots = Map.of();
+
+    public void record(Tag tag) {
+        if (tag == null || tag.getId() == null) {
+            return;
+        }
+        Long id = tag.getId();
+        String name = tag.getName();
+        AfterCommit.run(() -> record(id, name, System.currentTimeMillis()));
+    }
+
+    public List<Entry> top(TrendingWindow window, int limit) {
+        List<Entry> top = snapshots.getOrDefault(window, List.of());
+        return top.subList(0, Math.max(0, Math.min(limit, top.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-millis:60000}")
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    synchronized void record(Long id, String name, long nowMillis) {
+        int capacity = Math.max(1, trendingConfig.getCapacity());
+        bucketAt(fine, FINE_BUCKET_MILLIS, nowMillis).offer(id, name, capacity);
+        bucketAt(coarse, COARSE_BUCKET_MILLIS, nowMillis).offer(id, name, capacity);
+    }
+
+    void refresh(long nowMillis) {
+        Map<TrendingWindow, List<Entry>> next = new EnumMap<>(TrendingWindow.class);
+        synchronized (this) {
+            next.put(TrendingWindow.HOUR, merge(fine, FINE_BUCKET_MILLIS, FINE_SLOTS, nowMillis));
+            next.put(TrendingWindow.DAY, merge(coarse, COARSE_BUCKET_MILLIS, 24, nowMillis));
+            next.put(TrendingWindow.WEEK, merge(coarse, COARSE_BUCKET_MILLIS, COARSE_SLOTS, nowMillis));
+        }
+        snapshots = next;
+    }
+
+    private List<Entry> merge(Bucket[] ring, long bucketMillis, int buckets, long nowMillis) {
+        long current = nowMillis / bucketMillis;
+        Map<Long, Counter> totals = new HashMap<>();
+        for (Bucket bucket : ring) {
+            if (bucket.epoch > current - buckets && bucket.epoch <= current) {
+                bucket.counters.forEach((id, counter) -> totals.merge(id, counter.copy(), Counter::add));
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(totals.size());
+        totals.forEach((id, counter) -> ranked.add(new Entry(id, counter.name, counter.count)));
+        ranked.sort(RANK);
+        return List.copyOf(ranked.subList(0, Math.min(Math.max(1, trendingConfig.getTopSize()), ranked.size())));
+    }
+
+    private static Bucket bucketAt(Bucket[] ring, long bucketMillis, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket bucket = ring[(int) Math.floorMod(epoch, (long) ring.length)];
+        if (bucket.epoch != epoch) {
+            bucket.epoch = epoch;
+            bucket.counters.clear();
+        }
+        return bucket;
+    }
+
+    private static Bucket[] newBuckets(int slots) {
+        Bucket[] ring = new Bucket[slots];
+        for (int i = 0; i < slots; i++) {
+            ring[i] = new Bucket();
+        }
+        return ring;
+    }
+
+    // Space-Saving may overcount a tag, but never undercounts.
+    public record Entry(Long id, String name, long count) {}
+
+    private static final class Bucket {
+        private long epoch = Long.MIN_VALUE;
+        private final Map<Long, Counter> counters = new HashMap<>();
+
+        void offer(Long id, String name, int capacity) {
+            Counter counter = counters.get(id);
+            if (counter != null) {
+                counter.count++;
+                counter.name = name;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(id, new Counter(name, 1L));
+                return;
+            }
+            Long evicted = null;
+            long min = Long.MAX_VALUE;
+            for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+                if (entry.getValue().count < min) {
+                    min = entry.getValue().count;
+                    evicted = entry.getKey();
+                }
+            }
+            counters.remove(evicted);
+            counters.put(id, new Counter(name, min + 1));
+        }
+    }
+
+    private static final class Counter {
+        private String name;
+        private long count;
+
+        Counter(String name, long count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        Counter copy() {
+            return new Counter(name, count);
+        }
+
+        Counter add(Counter other) {
+            count += other.count;
+            return this;
+        }
+    }
+}
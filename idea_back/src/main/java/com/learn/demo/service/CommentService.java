@@ -0,0 +1,107 @@
+package com.learn.demo.service;
+
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.comment.CommentResponse;
+import com.learn.demo.dto.comment.CreateCommentRequest;
+import com.learn.demo.entity.Comment;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CommentStatus;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.CommentRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.util.CursorCodec;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+    private static final String IDEA_NOT_FOUND = "Idea not found";
+    private static final String COMMENT_NOT_FOUND = "Comment not found";
+    private static final String USER_NOT_FOUND = "User not found";
+    private static final String FORBIDDEN = "Forbidden";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+    private static final String INVALID_PAGE_SIZE = "Invalid page size";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final IdeaRepository ideaRepository;
+    private final UserRepository userRepository;
+    private final CounterService counterService;
+
+    @Transactional(readOnly = true)
+    public PageResponse<CommentResponse> listComments(Long ideaId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(400, INVALID_PAGE_SIZE);
+        }
+        requireVisibleIdea(ideaId);
+        Limit limit = Limit.of(size + 1);
+        List<Comment> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = commentRepository.findNewest(ideaId, CommentStatus.ACTIVE, limit);
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                fetched = commentRepository.findOlderThan(
+                    ideaId, CommentStatus.ACTIVE, LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), limit);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BusinessException(400, INVALID_CURSOR);
+            }
+        }
+        boolean hasNext = fetched.size() > size;
+        List<Comment> comments = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(String.valueOf(last.getCreatedAt()), String.valueOf(last.getId()));
+        }
+        return PageResponse.ofCursor(
+            comments.stream().map(CommentResponse::fromComment).toList(), size, nextCursor);
+    }
+
+    @Transactional
+    public CommentResponse createComment(Long ideaId, CreateCommentRequest request, Long currentUserId) {
+        requireVisibleIdea(ideaId);
+        User user = userRepository.findById(currentUserId)
+            .orElseThrow(() -> new BusinessException(404, USER_NOT_FOUND));
+
+        Comment comment = new Comment();
+        comment.setIdea(ideaRepository.getReferenceById(ideaId));
+        comment.setUser(user);
+        comment.setContent(request.getContent());
+        comment.setStatus(CommentStatus.ACTIVE);
+
+        Comment saved = commentRepository.save(comment);
+        counterService.add(CounterKind.IDEA_COMMENTS, ideaId, 1L);
+        return CommentResponse.fromComment(saved);
+    }
+
+    @Transactional
+    public void deleteComment(Long ideaId, Long commentId, Long currentUserId, boolean isAdmin) {
+        Comment comment = commentRepository.findById(commentId)
+            .filter(found -> found.getStatus() == CommentStatus.ACTIVE)
+            .filter(found -> Objects.equals(found.getIdea().getId(), ideaId))
+            .orElseThrow(() -> new BusinessException(404, COMMENT_NOT_FOUND));
+        if (!isAdmin && !Objects.equals(comment.getUser().getId(), currentUserId)) {
+            throw new BusinessException(403, FORBIDDEN);
+        }
+        if (commentRepository.updateStatus(commentId, CommentStatus.ACTIVE, CommentStatus.DELETED) > 0) {
+            counterService.add(CounterKind.IDEA_COMMENTS, ideaId, -1L);
+        }
+    }
+
+    private void requireVisibleIdea(Long ideaId) {
+        if (!ideaRepository.existsByIdAndStatus(ideaId, IdeaStatus.ACTIVE)) {
+            throw new BusinessException(404, IDEA_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.CounterConfig;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.repository.CounterDeltaRepository;
+import com.learn.demo.repository.projection.CounterTotalView;
+import com.learn.demo.util.AfterCommit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterService {
+    private final CounterDeltaRepository counterDeltaRepository;
+    private final CounterWriter counterWriter;
+    private final HotScoreService hotScoreService;
+    private final IdeaListCache ideaListCache;
+    private final CounterConfig counterConfig;
+
+    private volatile Map<CounterKind, ConcurrentHashMap<Long, Long>> pending = newPending();
+
+    public void add(CounterKind kind, Long targetId, long delta) {
+        if (targetId != null) {
+            add(kind, List.of(targetId), delta);
+        }
+    }
+
+    public void add(CounterKind kind, Collection<Long> targetIds, long delta) {
+        List<Long> ids = targetIds == null ? List.of() : targetIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() || delta == 0) {
+            return;
+        }
+        if (!counterConfig.isWriteBehind()) {
+            counterWriter.apply(kind, ids, delta);
+            onApplied(kind, ids);
+            return;
+        }
+        counterDeltaRepository.append(kind, ids, delta);
+        AfterCommit.run(() -> ids.forEach(id -> shiftPending(kind, id, delta)));
+    }
+
+    public long pending(CounterKind kind, Long targetId) {
+        if (targetId == null) {
+            return 0L;
+        }
+        return pending.get(kind).getOrDefault(targetId, 0L);
+    }
+
+    public long current(CounterKind kind, Long targetId, Long stored) {
+        return Math.max(0L, (stored == null ? 0L : stored) + pending(kind, targetId));
+    }
+
+    // Keeps claiming chunks until the journal is drained or the budget is spent.
+    @Scheduled(fixedDelayString = "${counters.flush-millis:1000}")
+    public int flush() {
+        int batchSize = Math.max(1, counterConfig.getFlushBatchSize());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(counterConfig.getFlushBudgetMillis());
+        int flushed = 0;
+        CounterWriter.Drained drained;
+        do {
+            drained = counterWriter.drain(batchSize);
+            Map<CounterKind, Map<Long, Long>> totals = drained.totals();
+            AfterCommit.run(() -> settle(totals));
+            flushed += drained.rows();
+        } while (drained.rows() == batchSize && System.nanoTime() < deadline);
+        if (flushed > 0) {
+            log.debug("Flushed {} counter deltas", flushed);
+        }
+        return flushed;
+    }
+
+    // Rows written before a restart are only known to the journal.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Map<CounterKind, ConcurrentHashMap<Long, Long>> reloaded = newPending();
+        for (CounterTotalView total : counterDeltaRepository.sumByTarget()) {
+            if (total.getTotal() != null && total.getTotal() != 0) {
+                reloaded.get(total.getKind()).put(total.getTargetId(), total.getTotal());
+            }
+        }
+        pending = reloaded;
+    }
+
+    private void settle(Map<CounterKind, Map<Long, Long>> totals) {
+        totals.forEach((kind, byTarget) -> {
+            byTarget.forEach((targetId, delta) -> {
+                if (delta != 0) {
+                    shiftPending(kind, targetId, -delta);
+                }
+            });
+            onApplied(kind, byTarget.keySet());
+        });
+    }
+
+    private void onApplied(CounterKind kind, Collection<Long> ids) {
+        if (kind == CounterKind.TAG_USAGE) {
+            return;
+        }
+        ids.forEach(hotScoreService::markDirty);
+        if (kind == CounterKind.IDEA_LIKES) {
+            ideaListCache.invalidateLikeRanking();
+        }
+    }
+
+    private void shiftPending(CounterKind kind, Long targetId, long delta) {
+        pending.get(kind).merge(targetId, delta, (total, change) -> total + change == 0 ? null : total + change);
+    }
+
+    private static Map<CounterKind, ConcurrentHashMap<Long, Long>> newPending() {
+        Map<CounterKind, ConcurrentHashMap<Long, Long>> maps = new EnumMap<>(CounterKind.class);
+        for (CounterKind kind : CounterKind.values()) {
+            maps.put(kind, new ConcurrentHashMap<>());
+        }
+        return maps;
+    }
+}
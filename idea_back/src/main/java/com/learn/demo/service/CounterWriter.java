@@ -0,0 +1,61 @@
+package com.learn.demo.service;
+
+import com.learn.demo.entity.CounterDelta;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.repository.CounterDeltaRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class CounterWriter {
+    private final CounterDeltaRepository counterDeltaRepository;
+    private final IdeaRepository ideaRepository;
+    private final TagRepository tagRepository;
+
+    // One claimed chunk per transaction, so each commit releases its row locks.
+    @Transactional
+    public Drained drain(int batchSize) {
+        List<CounterDelta> rows = counterDeltaRepository.claimOldest(Limit.of(batchSize));
+        if (rows.isEmpty()) {
+            return new Drained(0, Map.of());
+        }
+        Map<CounterKind, Map<Long, Long>> totals = new EnumMap<>(CounterKind.class);
+        List<Long> rowIds = new ArrayList<>(rows.size());
+        for (CounterDelta row : rows) {
+            totals.computeIfAbsent(row.getKind(), kind -> new HashMap<>()).merge(row.getTargetId(), row.getDelta(), Long::sum);
+            rowIds.add(row.getId());
+        }
+        totals.forEach((kind, byTarget) -> {
+            Map<Long, List<Long>> targetsByDelta = new HashMap<>();
+            byTarget.forEach((targetId, delta) -> {
+                if (delta != 0) {
+                    targetsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(targetId);
+                }
+            });
+            targetsByDelta.forEach((delta, ids) -> apply(kind, ids, delta));
+        });
+        counterDeltaRepository.deleteByIdIn(rowIds);
+        return new Drained(rows.size(), totals);
+    }
+
+    public void apply(CounterKind kind, Collection<Long> ids, long delta) {
+        switch (kind) {
+            case IDEA_LIKES -> ideaRepository.adjustLikeCounts(ids, delta);
+            case IDEA_COMMENTS -> ideaRepository.adjustCommentCounts(ids, delta);
+            case TAG_USAGE -> tagRepository.adjustUsage(ids, delta);
+        }
+    }
+
+    public record Drained(int rows, Map<CounterKind, Map<Long, Long>> totals) {}
+}
@@ -0,0 +1,106 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.HotRankingConfig;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaEngagementView;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotScoreService {
+    private final IdeaRepository ideaRepository;
+    private final HotRankingConfig hotRankingConfig;
+    private final IdeaListCache ideaListCache;
+
+    private final Set<Long> dirtyIdeas = ConcurrentHashMap.newKeySet();
+
+    public double score(long likes, long comments, LocalDateTime createdAt, LocalDateTime now) {
+        double engagement = 1.0 + Math.max(0L, likes) + hotRankingConfig.getCommentWeight() * Math.max(0L, comments);
+        double ageHours = createdAt == null ? 0.0 : Math.max(0L, Duration.between(createdAt, now).toMinutes()) / 60.0;
+        return engagement / Math.pow(ageHours + 2.0, hotRankingConfig.getGravity());
+    }
+
+    public double initialScore() {
+        LocalDateTime now = LocalDateTime.now();
+        return score(0L, 0L, now, now);
+    }
+
+    // Bursts on one idea collapse into a single recompute on the next flush.
+    public void markDirty(Long ideaId) {
+        if (ideaId != null) {
+            dirtyIdeas.add(ideaId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hot.dirty-flush-millis:10000}")
+    public void flushDirty() {
+        if (dirtyIdeas.isEmpty()) {
+            return;
+        }
+        List<Long> ideaIds = new ArrayList<>(dirtyIdeas);
+        dirtyIdeas.removeAll(ideaIds);
+        int batchSize = Math.max(1, hotRankingConfig.getBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ideaIds.size(); from += batchSize) {
+            List<Long> chunk = ideaIds.subList(from, Math.min(ideaIds.size(), from + batchSize));
+            ideaRepository.updateHotScores(scoresOf(ideaRepository.findEngagementByIdIn(chunk), now));
+        }
+        ideaListCache.invalidateHotRanking();
+    }
+
+    @Scheduled(fixedDelayString = "${hot.refresh-millis:300000}", initialDelayString = "${hot.refresh-millis:300000}")
+    public void recomputeAll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(Math.max(1, hotRankingConfig.getWindowDays()));
+        int batchSize = Math.max(1, hotRankingConfig.getBatchSize());
+        int updated = 0;
+        Optional<Long> firstId = ideaRepository.findFirstIdCreatedSince(cutoff);
+        if (firstId.isPresent()) {
+            // Ids grow with creation time, so the walk starts at the window instead of the oldest row.
+            long afterId = firstId.get() - 1;
+            List<IdeaEngagementView> batch;
+            do {
+                batch = ideaRepository.findEngagementBatch(afterId, cutoff, IdeaStatus.ACTIVE, PageRequest.of(0, batchSize));
+                if (!batch.isEmpty()) {
+                    ideaRepository.updateHotScores(scoresOf(batch, now));
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+                updated += batch.size();
+            } while (batch.size() == batchSize);
+        }
+        int expired = ideaRepository.clearHotScoresBefore(cutoff);
+        ideaListCache.invalidateHotRanking();
+        log.debug("Recomputed {} hot scores, cleared {} expired", updated, expired);
+    }
+
+    private Map<Long, Double> scoresOf(List<IdeaEngagementView> views, LocalDateTime now) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (IdeaEngagementView view : views) {
+            scores.put(view.getId(), scoreOf(view, now));
+        }
+        return scores;
+    }
+
+    private double scoreOf(IdeaEngagementView view, LocalDateTime now) {
+        return score(
+            view.getLikeCount() == null ? 0L : view.getLikeCount(),
+            view.getCommentCount() == null ? 0L : view.getCommentCount(),
+            view.getCreatedAt(),
+            now);
+    }
+}
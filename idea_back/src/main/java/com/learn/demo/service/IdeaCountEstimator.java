@@ -0,0 +1,82 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.util.LruCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Entries nobody read since the last refresh are dropped.
+@Component
+@Slf4j
+public class IdeaCountEstimator {
+    private final IdeaRepository ideaRepository;
+    private final ListingConfig listingConfig;
+    private final LruCache<Object, Entry> entries;
+
+    public IdeaCountEstimator(IdeaRepository ideaRepository, ListingConfig listingConfig) {
+        this.ideaRepository = ideaRepository;
+        this.listingConfig = listingConfig;
+        this.entries = new LruCache<>(() -> Math.max(1, listingConfig.getCountCacheSize()));
+    }
+
+    // The spec is rebuilt on every refresh, so index-derived id lists pick up new ideas.
+    public long estimate(Object filterKey, Supplier<Specification<Idea>> spec) {
+        Entry entry = entries.get(filterKey);
+        if (entry != null) {
+            entry.accessed = true;
+            return entry.count;
+        }
+        long count = ideaRepository.count(spec.get());
+        entries.put(filterKey, new Entry(spec, count, System.currentTimeMillis()));
+        return count;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${listing.count-refresh-millis:60000}")
+    public void refreshStale() {
+        long cutoff = System.currentTimeMillis() - listingConfig.getCountRefreshMillis();
+        entries.removeIf((key, entry) -> entry.refreshedAt <= cutoff && !entry.accessed);
+        List<Map.Entry<Object, Entry>> stale = new ArrayList<>();
+        for (Map.Entry<Object, Entry> e : entries.entries()) {
+            if (e.getValue().refreshedAt <= cutoff) {
+                stale.add(e);
+            }
+        }
+        for (Map.Entry<Object, Entry> e : stale) {
+            try {
+                long count = ideaRepository.count(e.getValue().spec.get());
+                entries.replace(e.getKey(), e.getValue(), new Entry(e.getValue().spec, count, System.currentTimeMillis()));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to refresh idea count estimate for {}", e.getKey(), ex);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Supplier<Specification<Idea>> spec;
+        private final long count;
+        private final long refreshedAt;
+        private volatile boolean accessed;
+
+        private Entry(Supplier<Specification<Idea>> spec, long count, long refreshedAt) {
+            this.spec = spec;
+            this.count = count;
+            this.refreshedAt = refreshedAt;
+        }
+    }
+}
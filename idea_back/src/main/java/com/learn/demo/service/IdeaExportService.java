@@ -0,0 +1,90 @@
+package com.learn.demo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.idea.IdeaExportRecord;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaTagNameView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.specification.IdeaSpecifications;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class IdeaExportService {
+    private static final byte NEWLINE = '\n';
+
+    private final IdeaRepository ideaRepository;
+    private final IdeaSearchStrategy ideaSearchStrategy;
+    private final CounterService counterService;
+    private final ListingConfig listingConfig;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long export(IdeaQueryRequest request, OutputStream out) throws IOException {
+        int chunkSize = Math.max(1, listingConfig.getExportFetchSize());
+        long written = 0;
+        try (Stream<Idea> ideas = ideaRepository.streamAll(specification(request), chunkSize)) {
+            Iterator<Idea> iterator = ideas.iterator();
+            List<Idea> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    written += writeChunk(chunk, out);
+                }
+            }
+            written += writeChunk(chunk, out);
+        }
+        return written;
+    }
+
+    // Keyword filters match like the list endpoints: every index match, or SQL LIKE without an index.
+    private Specification<Idea> specification(IdeaQueryRequest request) {
+        String keyword = request.getKeyword();
+        Specification<Idea> keywordSpec = keyword == null || keyword.isBlank()
+            ? null
+            : ideaSearchStrategy.search(keyword, Integer.MAX_VALUE)
+                .map(IdeaSpecifications::withIdIn)
+                .orElseGet(() -> IdeaSpecifications.withKeyword(keyword));
+        return IdeaSpecifications.combine(request, keywordSpec);
+    }
+
+    private int writeChunk(List<Idea> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<String>> tagsByIdea = new HashMap<>();
+        List<Long> ids = chunk.stream().map(Idea::getId).toList();
+        for (IdeaTagNameView view : ideaRepository.findTagNamesByIdeaIdIn(ids)) {
+            tagsByIdea.computeIfAbsent(view.getIdeaId(), key -> new ArrayList<>()).add(view.getName());
+        }
+        for (Idea idea : chunk) {
+            IdeaExportRecord record = IdeaExportRecord.fromIdea(idea, tagsByIdea.get(idea.getId()));
+            record.setLikeCount(counterService.current(CounterKind.IDEA_LIKES, idea.getId(), idea.getLikeCount()));
+            record.setCommentCount(counterService.current(CounterKind.IDEA_COMMENTS, idea.getId(), idea.getCommentCount()));
+            out.write(objectMapper.writeValueAsBytes(record));
+            out.write(NEWLINE);
+        }
+        out.flush();
+        int size = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+}
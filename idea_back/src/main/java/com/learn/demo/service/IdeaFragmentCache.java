@@ -0,0 +1,66 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.idea.IdeaListResponse;
+import com.learn.demo.dto.idea.IdeaListResponseSerializer;
+import com.learn.demo.repository.projection.IdeaCardView;
+import com.learn.demo.util.LruCache;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.json.JsonMapper;
+
+// Card JSON without counts or liked flag, reused while updatedAt and the author are unchanged.
+@Component
+public class IdeaFragmentCache {
+    private final JsonMapper jsonMapper;
+    private final ListingConfig listingConfig;
+
+    private final LruCache<Long, Entry> entries;
+
+    public IdeaFragmentCache(JsonMapper jsonMapper, ListingConfig listingConfig) {
+        this.jsonMapper = jsonMapper;
+        this.listingConfig = listingConfig;
+        this.entries = new LruCache<>(listingConfig::getFragmentCacheSize);
+    }
+
+    // Returns null when the cache is disabled.
+    public SerializableString get(IdeaCardView card) {
+        if (listingConfig.getFragmentCacheSize() <= 0 || card == null || card.id() == null) {
+            return null;
+        }
+        Entry cached = entries.get(card.id());
+        if (cached != null && cached.matches(card)) {
+            return cached.json();
+        }
+        Entry rendered = new Entry(card.updatedAt(), card.authorUsername(), card.authorAvatar(), render(card));
+        entries.put(card.id(), rendered);
+        return rendered.json();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private SerializableString render(IdeaCardView card) {
+        String json = jsonMapper.writeValueAsString(
+            new IdeaListResponseSerializer.StaticFields(IdeaListResponse.fromCard(card, false)));
+        SerializedString fragment = new SerializedString(json.substring(0, json.lastIndexOf('}')));
+        fragment.asUnquotedUTF8();
+        return fragment;
+    }
+
+    private record Entry(LocalDateTime updatedAt, String authorName, String authorAvatar, SerializableString json) {
+        boolean matches(IdeaCardView card) {
+            return Objects.equals(updatedAt, card.updatedAt())
+                && Objects.equals(authorName, card.authorUsername())
+                && Objects.equals(authorAvatar, card.authorAvatar());
+        }
+    }
+}
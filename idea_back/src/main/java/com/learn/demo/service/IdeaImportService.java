@@ -0,0 +1,133 @@
+package com.learn.demo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.ImportConfig;
+import com.learn.demo.dto.idea.IdeaImportError;
+import com.learn.demo.dto.idea.IdeaImportRecord;
+import com.learn.demo.dto.idea.IdeaImportResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdeaImportService {
+    static final String MALFORMED_RECORD = "Malformed record";
+    static final String WRITE_FAILED = "Write failed: ";
+
+    private final IdeaImportWriter ideaImportWriter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportConfig importConfig;
+
+    public IdeaImportResult importIdeas(InputStream in) throws IOException {
+        int batchSize = Math.max(1, importConfig.getBatchSize());
+        Tally tally = new Tally(Math.max(0, importConfig.getMaxErrors()));
+        List<IdeaImportWriter.Line> batch = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long number = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            number++;
+            if (text.isBlank()) {
+                continue;
+            }
+            tally.received++;
+            IdeaImportRecord record = parse(number, text, tally);
+            if (record != null) {
+                batch.add(new IdeaImportWriter.Line(number, record));
+                if (batch.size() == batchSize) {
+                    write(batch, tally);
+                }
+            }
+        }
+        write(batch, tally);
+        return IdeaImportResult.builder()
+            .received(tally.received)
+            .imported(tally.imported)
+            .failed(tally.failed)
+            .errors(tally.errors)
+            .build();
+    }
+
+    private IdeaImportRecord parse(long number, String text, Tally tally) {
+        IdeaImportRecord record;
+        try {
+            record = objectMapper.readValue(text, IdeaImportRecord.class);
+        } catch (JsonProcessingException e) {
+            tally.fail(number, MALFORMED_RECORD);
+            return null;
+        }
+        if (record == null) {
+            tally.fail(number, MALFORMED_RECORD);
+            return null;
+        }
+        Set<ConstraintViolation<IdeaImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<IdeaImportRecord> first = violations.stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .orElseThrow();
+            tally.fail(number, first.getPropertyPath() + ": " + first.getMessage());
+            return null;
+        }
+        return record;
+    }
+
+    private void write(List<IdeaImportWriter.Line> batch, Tally tally) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        writeOrSplit(batch, tally);
+        batch.clear();
+    }
+
+    // A rejected batch is bisected and each half retried in its own transaction, so only the bad lines fail.
+    private void writeOrSplit(List<IdeaImportWriter.Line> lines, Tally tally) {
+        try {
+            List<IdeaImportError> rejected = ideaImportWriter.write(lines);
+            rejected.forEach(error -> tally.fail(error.getLine(), error.getMessage()));
+            tally.imported += lines.size() - rejected.size();
+        } catch (RuntimeException e) {
+            if (lines.size() == 1) {
+                log.warn("Idea import line {} failed", lines.get(0).number(), e);
+                tally.fail(lines.get(0).number(), WRITE_FAILED + e.getMessage());
+                return;
+            }
+            int middle = lines.size() / 2;
+            writeOrSplit(lines.subList(0, middle), tally);
+            writeOrSplit(lines.subList(middle, lines.size()), tally);
+        }
+    }
+
+    private static final class Tally {
+        private final int maxErrors;
+        private final List<IdeaImportError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        private Tally(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new IdeaImportError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.learn.demo.service;
+
+import com.learn.demo.dto.idea.IdeaImportError;
+import com.learn.demo.dto.idea.IdeaImportRecord;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class IdeaImportWriter {
+    static final String USER_NOT_FOUND = "User not found";
+
+    private final IdeaRepository ideaRepository;
+    private final UserRepository userRepository;
+    private final TagDictionary tagDictionary;
+    private final HotScoreService hotScoreService;
+    private final CounterService counterService;
+    private final IdeaSearchStrategy ideaSearchStrategy;
+    private final IdeaTagIndex ideaTagIndex;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final IdeaListCache ideaListCache;
+
+    @Transactional
+    public List<IdeaImportError> write(List<Line> lines) {
+        Set<Long> userIds = lines.stream().map(line -> line.record().getUserId()).collect(Collectors.toSet());
+        Set<Long> existingUsers = new HashSet<>(userRepository.findExistingIds(userIds));
+        List<IdeaImportError> rejected = new ArrayList<>();
+        List<Line> accepted = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            if (existingUsers.contains(line.record().getUserId())) {
+                accepted.add(line);
+            } else {
+                rejected.add(new IdeaImportError(line.number(), USER_NOT_FOUND));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return rejected;
+        }
+
+        List<String> names = new ArrayList<>();
+        accepted.forEach(line -> {
+            if (line.record().getTags() != null) {
+                names.addAll(line.record().getTags());
+            }
+        });
+        Map<String, Tag> tags = tagDictionary.resolve(names);
+
+        LocalDateTime now = LocalDateTime.now();
+        double initialScore = hotScoreService.initialScore();
+        List<Idea> ideas = new ArrayList<>(accepted.size());
+        for (Line line : accepted) {
+            IdeaImportRecord record = line.record();
+            Idea idea = new Idea();
+            idea.setUser(userRepository.getReferenceById(record.getUserId()));
+            idea.setTitle(record.getTitle());
+            idea.setDescription(record.getDescription());
+            idea.setImages(record.getImages());
+            idea.setStatus(IdeaStatus.ACTIVE);
+            idea.setHotScore(initialScore);
+            idea.setTags(tagsOf(record.getTags(), tags));
+            idea.setCreatedAt(now);
+            idea.setUpdatedAt(now);
+            ideas.add(idea);
+        }
+        ideaRepository.insertBatch(ideas);
+
+        Map<Tag, Long> usage = new HashMap<>();
+        Map<Long, Set<String>> tagNamesByUser = new HashMap<>();
+        for (Idea idea : ideas) {
+            Set<String> owned = tagNamesByUser.computeIfAbsent(idea.getUser().getId(), key -> new HashSet<>());
+            for (Tag tag : idea.getTags()) {
+                usage.merge(tag, 1L, Long::sum);
+                owned.add(tag.getName());
+            }
+            ideaSearchStrategy.index(idea);
+            ideaTagIndex.index(idea);
+        }
+        Map<Long, List<Long>> tagIdsByDelta = new HashMap<>();
+        usage.forEach((tag, delta) -> {
+            tagIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(tag.getId());
+            tagSuggestIndex.adjust(tag, delta);
+        });
+        tagIdsByDelta.forEach((delta, ids) -> counterService.add(CounterKind.TAG_USAGE, ids, delta));
+        tagNamesByUser.forEach(ideaListCache::invalidate);
+        return rejected;
+    }
+
+    private static Set<Tag> tagsOf(List<String> names, Map<String, Tag> resolved) {
+        Set<Tag> tags = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    tags.add(resolved.get(TagDictionary.fold(name)));
+                }
+            }
+        }
+        return tags;
+    }
+
+    public record Line(long number, IdeaImportRecord record) {}
+}
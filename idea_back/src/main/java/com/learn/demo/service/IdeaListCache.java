@@ -0,0 +1,167 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.enums.CountMode;
+import com.learn.demo.enums.TagMatchMode;
+import com.learn.demo.util.AfterCommit;
+import com.learn.demo.util.LruCache;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+// Entries are dropped once a scope they depend on has been bumped by a write.
+@Component
+public class IdeaListCache {
+    private static final String ALL_SCOPE = "all";
+    private static final String HOT_SCOPE = "hot";
+    private static final String LIKES_SCOPE = "likes";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ListingConfig listingConfig;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final LruCache<Key, Entry> entries;
+
+    public IdeaListCache(ListingConfig listingConfig) {
+        this.listingConfig = listingConfig;
+        this.entries = new LruCache<>(listingConfig::getResultCacheMaxIds, Entry::weight);
+    }
+
+    public PageResponse<Long> get(Key key, Supplier<PageResponse<Long>> loader) {
+        if (listingConfig.getResultCacheMaxIds() <= 0) {
+            return loader.get();
+        }
+        long[] stamp = stamp(key.scopes());
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (Arrays.equals(entry.stamp, stamp)) {
+                return entry.page;
+            }
+            entries.remove(key, entry);
+        }
+        PageResponse<Long> page = loader.get();
+        page.setContent(List.copyOf(page.getContent()));
+        entries.put(key, new Entry(stamp, page));
+        return page;
+    }
+
+    // The bump waits for the commit, so no reader caches rows older than it.
+    public void invalidate(Long userId, Collection<String> tagNames) {
+        Set<String> scopes = new LinkedHashSet<>();
+        scopes.add(ALL_SCOPE);
+        if (userId != null) {
+            scopes.add(userScope(userId));
+        }
+        if (tagNames != null) {
+            for (String name : tagNames) {
+                if (name != null && !name.isBlank()) {
+                    scopes.add(tagScope(name));
+                }
+            }
+        }
+        AfterCommit.run(() -> scopes.forEach(this::bump));
+    }
+
+    public void invalidateHotRanking() {
+        AfterCommit.run(() -> bump(HOT_SCOPE));
+    }
+
+    public void invalidateLikeRanking() {
+        AfterCommit.run(() -> bump(LIKES_SCOPE));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void bump(String scope) {
+        generations.incrementAndGet(stripe(scope));
+    }
+
+    private long[] stamp(List<String> scopes) {
+        long[] stamp = new long[scopes.size()];
+        for (int i = 0; i < stamp.length; i++) {
+            stamp[i] = generations.get(stripe(scopes.get(i)));
+        }
+        return stamp;
+    }
+
+    private static int stripe(String scope) {
+        int hash = scope.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String userScope(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static String tagScope(String tagName) {
+        return "tag:" + tagName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Key(
+        String keyword,
+        List<String> tags,
+        TagMatchMode tagMode,
+        Long userId,
+        String sort,
+        int page,
+        int size,
+        CountMode countMode
+    ) {
+        public static Key of(IdeaQueryRequest request, CountMode countMode) {
+            return new Key(
+                normalize(request.getKeyword()),
+                request.resolveTagNames(),
+                TagMatchMode.from(request.getTagMode()),
+                request.getUserId(),
+                normalize(request.getSort()),
+                request.getPage(),
+                request.getSize(),
+                countMode);
+        }
+
+        List<String> scopes() {
+            List<String> scopes = new ArrayList<>(tags.size() + 3);
+            if (userId != null) {
+                scopes.add(userScope(userId));
+            }
+            for (String tag : tags) {
+                scopes.add(tagScope(tag));
+            }
+            if (scopes.isEmpty()) {
+                scopes.add(ALL_SCOPE);
+            }
+            if (sort != null && sort.startsWith(HOT_SCOPE)) {
+                scopes.add(HOT_SCOPE);
+            }
+            if (sort != null && sort.startsWith("likecount")) {
+                scopes.add(LIKES_SCOPE);
+            }
+            return scopes;
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Entry(long[] stamp, PageResponse<Long> page) {
+        long weight() {
+            return page.getContent().size() + 1L;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.learn.demo.service;
 
+import com.learn.demo.config.SearchConfig;
 import com.learn.demo.dto.PageResponse;
 import com.learn.demo.dto.idea.CreateIdeaRequest;
 import com.learn.demo.dto.idea.IdeaDetailResponse;
@@ -7,24 +8,35 @@ import com.learn.demo.dto.idea.IdeaListResponse;
 import com.learn.demo.dto.idea.IdeaQueryRequest;
 import com.learn.demo.dto.idea.UpdateIdeaRequest;
 import com.learn.demo.entity.Idea;
-import com.learn.demo.entity.Like;
 import com.learn.demo.entity.Tag;
 import com.learn.demo.entity.User;
+import com.learn.demo.enums.CountMode;
+import com.learn.demo.enums.CounterKind;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
 import com.learn.demo.exception.BusinessException;
 import com.learn.demo.repository.IdeaRepository;
-import com.learn.demo.repository.LikeRepository;
-import com.learn.demo.repository.TagRepository;
 import com.learn.demo.repository.UserRepository;
+import com.learn.demo.repository.projection.IdeaCardView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import com.learn.demo.search.TrendingTagTracker;
 import com.learn.demo.specification.IdeaSpecifications;
+import com.learn.demo.util.CursorCodec;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -32,10 +44,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.SerializableString;
 
 @Service
 @RequiredArgsConstructor
@@ -43,42 +57,51 @@ public class IdeaService {
     private static final String IDEA_NOT_FOUND = "Idea not found";
     private static final String USER_NOT_FOUND = "User not found";
     private static final String FORBIDDEN = "Forbidden";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+    private static final String CURSOR_SORT_MISMATCH = "Cursor does not match sort";
+    private static final String INVALID_PAGE_SIZE = "Invalid page size";
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("createdAt", "likeCount");
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final String HOT_SORT = "hot";
+    private static final String HOT_SCORE_FIELD = "hotScore";
 
     private final IdeaRepository ideaRepository;
     private final UserRepository userRepository;
-    private final TagRepository tagRepository;
-    private final LikeRepository likeRepository;
+    private final LikedIdeasCache likedIdeasCache;
+    private final IdeaSearchStrategy ideaSearchStrategy;
+    private final SearchConfig searchConfig;
+    private final IdeaCountEstimator ideaCountEstimator;
+    private final IdeaListCache ideaListCache;
+    private final HotScoreService hotScoreService;
+    private final IdeaTagIndex ideaTagIndex;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final TagDictionary tagDictionary;
+    private final CounterService counterService;
+    private final TrendingTagTracker trendingTagTracker;
+    private final IdeaFragmentCache ideaFragmentCache;
 
+    @Transactional(readOnly = true)
     public PageResponse<IdeaListResponse> listIdeas(IdeaQueryRequest request, Long currentUserId) {
-        Specification<Idea> spec = IdeaSpecifications.combine(request);
-        Pageable pageable = buildPageable(request);
-        Page<Idea> page = ideaRepository.findAll(spec, pageable);
-
-        List<Idea> ideas = page.getContent();
-        List<Long> ideaIds = ideas.stream()
-            .map(Idea::getId)
-            .filter(Objects::nonNull)
-            .toList();
-
-        Set<Long> likedIdeaIds = resolveLikedIdeaIds(currentUserId, ideaIds);
-        List<IdeaListResponse> content = ideas.stream()
-            .map(idea -> IdeaListResponse.fromIdea(idea, likedIdeaIds.contains(idea.getId())))
-            .toList();
-
-        Page<IdeaListResponse> responsePage = new PageImpl<>(content, pageable, page.getTotalElements());
-        return PageResponse.of(responsePage);
+        if (request.getCursor() != null) {
+            return listIdeasByCursor(request, currentUserId);
+        }
+        CountMode countMode = CountMode.from(request.getCount());
+        PageResponse<Long> idPage = ideaListCache.get(
+            IdeaListCache.Key.of(request, countMode),
+            () -> findIdPage(request, countMode));
+        return idPage.withContent(toListResponses(loadCards(idPage.getContent()), currentUserId));
     }
 
+    @Transactional(readOnly = true)
     public IdeaDetailResponse getIdeaDetail(Long id, Long currentUserId) {
         Idea idea = ideaRepository.findById(id)
             .orElseThrow(() -> new BusinessException(404, IDEA_NOT_FOUND));
-        if (idea.getStatus() == IdeaStatus.DELETED) {
+        if (idea.getStatus() != IdeaStatus.ACTIVE) {
             throw new BusinessException(404, IDEA_NOT_FOUND);
         }
 
-        boolean liked = currentUserId != null && likeRepository.existsByUserIdAndIdeaId(currentUserId, id);
-        return IdeaDetailResponse.fromIdea(idea, liked);
+        boolean liked = currentUserId != null && likedIdeasCache.isLiked(currentUserId, id);
+        return withPendingCounts(IdeaDetailResponse.fromIdea(idea, liked));
     }
 
     @Transactional
@@ -92,9 +115,13 @@ public class IdeaService {
         idea.setDescription(request.getDescription());
         idea.setImages(request.getImages());
         idea.setStatus(IdeaStatus.ACTIVE);
+        idea.setHotScore(hotScoreService.initialScore());
         idea.setTags(syncTags(Collections.emptySet(), request.getTags()));
 
         Idea saved = ideaRepository.save(idea);
+        ideaSearchStrategy.index(saved);
+        ideaTagIndex.index(saved);
+        ideaListCache.invalidate(currentUserId, tagNames(saved.getTags()));
         return IdeaDetailResponse.fromIdea(saved, false);
     }
 
@@ -102,21 +129,28 @@ public class IdeaService {
     public IdeaDetailResponse updateIdea(Long id, UpdateIdeaRequest request, Long currentUserId) {
         Idea idea = ideaRepository.findById(id)
             .orElseThrow(() -> new BusinessException(404, IDEA_NOT_FOUND));
-        if (idea.getStatus() == IdeaStatus.DELETED) {
+        if (idea.getStatus() != IdeaStatus.ACTIVE) {
             throw new BusinessException(404, IDEA_NOT_FOUND);
         }
         if (!Objects.equals(idea.getUser().getId(), currentUserId)) {
             throw new BusinessException(403, FORBIDDEN);
         }
 
+        Set<String> affectedTags = tagNames(idea.getTags());
         idea.setTitle(request.getTitle());
         idea.setDescription(request.getDescription());
         idea.setImages(request.getImages());
         idea.setTags(syncTags(idea.getTags(), request.getTags()));
+        // A tag-only edit does not dirty the row; touch it so every edit is a new list-card version.
+        idea.setUpdatedAt(LocalDateTime.now());
 
         Idea saved = ideaRepository.save(idea);
-        boolean liked = currentUserId != null && likeRepository.existsByUserIdAndIdeaId(currentUserId, id);
-        return IdeaDetailResponse.fromIdea(saved, liked);
+        ideaSearchStrategy.index(saved);
+        ideaTagIndex.index(saved);
+        affectedTags.addAll(tagNames(saved.getTags()));
+        ideaListCache.invalidate(idea.getUser().getId(), affectedTags);
+        boolean liked = currentUserId != null && likedIdeasCache.isLiked(currentUserId, id);
+        return withPendingCounts(IdeaDetailResponse.fromIdea(saved, liked));
     }
 
     @Transactional
@@ -130,20 +164,190 @@ public class IdeaService {
             throw new BusinessException(403, FORBIDDEN);
         }
 
-        for (Tag tag : safeTagSet(idea.getTags())) {
-            decrementUsage(tag);
-            tagRepository.save(tag);
-        }
+        boolean active = idea.getStatus() == IdeaStatus.ACTIVE;
         idea.setStatus(IdeaStatus.DELETED);
         ideaRepository.save(idea);
+        // A hidden idea already left tag usage, the indexes and the lists when it was hidden.
+        if (active) {
+            adjustUsage(safeTagSet(idea.getTags()), -1L);
+            ideaSearchStrategy.index(idea);
+            ideaTagIndex.index(idea);
+            ideaListCache.invalidate(idea.getUser().getId(), tagNames(idea.getTags()));
+        }
     }
 
+    @Transactional(readOnly = true)
     public PageResponse<IdeaListResponse> getCurrentUserIdeas(IdeaQueryRequest request, Long currentUserId) {
         request.setUserId(currentUserId);
         return listIdeas(request, currentUserId);
     }
 
-    private Pageable buildPageable(IdeaQueryRequest request) {
+    private PageResponse<IdeaListResponse> listIdeasByCursor(IdeaQueryRequest request, Long currentUserId) {
+        int size = request.getSize();
+        if (size < 1) {
+            throw new BusinessException(400, INVALID_PAGE_SIZE);
+        }
+        Sort.Order order = resolveSortOrder(request);
+        Specification<Idea> spec = buildSpecification(request, searchKeyword(request.getKeyword(), false));
+        if (!request.getCursor().isBlank()) {
+            spec = spec.and(decodeCursor(request.getCursor(), order));
+        }
+        Sort sort = Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+
+        List<Long> fetchedIds = ideaRepository.findIds(spec, sort, size + 1);
+        boolean hasNext = fetchedIds.size() > size;
+        List<IdeaCardView> cards = loadCards(hasNext ? fetchedIds.subList(0, size) : fetchedIds);
+        String nextCursor = hasNext ? encodeCursor(cards.get(cards.size() - 1), order) : null;
+
+        return PageResponse.ofCursor(toListResponses(cards, currentUserId), size, nextCursor);
+    }
+
+    private PageResponse<Long> findIdPage(IdeaQueryRequest request, CountMode countMode) {
+        Optional<List<Long>> rankedIds = searchKeyword(request.getKeyword(), isRelevanceSort(request));
+        Specification<Idea> spec = buildSpecification(request, rankedIds);
+        Pageable pageable = buildPageable(request, rankedIds.isPresent());
+        if (!pageable.getSort().isSorted()) {
+            return PageResponse.of(pageByRelevance(spec, rankedIds.orElseThrow(), pageable));
+        }
+        if (countMode == CountMode.EXACT) {
+            return PageResponse.of(ideaRepository.findIdPage(spec, pageable));
+        }
+        Slice<Long> idSlice = ideaRepository.findIdSlice(spec, pageable);
+        long seen = pageable.getOffset() + idSlice.getNumberOfElements();
+        if (!idSlice.hasNext() && (idSlice.hasContent() || pageable.getOffset() == 0)) {
+            return PageResponse.ofSlice(idSlice, seen, false);
+        }
+        if (countMode == CountMode.NONE) {
+            return PageResponse.ofSlice(idSlice, -1, false);
+        }
+        CountKey countKey = countKey(request);
+        long estimate = ideaCountEstimator.estimate(countKey, () -> countSpecification(countKey));
+        long total = idSlice.hasNext() ? Math.max(estimate, seen + 1) : Math.max(estimate, seen);
+        return PageResponse.ofSlice(idSlice, total, true);
+    }
+
+    private CountKey countKey(IdeaQueryRequest request) {
+        return new CountKey(
+            normalizeFilter(request.getKeyword()),
+            request.resolveTagNames(),
+            TagMatchMode.from(request.getTagMode()),
+            request.getUserId());
+    }
+
+    private Specification<Idea> countSpecification(CountKey key) {
+        IdeaQueryRequest filters = IdeaQueryRequest.builder()
+            .keyword(key.keyword())
+            .tags(key.tags())
+            .tagMode(key.tagMode().name())
+            .userId(key.userId())
+            .build();
+        return buildSpecification(filters, searchKeyword(filters.getKeyword(), false));
+    }
+
+    private String normalizeFilter(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // A relevance sort pages through the top candidates; other sorts filter on every index match.
+    private Optional<List<Long>> searchKeyword(String keyword, boolean relevance) {
+        if (keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        return ideaSearchStrategy.search(keyword, relevance ? searchConfig.getMaxCandidates() : Integer.MAX_VALUE);
+    }
+
+    private Specification<Idea> buildSpecification(IdeaQueryRequest request, Optional<List<Long>> rankedIds) {
+        Specification<Idea> keywordSpec = rankedIds
+            .map(IdeaSpecifications::withIdIn)
+            .orElseGet(() -> IdeaSpecifications.withKeyword(request.getKeyword()));
+        return IdeaSpecifications.combine(request, keywordSpec, buildTagSpecification(request));
+    }
+
+    private Specification<Idea> buildTagSpecification(IdeaQueryRequest request) {
+        List<String> tagNames = request.resolveTagNames();
+        TagMatchMode mode = TagMatchMode.from(request.getTagMode());
+        return ideaTagIndex.match(tagNames, mode)
+            .map(IdeaSpecifications::withIdIn)
+            .orElseGet(() -> IdeaSpecifications.withTags(tagNames, mode));
+    }
+
+    private Page<Long> pageByRelevance(Specification<Idea> spec, List<Long> rankedIds, Pageable pageable) {
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Set<Long> matching = new HashSet<>(ideaRepository.findIds(spec, Sort.unsorted(), rankedIds.size()));
+        List<Long> ordered = rankedIds.stream().filter(matching::contains).toList();
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
+    }
+
+    private List<IdeaCardView> loadCards(List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, IdeaCardView> byId = new HashMap<>();
+        for (IdeaCardView card : ideaRepository.findCardsByIdIn(orderedIds)) {
+            byId.put(card.id(), card);
+        }
+        return orderedIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private List<IdeaListResponse> toListResponses(List<IdeaCardView> cards, Long currentUserId) {
+        List<Long> ideaIds = cards.stream()
+            .map(IdeaCardView::id)
+            .filter(Objects::nonNull)
+            .toList();
+
+        Set<Long> likedIdeaIds = resolveLikedIdeaIds(currentUserId, ideaIds);
+        return cards.stream()
+            .map(card -> withPendingCounts(toListResponse(card, likedIdeaIds.contains(card.id()))))
+            .toList();
+    }
+
+    private IdeaListResponse toListResponse(IdeaCardView card, boolean liked) {
+        SerializableString fragment = ideaFragmentCache.get(card);
+        return fragment == null
+            ? IdeaListResponse.fromCard(card, liked)
+            : IdeaListResponse.ofFragment(card, liked, fragment);
+    }
+
+    private IdeaDetailResponse withPendingCounts(IdeaDetailResponse response) {
+        response.setLikeCount(counterService.current(CounterKind.IDEA_LIKES, response.getId(), response.getLikeCount()));
+        response.setCommentCount(counterService.current(CounterKind.IDEA_COMMENTS, response.getId(), response.getCommentCount()));
+        return response;
+    }
+
+    private IdeaListResponse withPendingCounts(IdeaListResponse response) {
+        response.setLikeCount(counterService.current(CounterKind.IDEA_LIKES, response.getId(), response.getLikeCount()));
+        response.setCommentCount(counterService.current(CounterKind.IDEA_COMMENTS, response.getId(), response.getCommentCount()));
+        return response;
+    }
+
+    private Pageable buildPageable(IdeaQueryRequest request, boolean ranked) {
+        if (ranked && isRelevanceSort(request)) {
+            return PageRequest.of(request.getPage(), request.getSize());
+        }
+        Sort.Order order = resolveSortOrder(request);
+        Sort sort = HOT_SCORE_FIELD.equals(order.getProperty())
+            ? Sort.by(order, new Sort.Order(order.getDirection(), "id"))
+            : Sort.by(order);
+        return PageRequest.of(request.getPage(), request.getSize(), sort);
+    }
+
+    private boolean isRelevanceSort(IdeaQueryRequest request) {
+        String sortValue = request.getSort();
+        if (sortValue == null) {
+            return false;
+        }
+        String[] parts = sortValue.split(",");
+        return parts.length > 0 && RELEVANCE_SORT.equalsIgnoreCase(parts[0].trim());
+    }
+
+    private Sort.Order resolveSortOrder(IdeaQueryRequest request) {
         String sortValue = request.getSort();
         String sortField = "createdAt";
         Sort.Direction direction = Sort.Direction.DESC;
@@ -154,6 +358,8 @@ public class IdeaService {
                 String candidate = parts[0].trim();
                 if (ALLOWED_SORT_FIELDS.contains(candidate)) {
                     sortField = candidate;
+                } else if (HOT_SORT.equalsIgnoreCase(candidate)) {
+                    sortField = HOT_SCORE_FIELD;
                 }
             }
             if (parts.length > 1 && !parts[1].isBlank()) {
@@ -163,61 +369,80 @@ public class IdeaService {
             }
         }
 
-        return PageRequest.of(request.getPage(), request.getSize(), Sort.by(direction, sortField));
+        return new Sort.Order(direction, sortField);
+    }
+
+    private String encodeCursor(IdeaCardView last, Sort.Order order) {
+        Object value = switch (order.getProperty()) {
+            case "likeCount" -> last.likeCount();
+            case HOT_SCORE_FIELD -> last.hotScore();
+            default -> last.createdAt();
+        };
+        return CursorCodec.encode(
+            order.getProperty(),
+            order.getDirection().name(),
+            String.valueOf(value),
+            String.valueOf(last.id()));
+    }
+
+    private Specification<Idea> decodeCursor(String cursor, Sort.Order order) {
+        String[] parts = CursorCodec.decode(cursor, 4);
+        if (!order.getProperty().equals(parts[0]) || !order.getDirection().name().equals(parts[1])) {
+            throw new BusinessException(400, CURSOR_SORT_MISMATCH);
+        }
+        try {
+            Long id = Long.valueOf(parts[3]);
+            if ("likeCount".equals(parts[0])) {
+                return IdeaSpecifications.afterCursor(parts[0], order.isAscending(), Long.valueOf(parts[2]), id);
+            }
+            if (HOT_SCORE_FIELD.equals(parts[0])) {
+                return IdeaSpecifications.afterCursor(parts[0], order.isAscending(), Double.valueOf(parts[2]), id);
+            }
+            return IdeaSpecifications.afterCursor(parts[0], order.isAscending(), LocalDateTime.parse(parts[2]), id);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new BusinessException(400, INVALID_CURSOR);
+        }
     }
 
     private Set<Long> resolveLikedIdeaIds(Long currentUserId, List<Long> ideaIds) {
         if (currentUserId == null || ideaIds.isEmpty()) {
             return Collections.emptySet();
         }
-        List<Like> likes = likeRepository.findByUserIdAndIdeaIdIn(currentUserId, ideaIds);
-        return likes.stream()
-            .map(like -> like.getIdea() == null ? null : like.getIdea().getId())
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
+        return likedIdeasCache.likedAmong(currentUserId, ideaIds);
     }
 
     private Set<Tag> syncTags(Set<Tag> currentTags, List<String> requestedTags) {
         Set<Tag> safeCurrent = safeTagSet(currentTags);
-        Map<String, Tag> currentByLower = new HashMap<>();
+        Set<String> currentKeys = new HashSet<>();
         for (Tag tag : safeCurrent) {
             if (tag.getName() != null) {
-                currentByLower.put(tag.getName().toLowerCase(), tag);
+                currentKeys.add(TagDictionary.fold(tag.getName()));
             }
         }
 
         List<String> normalized = normalizeTagNames(requestedTags);
-        Set<String> normalizedLower = normalized.stream()
-            .map(name -> name.toLowerCase())
+        Set<String> normalizedKeys = normalized.stream()
+            .map(TagDictionary::fold)
             .collect(Collectors.toSet());
 
-        for (Tag tag : safeCurrent) {
-            String name = tag.getName();
-            if (name != null && !normalizedLower.contains(name.toLowerCase())) {
-                decrementUsage(tag);
-                tagRepository.save(tag);
-            }
-        }
-
         Set<Tag> result = new HashSet<>();
-        for (String name : normalized) {
-            String lower = name.toLowerCase();
-            Tag existing = currentByLower.get(lower);
-            if (existing != null) {
-                result.add(existing);
-                continue;
+        List<Tag> removed = new ArrayList<>();
+        for (Tag tag : safeCurrent) {
+            if (tag.getName() != null && normalizedKeys.contains(TagDictionary.fold(tag.getName()))) {
+                result.add(tag);
+            } else {
+                removed.add(tag);
             }
-            Tag tag = tagRepository.findByNameIgnoreCase(name).orElseGet(() -> {
-                Tag created = new Tag();
-                created.setName(name);
-                created.setUsageCount(0L);
-                return created;
-            });
-            incrementUsage(tag);
-            tagRepository.save(tag);
-            result.add(tag);
         }
+        List<String> added = normalized.stream()
+            .filter(name -> !currentKeys.contains(TagDictionary.fold(name)))
+            .toList();
+        Collection<Tag> attached = tagDictionary.resolve(added).values();
+        result.addAll(attached);
 
+        adjustUsage(removed, -1L);
+        adjustUsage(attached, 1L);
+        attached.forEach(trendingTagTracker::record);
         return result;
     }
 
@@ -239,6 +464,16 @@ public class IdeaService {
         return new ArrayList<>(normalized.values());
     }
 
+    private Set<String> tagNames(Set<Tag> tags) {
+        Set<String> names = new HashSet<>();
+        for (Tag tag : safeTagSet(tags)) {
+            if (tag.getName() != null) {
+                names.add(tag.getName());
+            }
+        }
+        return names;
+    }
+
     private Set<Tag> safeTagSet(Set<Tag> tags) {
         if (tags == null || tags.isEmpty()) {
             return Collections.emptySet();
@@ -246,13 +481,15 @@ public class IdeaService {
         return new HashSet<>(tags);
     }
 
-    private void incrementUsage(Tag tag) {
-        long count = tag.getUsageCount() == null ? 0L : tag.getUsageCount();
-        tag.setUsageCount(count + 1L);
+    // The loaded entities keep their old counts and are not flushed.
+    private void adjustUsage(Collection<Tag> tags, long delta) {
+        List<Long> ids = tags.stream().map(Tag::getId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        counterService.add(CounterKind.TAG_USAGE, ids, delta);
+        tags.forEach(tag -> tagSuggestIndex.adjust(tag, delta));
     }
 
-    private void decrementUsage(Tag tag) {
-        long count = tag.getUsageCount() == null ? 0L : tag.getUsageCount();
-        tag.setUsageCount(Math.max(0L, count - 1L));
-    }
+    private record CountKey(String keyword, List<String> tags, TagMatchMode tagMode, Long userId) {}
 }
@@ -0,0 +1,49 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.repository.IdeaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// The checkpoint lets a failed walk resume without rescanning old ids.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdeaSnippetBackfill {
+    private final IdeaRepository ideaRepository;
+    private final ListingConfig listingConfig;
+
+    private volatile long checkpoint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.warn("Snippet backfill stopped after id {}", checkpoint, e);
+        }
+    }
+
+    public synchronized int backfill() {
+        long width = Math.max(1, listingConfig.getSnippetBackfillBatchSize());
+        long maxId = ideaRepository.findMaxId();
+        int filled = 0;
+        while (checkpoint < maxId) {
+            long to = Math.min(maxId, checkpoint + width);
+            filled += ideaRepository.backfillSnippets(checkpoint, to, Idea.SNIPPET_LENGTH);
+            checkpoint = to;
+        }
+        if (filled > 0) {
+            log.info("Backfilled description snippets for {} ideas", filled);
+        }
+        return filled;
+    }
+
+    long getCheckpoint() {
+        return checkpoint;
+    }
+}
@@ -0,0 +1,58 @@
+package com.learn.demo.service;
+
+import com.learn.demo.dto.idea.LikeResponse;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// The counter changes only when the insert or delete actually changed a row.
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+    private static final String IDEA_NOT_FOUND = "Idea not found";
+
+    private final LikeRepository likeRepository;
+    private final IdeaRepository ideaRepository;
+    private final LikedIdeasCache likedIdeasCache;
+    private final CounterService counterService;
+
+    @Transactional
+    public LikeResponse like(Long ideaId, Long currentUserId) {
+        requireVisibleIdea(ideaId);
+        if (likeRepository.insertIfAbsent(currentUserId, ideaId) > 0) {
+            likedIdeasCache.recordLike(currentUserId, ideaId);
+            counterService.add(CounterKind.IDEA_LIKES, ideaId, 1L);
+        }
+        return buildResponse(ideaId, true);
+    }
+
+    @Transactional
+    public LikeResponse unlike(Long ideaId, Long currentUserId) {
+        requireVisibleIdea(ideaId);
+        if (likeRepository.deleteByUserIdAndIdeaId(currentUserId, ideaId) > 0) {
+            likedIdeasCache.recordUnlike(currentUserId, ideaId);
+            counterService.add(CounterKind.IDEA_LIKES, ideaId, -1L);
+        }
+        return buildResponse(ideaId, false);
+    }
+
+    private void requireVisibleIdea(Long ideaId) {
+        if (!ideaRepository.existsByIdAndStatus(ideaId, IdeaStatus.ACTIVE)) {
+            throw new BusinessException(404, IDEA_NOT_FOUND);
+        }
+    }
+
+    private LikeResponse buildResponse(Long ideaId, boolean liked) {
+        long stored = ideaRepository.findLikeCountById(ideaId).orElse(0L);
+        return LikeResponse.builder()
+            .ideaId(ideaId)
+            .liked(liked)
+            .likeCount(counterService.current(CounterKind.IDEA_LIKES, ideaId, stored))
+            .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Like;
+import com.learn.demo.repository.LikeRepository;
+import com.learn.demo.util.AfterCommit;
+import com.learn.demo.util.LruCache;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+// A load that overlaps a like or unlike is used once but not stored.
+@Component
+public class LikedIdeasCache {
+    private static final int VERSION_STRIPES = 64;
+
+    private final LikeRepository likeRepository;
+    private final ListingConfig listingConfig;
+
+    private final LruCache<Long, Roaring64Bitmap> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public LikedIdeasCache(LikeRepository likeRepository, ListingConfig listingConfig) {
+        this.likeRepository = likeRepository;
+        this.listingConfig = listingConfig;
+        this.entries = new LruCache<>(listingConfig::getLikedCacheUsers);
+    }
+
+    public boolean isLiked(Long userId, Long ideaId) {
+        if (userId == null || ideaId == null) {
+            return false;
+        }
+        if (listingConfig.getLikedCacheUsers() <= 0) {
+            return likeRepository.existsByUserIdAndIdeaId(userId, ideaId);
+        }
+        Roaring64Bitmap liked = membership(userId);
+        synchronized (liked) {
+            return liked.contains(ideaId);
+        }
+    }
+
+    public Set<Long> likedAmong(Long userId, Collection<Long> ideaIds) {
+        if (userId == null || ideaIds == null || ideaIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (listingConfig.getLikedCacheUsers() <= 0) {
+            List<Like> likes = likeRepository.findByUserIdAndIdeaIdIn(userId, List.copyOf(ideaIds));
+            return likes.stream()
+                .map(like -> like.getIdea() == null ? null : like.getIdea().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        }
+        Roaring64Bitmap liked = membership(userId);
+        Set<Long> result = new HashSet<>();
+        synchronized (liked) {
+            for (Long ideaId : ideaIds) {
+                if (ideaId != null && liked.contains(ideaId)) {
+                    result.add(ideaId);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void recordLike(Long userId, Long ideaId) {
+        AfterCommit.run(() -> apply(userId, ideaId, true));
+    }
+
+    public void recordUnlike(Long userId, Long ideaId) {
+        AfterCommit.run(() -> apply(userId, ideaId, false));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void apply(Long userId, Long ideaId, boolean liked) {
+        versions.incrementAndGet(stripe(userId));
+        Roaring64Bitmap bitmap = entries.get(userId);
+        if (bitmap == null) {
+            return;
+        }
+        synchronized (bitmap) {
+            if (liked) {
+                bitmap.addLong(ideaId);
+            } else {
+                bitmap.removeLong(ideaId);
+            }
+        }
+    }
+
+    private Roaring64Bitmap membership(Long userId) {
+        Roaring64Bitmap cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = versions.get(stripe(userId));
+        Roaring64Bitmap loaded = new Roaring64Bitmap();
+        for (Long ideaId : likeRepository.findIdeaIdsByUserId(userId)) {
+            loaded.addLong(ideaId);
+        }
+        loaded.runOptimize();
+        if (versions.get(stripe(userId)) != version) {
+            return loaded;
+        }
+        Roaring64Bitmap existing = entries.putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // A write that bumped the version before seeing the stored set would leave it stale.
+        if (versions.get(stripe(userId)) != version) {
+            entries.remove(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), VERSION_STRIPES);
+    }
+}
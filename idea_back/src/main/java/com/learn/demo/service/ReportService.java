@@ -0,0 +1,180 @@
+package com.learn.demo.service;
+
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.report.CreateReportRequest;
+import com.learn.demo.dto.report.ReportGroupResponse;
+import com.learn.demo.dto.report.ReportResolutionResponse;
+import com.learn.demo.dto.report.ReportResponse;
+import com.learn.demo.dto.report.ReportTarget;
+import com.learn.demo.dto.report.ResolveReportsRequest;
+import com.learn.demo.entity.Comment;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Report;
+import com.learn.demo.enums.CommentStatus;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.ReportStatus;
+import com.learn.demo.enums.TargetType;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.CommentRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.ReportRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.repository.projection.IdeaOwnerView;
+import com.learn.demo.repository.projection.IdeaTagUsageView;
+import com.learn.demo.repository.projection.ReportGroupView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Hidden ideas leave the lists, the indexes and tag usage like deleted ones.
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+    private static final String TARGET_NOT_FOUND = "Report target not found";
+    private static final String USER_NOT_FOUND = "User not found";
+    private static final String INVALID_PAGE_SIZE = "Invalid page size";
+    private static final String INVALID_RESOLUTION = "Resolution must be RESOLVED or REJECTED";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReportRepository reportRepository;
+    private final IdeaRepository ideaRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final CounterService counterService;
+    private final IdeaSearchStrategy ideaSearchStrategy;
+    private final IdeaTagIndex ideaTagIndex;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final IdeaListCache ideaListCache;
+
+    @Transactional
+    public ReportResponse createReport(CreateReportRequest request, Long currentUserId) {
+        if (!targetExists(request.getTargetType(), request.getTargetId())) {
+            throw new BusinessException(404, TARGET_NOT_FOUND);
+        }
+        Report report = new Report();
+        report.setReporter(userRepository.findById(currentUserId)
+            .orElseThrow(() -> new BusinessException(404, USER_NOT_FOUND)));
+        report.setTargetType(request.getTargetType());
+        report.setTargetId(request.getTargetId());
+        report.setReason(request.getReason());
+        report.setStatus(ReportStatus.PENDING);
+        return ReportResponse.fromReport(reportRepository.save(report));
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ReportGroupResponse> listPendingGroups(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(400, INVALID_PAGE_SIZE);
+        }
+        Slice<ReportGroupView> groups = reportRepository.findGroupsByStatus(
+            ReportStatus.PENDING, PageRequest.of(page, size));
+        return PageResponse.ofSlice(groups.map(ReportGroupResponse::fromView), -1, false);
+    }
+
+    @Transactional
+    public ReportResolutionResponse resolve(ResolveReportsRequest request) {
+        ReportStatus resolution = request.getStatus();
+        if (resolution != ReportStatus.RESOLVED && resolution != ReportStatus.REJECTED) {
+            throw new BusinessException(400, INVALID_RESOLUTION);
+        }
+        Map<TargetType, Set<Long>> targetIds = new EnumMap<>(TargetType.class);
+        for (ReportTarget target : request.getTargets()) {
+            targetIds.computeIfAbsent(target.getTargetType(), type -> new LinkedHashSet<>()).add(target.getTargetId());
+        }
+
+        int reports = 0;
+        for (Map.Entry<TargetType, Set<Long>> entry : targetIds.entrySet()) {
+            reports += reportRepository.updateStatusByTargets(
+                entry.getKey(), entry.getValue(), ReportStatus.PENDING, resolution);
+        }
+        if (resolution == ReportStatus.REJECTED) {
+            return ReportResolutionResponse.builder().reports(reports).build();
+        }
+        Set<Long> ideaIds = targetIds.getOrDefault(TargetType.IDEA, Set.of());
+        Set<Long> commentIds = targetIds.getOrDefault(TargetType.COMMENT, Set.of());
+        return ReportResolutionResponse.builder()
+            .reports(reports)
+            .hiddenIdeas(hideIdeas(ideaIds))
+            .deletedComments(deleteComments(commentIds))
+            .build();
+    }
+
+    private int hideIdeas(Set<Long> ideaIds) {
+        if (ideaIds.isEmpty()) {
+            return 0;
+        }
+        // Locked first, so the bulk update hides exactly the ideas read here.
+        List<IdeaOwnerView> owners = ideaRepository.lockOwnersByIdInAndStatus(ideaIds, IdeaStatus.ACTIVE);
+        if (owners.isEmpty()) {
+            return 0;
+        }
+        List<Long> hiddenIds = owners.stream().map(IdeaOwnerView::getId).toList();
+        int hidden = ideaRepository.updateStatusByIdIn(hiddenIds, IdeaStatus.ACTIVE, IdeaStatus.HIDDEN);
+
+        Map<Long, List<String>> tagNamesByIdea = new HashMap<>();
+        Map<Long, IdeaTagUsageView> tags = new HashMap<>();
+        Map<Long, Long> drops = new HashMap<>();
+        for (IdeaTagUsageView usage : ideaRepository.findTagUsagesByIdeaIdIn(hiddenIds)) {
+            tagNamesByIdea.computeIfAbsent(usage.getIdeaId(), id -> new ArrayList<>()).add(usage.getName());
+            tags.putIfAbsent(usage.getTagId(), usage);
+            drops.merge(usage.getTagId(), 1L, Long::sum);
+        }
+        Map<Long, List<Long>> tagIdsByDrop = drops.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        tagIdsByDrop.forEach((drop, tagIds) -> counterService.add(CounterKind.TAG_USAGE, tagIds, -drop));
+        drops.forEach((tagId, drop) -> {
+            IdeaTagUsageView tag = tags.get(tagId);
+            tagSuggestIndex.adjust(tagId, tag.getName(), tag.getUsageCount(), -drop);
+        });
+
+        for (IdeaOwnerView owner : owners) {
+            Idea idea = new Idea();
+            idea.setId(owner.getId());
+            idea.setStatus(IdeaStatus.HIDDEN);
+            ideaSearchStrategy.index(idea);
+            ideaTagIndex.index(idea);
+            ideaListCache.invalidate(owner.getUserId(), tagNamesByIdea.getOrDefault(owner.getId(), List.of()));
+        }
+        return hidden;
+    }
+
+    private int deleteComments(Set<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        // Locked first, so a concurrent delete of the same comment waits and then changes nothing.
+        List<Comment> comments = commentRepository.lockByIdInAndStatus(commentIds, CommentStatus.ACTIVE);
+        if (comments.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> perIdea = new HashMap<>();
+        for (Comment comment : comments) {
+            perIdea.merge(comment.getIdea().getId(), 1L, Long::sum);
+        }
+        int deleted = commentRepository.updateStatusByIdIn(
+            comments.stream().map(Comment::getId).toList(), CommentStatus.ACTIVE, CommentStatus.DELETED);
+        perIdea.forEach((ideaId, count) -> counterService.add(CounterKind.IDEA_COMMENTS, ideaId, -count));
+        return deleted;
+    }
+
+    private boolean targetExists(TargetType type, Long targetId) {
+        return switch (type) {
+            case IDEA -> ideaRepository.existsByIdAndStatus(targetId, IdeaStatus.ACTIVE);
+            case COMMENT -> commentRepository.existsByIdAndStatus(targetId, CommentStatus.ACTIVE);
+        };
+    }
+}
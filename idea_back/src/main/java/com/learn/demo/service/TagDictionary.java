@@ -0,0 +1,135 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.util.AfterCommit;
+import com.learn.demo.util.LruCache;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+// Tags are never renamed or removed, so a cached id only goes stale when its insert rolled back.
+@Component
+public class TagDictionary {
+    private final TagRepository tagRepository;
+    private final SearchConfig searchConfig;
+
+    private final LruCache<String, Long> idsByKey;
+
+    public TagDictionary(TagRepository tagRepository, SearchConfig searchConfig) {
+        this.tagRepository = tagRepository;
+        this.searchConfig = searchConfig;
+        this.idsByKey = new LruCache<>(searchConfig::getTagDictionarySize);
+    }
+
+    // The first spelling of a new name becomes its display name.
+    public Map<String, Tag> resolve(Collection<String> names) {
+        Map<String, String> wanted = new LinkedHashMap<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    wanted.putIfAbsent(fold(name), name.trim());
+                }
+            }
+        }
+        if (wanted.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Tag> resolved = new HashMap<>();
+        Map<Long, String> cached = cachedIds(wanted.keySet());
+        if (!cached.isEmpty()) {
+            for (Tag tag : tagRepository.findAllById(cached.keySet())) {
+                String key = cached.get(tag.getId());
+                if (key != null && key.equals(fold(tag.getName()))) {
+                    resolved.put(key, tag);
+                }
+            }
+            cached.values().stream().filter(key -> !resolved.containsKey(key)).forEach(this::forget);
+        }
+
+        Set<String> missing = missing(wanted.keySet(), resolved);
+        if (!missing.isEmpty()) {
+            collect(tagRepository.findByLowerNameIn(missing), missing, resolved);
+            missing = missing(missing, resolved);
+        }
+        if (!missing.isEmpty()) {
+            List<String> created = new ArrayList<>(missing.size());
+            missing.forEach(key -> created.add(wanted.get(key)));
+            tagRepository.insertIgnoringConflicts(created);
+            collect(tagRepository.lockByLowerNameIn(missing), missing, resolved);
+            missing = missing(missing, resolved);
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Tags could not be created: " + missing);
+            }
+        }
+
+        remember(resolved);
+        return resolved;
+    }
+
+    public int size() {
+        return idsByKey.size();
+    }
+
+    public void clear() {
+        idsByKey.clear();
+    }
+
+    public static String fold(String name) {
+        return Tag.fold(name);
+    }
+
+    private Map<Long, String> cachedIds(Set<String> keys) {
+        Map<Long, String> cached = new HashMap<>();
+        if (searchConfig.getTagDictionarySize() <= 0) {
+            return cached;
+        }
+        for (String key : keys) {
+            Long id = idsByKey.get(key);
+            if (id != null) {
+                cached.put(id, key);
+            }
+        }
+        return cached;
+    }
+
+    private void collect(List<Tag> tags, Set<String> keys, Map<String, Tag> resolved) {
+        for (Tag tag : tags) {
+            String key = tag.getName() == null ? null : fold(tag.getName());
+            if (key != null && keys.contains(key)) {
+                resolved.merge(key, tag, (kept, other) -> kept.getId() <= other.getId() ? kept : other);
+            }
+        }
+    }
+
+    private void remember(Map<String, Tag> resolved) {
+        if (searchConfig.getTagDictionarySize() <= 0) {
+            return;
+        }
+        Map<String, Long> entries = new HashMap<>();
+        resolved.forEach((key, tag) -> entries.put(key, tag.getId()));
+        AfterCommit.run(() -> idsByKey.putAll(entries));
+    }
+
+    private void forget(String key) {
+        idsByKey.remove(key);
+    }
+
+    private static Set<String> missing(Set<String> keys, Map<String, Tag> resolved) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (!resolved.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,45 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.config.TrendingConfig;
+import com.learn.demo.dto.tag.TagResponse;
+import com.learn.demo.dto.tag.TrendingTagResponse;
+import com.learn.demo.enums.TrendingWindow;
+import com.learn.demo.search.TagSuggestIndex;
+import com.learn.demo.search.TrendingTagTracker;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+    private final TagSuggestIndex tagSuggestIndex;
+    private final SearchConfig searchConfig;
+    private final TrendingTagTracker trendingTagTracker;
+    private final TrendingConfig trendingConfig;
+
+    public List<TagResponse> suggest(String prefix, int limit) {
+        int capped = Math.min(Math.max(limit, 1), searchConfig.getTagSuggestSize());
+        return tagSuggestIndex.suggest(prefix, capped).stream()
+            .map(entry -> TagResponse.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .usageCount(entry.usageCount())
+                .build())
+            .toList();
+    }
+
+    public List<TrendingTagResponse> trending(String window, int limit) {
+        TrendingWindow resolved = TrendingWindow.from(window);
+        int capped = Math.min(Math.max(limit, 1), trendingConfig.getTopSize());
+        return trendingTagTracker.top(resolved, capped).stream()
+            .map(entry -> TrendingTagResponse.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .count(entry.count())
+                .window(resolved.getLabel())
+                .build())
+            .toList();
+    }
+}
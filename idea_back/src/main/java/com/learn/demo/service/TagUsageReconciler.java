@@ -0,0 +1,75 @@
+package com.learn.demo.service;
+
+import com.learn.demo.config.CounterConfig;
+import com.learn.demo.entity.JobCheckpoint;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.JobCheckpointRepository;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.repository.projection.TagUsageView;
+import com.learn.demo.search.TagSuggestIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// Compare-and-set corrections leave a count that changed since the read to the next run.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagUsageReconciler {
+    static final String CHECKPOINT = "tag-usage-reconciler";
+
+    private final TagRepository tagRepository;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final CounterConfig counterConfig;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    @Scheduled(
+        fixedDelayString = "${counters.reconcile-millis:3600000}",
+        initialDelayString = "${counters.reconcile-millis:3600000}")
+    public synchronized int reconcile() {
+        int batchSize = Math.max(1, counterConfig.getReconcileBatchSize());
+        // Persisted per chunk, so a restart mid-pass resumes where the last chunk ended.
+        long checkpoint = jobCheckpointRepository.findById(CHECKPOINT).map(JobCheckpoint::getPosition).orElse(0L);
+        int corrected = 0;
+        int scanned = 0;
+        List<TagUsageView> batch;
+        do {
+            batch = tagRepository.findUsageBatch(checkpoint, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(batchSize));
+            for (TagUsageView view : batch) {
+                if (correct(view)) {
+                    corrected++;
+                }
+            }
+            if (!batch.isEmpty()) {
+                checkpoint = batch.get(batch.size() - 1).getId();
+                scanned += batch.size();
+                saveCheckpoint(checkpoint);
+            }
+        } while (batch.size() == batchSize);
+        saveCheckpoint(0L);
+        if (corrected > 0) {
+            log.info("Reconciled usage counts of {} of {} tags", corrected, scanned);
+        }
+        return corrected;
+    }
+
+    private void saveCheckpoint(long position) {
+        jobCheckpointRepository.save(new JobCheckpoint(CHECKPOINT, position, null));
+    }
+
+    private boolean correct(TagUsageView view) {
+        long stored = view.getUsageCount() == null ? 0L : view.getUsageCount();
+        long linked = view.getLinked() == null ? 0L : view.getLinked();
+        long pending = view.getPending() == null ? 0L : view.getPending();
+        long expected = Math.max(0L, linked - pending);
+        if (expected == stored || tagRepository.compareAndSetUsage(view.getId(), stored, expected) == 0) {
+            return false;
+        }
+        tagSuggestIndex.adjust(view.getId(), view.getName(), stored, expected - stored);
+        return true;
+    }
+}
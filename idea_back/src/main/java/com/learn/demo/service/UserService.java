@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,13 +17,15 @@ public class UserService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
 
+    @Transactional(readOnly = true)
     public User getCurrentUser(String username) {
-        return userRepository.findByUsername(username)
+        return userRepository.loadByUsername(username)
             .orElseThrow(() -> new BusinessException(404, "User not found"));
     }
 
+    @Transactional
     public User updateUser(String username, UpdateUserRequest request) {
-        User user = userRepository.findByUsername(username)
+        User user = userRepository.loadByUsername(username)
             .orElseThrow(() -> new BusinessException(404, "User not found"));
 
         if (request.getEmail() != null) {
@@ -35,8 +38,9 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    @Transactional
     public void changePassword(String username, ChangePasswordRequest request) {
-        User user = userRepository.findByUsername(username)
+        User user = userRepository.loadByUsername(username)
             .orElseThrow(() -> new BusinessException(404, "User not found"));
 
         if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
@@ -4,7 +4,14 @@ import com.learn.demo.dto.idea.IdeaQueryRequest;
 import com.learn.demo.entity.Idea;
 import com.learn.demo.entity.Tag;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 
 public class IdeaSpecifications {
@@ -17,12 +24,40 @@ public class IdeaSpecifications {
         );
     }
 
+    public static Specification<Idea> withIdIn(Collection<Long> ids) {
+        if (ids == null) return null;
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
     public static Specification<Idea> withTag(String tagName) {
         if (tagName == null || tagName.isBlank()) return null;
         return (root, query, cb) -> {
-            query.distinct(true);
-            Join<Idea, Tag> tags = root.join("tags");
-            return cb.equal(cb.lower(tags.get("name")), tagName.toLowerCase());
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Idea> taggedIdea = tagged.from(Idea.class);
+            Join<Idea, Tag> tags = taggedIdea.join("tags");
+            tagged.select(taggedIdea.get("id")).where(
+                cb.equal(taggedIdea.get("id"), root.get("id")),
+                cb.equal(cb.lower(tags.get("name")), tagName.toLowerCase())
+            );
+            return cb.exists(tagged);
+        };
+    }
+
+    public static Specification<Idea> withTags(Collection<String> tagNames, TagMatchMode mode) {
+        if (tagNames == null || tagNames.isEmpty()) return null;
+        if (mode != TagMatchMode.ANY) {
+            return Specification.allOf(tagNames.stream().map(IdeaSpecifications::withTag).toList());
+        }
+        List<String> lowered = tagNames.stream().map(String::toLowerCase).toList();
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Idea> taggedIdea = tagged.from(Idea.class);
+            Join<Idea, Tag> tags = taggedIdea.join("tags");
+            tagged.select(taggedIdea.get("id")).where(
+                cb.equal(taggedIdea.get("id"), root.get("id")),
+                cb.lower(tags.get("name")).in(lowered)
+            );
+            return cb.exists(tagged);
         };
     }
 
@@ -31,17 +66,37 @@ public class IdeaSpecifications {
         return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
     }
 
-    public static Specification<Idea> excludeDeleted() {
-        return (root, query, cb) -> cb.notEqual(root.get("status"), IdeaStatus.DELETED);
+    public static <Y extends Comparable<? super Y>> Specification<Idea> afterCursor(
+            String field, boolean ascending, Y value, Long id) {
+        if (field == null || value == null || id == null) return null;
+        return (root, query, cb) -> {
+            Path<Y> path = root.get(field);
+            Path<Long> idPath = root.get("id");
+            Predicate beyondValue = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            Predicate beyondId = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            return cb.or(beyondValue, cb.and(cb.equal(path, value), beyondId));
+        };
+    }
+
+    public static Specification<Idea> isVisible() {
+        return (root, query, cb) -> cb.equal(root.get("status"), IdeaStatus.ACTIVE);
     }
 
     public static Specification<Idea> combine(IdeaQueryRequest request) {
-        Specification<Idea> spec = Specification.where(excludeDeleted());
-        Specification<Idea> keywordSpec = withKeyword(request.getKeyword());
+        return combine(request, withKeyword(request.getKeyword()));
+    }
+
+    public static Specification<Idea> combine(IdeaQueryRequest request, Specification<Idea> keywordSpec) {
+        return combine(request, keywordSpec,
+            withTags(request.resolveTagNames(), TagMatchMode.from(request.getTagMode())));
+    }
+
+    public static Specification<Idea> combine(
+            IdeaQueryRequest request, Specification<Idea> keywordSpec, Specification<Idea> tagSpec) {
+        Specification<Idea> spec = Specification.where(isVisible());
         if (keywordSpec != null) {
             spec = spec.and(keywordSpec);
         }
-        Specification<Idea> tagSpec = withTag(request.getTag());
         if (tagSpec != null) {
             spec = spec.and(tagSpec);
         }
@@ -0,0 +1,172 @@
+package com.learn.demo.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+// Bounded LRU map split into separately locked segments; the capacity is read on every write.
+public final class LruCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final long MIN_SEGMENT_CAPACITY = 64;
+
+    private final LongSupplier capacity;
+    private final ToLongFunction<? super V> weigher;
+    private final Segment<K, V>[] segments;
+
+    public LruCache(LongSupplier capacity) {
+        this(capacity, value -> 1L);
+    }
+
+    // Small caches get a single segment and therefore exact LRU order.
+    @SuppressWarnings("unchecked")
+    public LruCache(LongSupplier capacity, ToLongFunction<? super V> weigher) {
+        this.capacity = capacity;
+        this.weigher = weigher;
+        int count = 1;
+        while (count < MAX_SEGMENTS && capacity.getAsLong() >= count * 2L * MIN_SEGMENT_CAPACITY) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.map.get(key);
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            store(segment, key, value);
+        }
+    }
+
+    public void putAll(Map<? extends K, ? extends V> values) {
+        values.forEach(this::put);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V existing = segment.map.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            store(segment, key, value);
+            return null;
+        }
+    }
+
+    public boolean replace(K key, V expected, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.map.get(key) != expected) {
+                return false;
+            }
+            store(segment, key, value);
+            return true;
+        }
+    }
+
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V removed = segment.map.remove(key);
+            if (removed != null) {
+                segment.weight -= weigher.applyAsLong(removed);
+            }
+            return removed;
+        }
+    }
+
+    public boolean remove(K key, V expected) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.map.get(key) != expected) {
+                return false;
+            }
+            segment.map.remove(key);
+            segment.weight -= weigher.applyAsLong(expected);
+            return true;
+        }
+    }
+
+    public void removeIf(BiPredicate<? super K, ? super V> filter) {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                Iterator<Map.Entry<K, V>> iterator = segment.map.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<K, V> entry = iterator.next();
+                    if (filter.test(entry.getKey(), entry.getValue())) {
+                        segment.weight -= weigher.applyAsLong(entry.getValue());
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    public List<Map.Entry<K, V>> entries() {
+        List<Map.Entry<K, V>> entries = new ArrayList<>();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.forEach((key, value) -> entries.add(Map.entry(key, value)));
+            }
+        }
+        return entries;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    private void store(Segment<K, V> segment, K key, V value) {
+        V previous = segment.map.put(key, value);
+        if (previous != null) {
+            segment.weight -= weigher.applyAsLong(previous);
+        }
+        segment.weight += weigher.applyAsLong(value);
+        long limit = (Math.max(0L, capacity.getAsLong()) + segments.length - 1) / segments.length;
+        Iterator<V> eldest = segment.map.values().iterator();
+        while (segment.weight > limit && eldest.hasNext()) {
+            segment.weight -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = Objects.hashCode(key);
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+    }
+}
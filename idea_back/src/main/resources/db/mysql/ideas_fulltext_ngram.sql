@@ -0,0 +1,3 @@
+-- One-off migration for search.strategy=fulltext on MySQL. Run it once, off-peak,
+-- before switching the strategy on: building the index rebuilds the ideas table.
+alter table ideas add fulltext index ft_ideas_title_description (title, description) with parser ngram;
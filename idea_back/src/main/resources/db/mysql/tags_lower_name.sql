@@ -0,0 +1,3 @@
+-- One-off migration for the tag.lower_name lookup column. Run it once after the column
+-- exists: tags created before it are otherwise invisible to name lookups.
+update tag set lower_name = lower(trim(name)) where lower_name is null;
@@ -0,0 +1,20 @@
+package com.learn.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.FileSystemResource;
+
+class DataSourcePropertiesTest {
+
+    @Test
+    void mysqlUrlReportsAffectedRatherThanFoundRows() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new FileSystemResource("src/main/resources/application.yml"));
+        Properties properties = yaml.getObject();
+
+        assertTrue(properties.getProperty("spring.datasource.url").contains("useAffectedRows=true"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.learn.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheConfigTest {
+
+    @Test
+    void customizerLeavesStatisticsOffByDefault() {
+        CacheManager cacheManager = mock(CacheManager.class);
+        Map<String, Object> properties = new HashMap<>();
+
+        new EntityCacheConfig().entityCacheCustomizer(cacheManager).customize(properties);
+
+        assertSame(cacheManager, properties.get(ConfigSettings.CACHE_MANAGER));
+        assertEquals(false, properties.get(AvailableSettings.GENERATE_STATISTICS));
+    }
+
+    @Test
+    void customizerTurnsStatisticsOnWhenConfigured() {
+        EntityCacheConfig config = new EntityCacheConfig();
+        config.setStatistics(true);
+        Map<String, Object> properties = new HashMap<>();
+
+        config.entityCacheCustomizer(mock(CacheManager.class)).customize(properties);
+
+        assertEquals(true, properties.get(AvailableSettings.GENERATE_STATISTICS));
+    }
+}
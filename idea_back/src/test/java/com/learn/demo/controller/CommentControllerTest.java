@@ -0,0 +1,140 @@
+package com.learn.demo.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.comment.CommentResponse;
+import com.learn.demo.dto.comment.CreateCommentRequest;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.UserRole;
+import com.learn.demo.enums.UserStatus;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.security.JwtTokenProvider;
+import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.CommentService;
+import com.learn.demo.service.CustomUserDetailsService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "jwt.secret=testSecretKeyForUnitTestingPurposesOnly12345678901234567890",
+    "jwt.expiration=86400000"
+})
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CommentService commentService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    void listCommentsBindsCursorAndSize() throws Exception {
+        PageResponse<CommentResponse> page = PageResponse.ofCursor(
+            List.of(CommentResponse.builder().id(3L).ideaId(6L).content("hi").build()), 5, "next");
+        when(commentService.listComments(6L, "abc", 5)).thenReturn(page);
+
+        mockMvc.perform(get("/api/ideas/6/comments")
+                .param("cursor", "abc")
+                .param("size", "5")
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].content").value("hi"))
+            .andExpect(jsonPath("$.data.nextCursor").value("next"))
+            .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    void createCommentReturns201() throws Exception {
+        CreateCommentRequest request = CreateCommentRequest.builder().content("Nice").build();
+        when(commentService.createComment(eq(6L), any(CreateCommentRequest.class), eq(7L)))
+            .thenReturn(CommentResponse.builder().id(3L).ideaId(6L).content("Nice").build());
+
+        mockMvc.perform(post("/api/ideas/6/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.data.id").value(3));
+    }
+
+    @Test
+    void createBlankCommentReturns400() throws Exception {
+        mockMvc.perform(post("/api/ideas/6/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\" \"}")
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteCommentPassesAdminFlag() throws Exception {
+        mockMvc.perform(delete("/api/ideas/6/comments/3").with(auth(UserRole.ADMIN, 1L)))
+            .andExpect(status().isOk());
+
+        verify(commentService).deleteComment(6L, 3L, 1L, true);
+    }
+
+    @Test
+    void deleteOthersCommentReturns403() throws Exception {
+        doThrow(new BusinessException(403, "Forbidden"))
+            .when(commentService).deleteComment(6L, 3L, 7L, false);
+
+        mockMvc.perform(delete("/api/ideas/6/comments/3").with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.message").value("Forbidden"));
+    }
+
+    private RequestPostProcessor auth(UserRole role, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+        user.setPassword("pass");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        UserPrincipal principal = new UserPrincipal(user);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal,
+            null,
+            principal.getAuthorities()
+        );
+        return authentication(authentication);
+    }
+}
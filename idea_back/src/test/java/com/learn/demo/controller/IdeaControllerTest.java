@@ -7,19 +7,25 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learn.demo.dto.PageResponse;
 import com.learn.demo.dto.idea.CreateIdeaRequest;
 import com.learn.demo.dto.idea.IdeaDetailResponse;
+import com.learn.demo.dto.idea.IdeaImportResult;
 import com.learn.demo.dto.idea.IdeaListResponse;
 import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.dto.idea.LikeResponse;
 import com.learn.demo.dto.idea.UpdateIdeaRequest;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.UserRole;
@@ -27,8 +33,14 @@ import com.learn.demo.enums.UserStatus;
 import com.learn.demo.exception.BusinessException;
 import com.learn.demo.security.JwtTokenProvider;
 import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.IdeaExportService;
+import com.learn.demo.service.IdeaImportService;
 import com.learn.demo.service.IdeaService;
+import com.learn.demo.service.LikeService;
 import com.learn.demo.service.CustomUserDetailsService;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -42,6 +54,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 @SpringBootTest
@@ -66,6 +79,15 @@ class IdeaControllerTest {
     @MockitoBean
     private IdeaService ideaService;
 
+    @MockitoBean
+    private LikeService likeService;
+
+    @MockitoBean
+    private IdeaExportService ideaExportService;
+
+    @MockitoBean
+    private IdeaImportService ideaImportService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -305,6 +327,34 @@ class IdeaControllerTest {
         verify(ideaService).deleteIdea(6L, 8L, true);
     }
 
+    @Test
+    void likeIdeaReturns200() throws Exception {
+        when(likeService.like(6L, 8L)).thenReturn(new LikeResponse(6L, true, 3L));
+
+        mockMvc.perform(post("/api/ideas/6/like").with(auth(UserRole.USER, 8L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.liked").value(true))
+            .andExpect(jsonPath("$.data.likeCount").value(3));
+    }
+
+    @Test
+    void unlikeIdeaReturns200() throws Exception {
+        when(likeService.unlike(6L, 8L)).thenReturn(new LikeResponse(6L, false, 2L));
+
+        mockMvc.perform(delete("/api/ideas/6/like").with(auth(UserRole.USER, 8L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.liked").value(false))
+            .andExpect(jsonPath("$.data.likeCount").value(2));
+    }
+
+    @Test
+    void likeIdeaNotFoundReturns404() throws Exception {
+        when(likeService.like(6L, 8L)).thenThrow(new BusinessException(404, "Idea not found"));
+
+        mockMvc.perform(post("/api/ideas/6/like").with(auth(UserRole.USER, 8L)))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void deleteIdeaForbiddenReturns403() throws Exception {
         doThrow(new BusinessException(403, "Forbidden"))
@@ -335,6 +385,67 @@ class IdeaControllerTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void exportIdeasStreamsNdjsonForAdmin() throws Exception {
+        when(ideaExportService.export(any(IdeaQueryRequest.class), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/ideas/export")
+                .param("tag", "java")
+                .with(auth(UserRole.ADMIN, 8L)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"ideas.ndjson\""))
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"id\":1}\n"));
+
+        ArgumentCaptor<IdeaQueryRequest> captor = ArgumentCaptor.forClass(IdeaQueryRequest.class);
+        verify(ideaExportService).export(captor.capture(), any(OutputStream.class));
+        org.junit.jupiter.api.Assertions.assertEquals("java", captor.getValue().getTag());
+    }
+
+    @Test
+    void exportIdeasForbiddenForUser() throws Exception {
+        mockMvc.perform(get("/api/ideas/export").with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void importIdeasReadsNdjsonBodyForAdmin() throws Exception {
+        when(ideaImportService.importIdeas(any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream body = invocation.getArgument(0);
+            String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            return IdeaImportResult.builder()
+                .received(text.lines().count())
+                .imported(text.lines().count())
+                .errors(List.of())
+                .build();
+        });
+
+        mockMvc.perform(post("/api/ideas/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"userId\":1}\n{\"userId\":2}\n")
+                .with(auth(UserRole.ADMIN, 8L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.received").value(2))
+            .andExpect(jsonPath("$.data.imported").value(2));
+    }
+
+    @Test
+    void importIdeasForbiddenForUser() throws Exception {
+        mockMvc.perform(post("/api/ideas/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{}")
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isForbidden());
+    }
+
     @Test
     void getMyIdeasReturns200AndBindsParams() throws Exception {
         PageResponse<IdeaListResponse> response = PageResponse.<IdeaListResponse>builder()
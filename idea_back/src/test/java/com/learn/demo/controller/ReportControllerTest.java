@@ -0,0 +1,157 @@
+package com.learn.demo.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.report.CreateReportRequest;
+import com.learn.demo.dto.report.ReportGroupResponse;
+import com.learn.demo.dto.report.ReportResolutionResponse;
+import com.learn.demo.dto.report.ReportResponse;
+import com.learn.demo.dto.report.ReportTarget;
+import com.learn.demo.dto.report.ResolveReportsRequest;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.ReportStatus;
+import com.learn.demo.enums.TargetType;
+import com.learn.demo.enums.UserRole;
+import com.learn.demo.enums.UserStatus;
+import com.learn.demo.security.JwtTokenProvider;
+import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.ReportService;
+import com.learn.demo.service.CustomUserDetailsService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "jwt.secret=testSecretKeyForUnitTestingPurposesOnly12345678901234567890",
+    "jwt.expiration=86400000"
+})
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ReportService reportService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    void createReportReturns201() throws Exception {
+        CreateReportRequest request = CreateReportRequest.builder()
+            .targetType(TargetType.IDEA).targetId(4L).reason("spam").build();
+        when(reportService.createReport(any(CreateReportRequest.class), eq(7L)))
+            .thenReturn(ReportResponse.builder().id(1L).status(ReportStatus.PENDING).build());
+
+        mockMvc.perform(post("/api/reports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.data.status").value("PENDING"));
+    }
+
+    @Test
+    void adminListsPendingGroups() throws Exception {
+        PageResponse<ReportGroupResponse> page = PageResponse.<ReportGroupResponse>builder()
+            .content(List.of(ReportGroupResponse.builder().targetType(TargetType.IDEA).targetId(4L).reportCount(3).build()))
+            .page(1)
+            .size(5)
+            .totalElements(-1)
+            .totalPages(-1)
+            .build();
+        when(reportService.listPendingGroups(1, 5)).thenReturn(page);
+
+        mockMvc.perform(get("/api/admin/reports")
+                .param("page", "1")
+                .param("size", "5")
+                .with(auth(UserRole.ADMIN, 1L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].reportCount").value(3));
+    }
+
+    @Test
+    void nonAdminCannotUseModerationQueue() throws Exception {
+        mockMvc.perform(get("/api/admin/reports").with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isForbidden());
+
+        verify(reportService, never()).listPendingGroups(anyInt(), anyInt());
+    }
+
+    @Test
+    void adminResolvesTargets() throws Exception {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.RESOLVED)
+            .targets(List.of(new ReportTarget(TargetType.COMMENT, 9L)))
+            .build();
+        when(reportService.resolve(any(ResolveReportsRequest.class)))
+            .thenReturn(new ReportResolutionResponse(2, 0, 1));
+
+        mockMvc.perform(post("/api/admin/reports/resolve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(auth(UserRole.ADMIN, 1L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.reports").value(2))
+            .andExpect(jsonPath("$.data.deletedComments").value(1));
+    }
+
+    @Test
+    void resolveWithoutTargetsReturns400() throws Exception {
+        mockMvc.perform(post("/api/admin/reports/resolve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"RESOLVED\",\"targets\":[]}")
+                .with(auth(UserRole.ADMIN, 1L)))
+            .andExpect(status().isBadRequest());
+    }
+
+    private RequestPostProcessor auth(UserRole role, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+        user.setPassword("pass");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        UserPrincipal principal = new UserPrincipal(user);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal,
+            null,
+            principal.getAuthorities()
+        );
+        return authentication(authentication);
+    }
+}
@@ -0,0 +1,106 @@
+package com.learn.demo.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.learn.demo.dto.tag.TagResponse;
+import com.learn.demo.dto.tag.TrendingTagResponse;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.UserRole;
+import com.learn.demo.enums.UserStatus;
+import com.learn.demo.security.JwtTokenProvider;
+import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.TagService;
+import com.learn.demo.service.CustomUserDetailsService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "jwt.secret=testSecretKeyForUnitTestingPurposesOnly12345678901234567890",
+    "jwt.expiration=86400000"
+})
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TagService tagService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    void suggestReturnsTags() throws Exception {
+        when(tagService.suggest("ja", 5)).thenReturn(List.of(new TagResponse(1L, "Java", 3L)));
+
+        mockMvc.perform(get("/api/tags/suggest")
+                .param("prefix", "ja")
+                .param("limit", "5")
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].name").value("Java"))
+            .andExpect(jsonPath("$.data[0].usageCount").value(3));
+    }
+
+    @Test
+    void suggestDefaultsToBlankPrefix() throws Exception {
+        when(tagService.suggest("", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/tags/suggest").with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isOk());
+
+        verify(tagService).suggest("", 10);
+    }
+
+    @Test
+    void trendingReturnsTagsForWindow() throws Exception {
+        when(tagService.trending("1h", 10)).thenReturn(List.of(new TrendingTagResponse(1L, "Java", 4L, "1h")));
+
+        mockMvc.perform(get("/api/tags/trending")
+                .param("window", "1h")
+                .with(auth(UserRole.USER, 7L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].count").value(4))
+            .andExpect(jsonPath("$.data[0].window").value("1h"));
+    }
+
+    private RequestPostProcessor auth(UserRole role, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+        user.setPassword("pass");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        UserPrincipal principal = new UserPrincipal(user);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal,
+            null,
+            principal.getAuthorities()
+        );
+        return authentication(authentication);
+    }
+}
@@ -1,8 +1,11 @@
 package com.learn.demo.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +39,54 @@ class ImagesConverterTest {
     void convertToEntityAttributeReturnsEmptyOnInvalidJson() {
         assertTrue(converter.convertToEntityAttribute("not-json").isEmpty());
     }
+
+    @Test
+    void uploadedUrlsAreStoredRelativeToTheBaseUrl() {
+        ImagesConverter prefixed = new ImagesConverter("http://localhost:8080/");
+        List<String> images = List.of("http://localhost:8080/uploads/a.png", "https://cdn.example.com/uploads/b.png");
+
+        String json = prefixed.convertToDatabaseColumn(images);
+
+        assertEquals("[\"/uploads/a.png\",\"https://cdn.example.com/uploads/b.png\"]", json);
+        assertEquals(images, prefixed.convertToEntityAttribute(json));
+        assertEquals(List.of("/uploads/a.png", "https://cdn.example.com/uploads/b.png"), converter.convertToEntityAttribute(json));
+    }
+
+    @Test
+    void escapesRoundTrip() {
+        List<String> images = Arrays.asList("a\"b\\c", "line\nbreak\u0001", "caf\u00e9", null);
+
+        String json = converter.convertToDatabaseColumn(images);
+
+        assertEquals("[\"a\\\"b\\\\c\",\"line\\nbreak\\u0001\",\"caf\u00e9\",null]", json);
+        assertEquals(images, new ArrayList<>(converter.convertToEntityAttribute(json)));
+        assertEquals(List.of("caf\u00e9", "/"), converter.convertToEntityAttribute("[\"caf\\u00e9\", \"\\/\"]"));
+    }
+
+    @Test
+    void firstImageIsReadWithoutDecodingTheRest() {
+        List<String> images = converter.convertToEntityAttribute("[\"a\",\"b\" oops]");
+
+        assertEquals("a", images.get(0));
+        assertEquals(List.of("a", "b"), images);
+    }
+
+    @Test
+    void unusualLayoutsFallBackToJackson() {
+        assertEquals(List.of("a", "b"), converter.convertToEntityAttribute(" [ \"a\" ,\n \"b\" ] "));
+        assertEquals(List.of("1", "true"), converter.convertToEntityAttribute("[1,true]"));
+        assertTrue(converter.convertToEntityAttribute(" [ ] ").isEmpty());
+        assertTrue(converter.convertToEntityAttribute("[\"a\\q\"]").isEmpty());
+    }
+
+    @Test
+    void unchangedLoadedListsAreWrittenBackVerbatim() {
+        String json = "[ \"a\", \"b\" ]";
+        List<String> loaded = converter.convertToEntityAttribute(json);
+
+        assertSame(json, converter.convertToDatabaseColumn(loaded));
+        assertEquals("[\"a\",\"b\"]", new ImagesConverter("http://host").convertToDatabaseColumn(loaded));
+        assertEquals(loaded, converter.convertToEntityAttribute(json));
+        assertEquals(List.of("a", "b").hashCode(), loaded.hashCode());
+    }
 }
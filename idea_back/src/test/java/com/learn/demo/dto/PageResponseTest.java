@@ -1,6 +1,7 @@
 package com.learn.demo.dto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 class PageResponseTest {
 
@@ -22,6 +24,36 @@ class PageResponseTest {
         assertEquals(2, response.getSize());
         assertEquals(5, response.getTotalElements());
         assertEquals(3, response.getTotalPages());
+        assertTrue(response.isHasNext());
+        assertFalse(response.isTotalEstimated());
+    }
+
+    @Test
+    void ofSliceUsesGivenTotal() {
+        PageResponse<String> response = PageResponse.ofSlice(new SliceImpl<>(List.of("a"), PageRequest.of(0, 2), true), 5, true);
+        assertEquals(5, response.getTotalElements());
+        assertEquals(3, response.getTotalPages());
+        assertTrue(response.isHasNext());
+        assertTrue(response.isTotalEstimated());
+    }
+
+    @Test
+    void ofSliceWithUnknownTotal() {
+        PageResponse<String> response = PageResponse.ofSlice(new SliceImpl<>(List.of(), PageRequest.of(1, 2), false), -1, false);
+        assertEquals(-1, response.getTotalElements());
+        assertEquals(-1, response.getTotalPages());
+        assertFalse(response.isHasNext());
+    }
+
+    @Test
+    void ofCursorBuildsPageResponseWithoutTotals() {
+        PageResponse<String> response = PageResponse.ofCursor(List.of("a"), 1, "next");
+        assertEquals(List.of("a"), response.getContent());
+        assertEquals(1, response.getSize());
+        assertEquals(-1, response.getTotalElements());
+        assertEquals(-1, response.getTotalPages());
+        assertEquals("next", response.getNextCursor());
+        assertTrue(response.isHasNext());
     }
 
     @Test
@@ -0,0 +1,52 @@
+package com.learn.demo.dto.idea;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.learn.demo.repository.projection.IdeaCardView;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class IdeaListResponseSerializerTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void fragmentCardSerializesLikeTheFullCard() {
+        IdeaCardView card = buildCard();
+        IdeaListResponse full = IdeaListResponse.fromCard(card, true);
+        String staticJson = mapper.writeValueAsString(new IdeaListResponseSerializer.StaticFields(full));
+        IdeaListResponse spliced = IdeaListResponse.ofFragment(
+            card, true, new SerializedString(staticJson.substring(0, staticJson.lastIndexOf('}'))));
+
+        JsonNode expected = mapper.readTree(mapper.writeValueAsString(full));
+        JsonNode actual = mapper.readTree(mapper.writeValueAsBytes(List.of(spliced, spliced))).get(1);
+
+        assertEquals(expected, actual);
+        assertEquals(3L, actual.get("likeCount").asLong());
+        assertTrue(actual.get("liked").asBoolean());
+        assertEquals("Java", actual.get("tags").get(0).asString());
+    }
+
+    @Test
+    void staticFieldsLeaveOutCountsAndLikedFlag() {
+        JsonNode node = mapper.readTree(mapper.writeValueAsString(
+            new IdeaListResponseSerializer.StaticFields(IdeaListResponse.fromCard(buildCard(), false))));
+
+        assertEquals(7L, node.get("id").asLong());
+        assertEquals("neo", node.get("author").get("username").asString());
+        assertFalse(node.has("likeCount"));
+        assertFalse(node.has("liked"));
+    }
+
+    private static IdeaCardView buildCard() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        return new IdeaCardView(7L, "Título \"quoted\" 想法", "Desc", List.of("a.png"), 3L, 1L, 0.0, createdAt, createdAt,
+            2L, "neo", null, List.of("Java"));
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -71,4 +73,15 @@ class IdeaQueryRequestTest {
         assertNull(request.getTag());
         assertNull(request.getUserId());
     }
+
+    @Test
+    void resolveTagNamesMergesSingleAndMultipleTags() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder()
+            .tag("Java")
+            .tags(Arrays.asList("spring, JAVA", null, " ", "Cloud"))
+            .build();
+
+        assertEquals(List.of("cloud", "java", "spring"), request.resolveTagNames());
+        assertTrue(IdeaQueryRequest.builder().build().resolveTagNames().isEmpty());
+    }
 }
@@ -2,6 +2,7 @@ package com.learn.demo.entity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +45,18 @@ class IdeaTest {
         // hashCode consistency
         assertEquals(idea1.hashCode(), idea2.hashCode());
     }
+
+    @Test
+    void setDescriptionKeepsTheSnippetInStep() {
+        Idea idea = new Idea();
+
+        idea.setDescription("x".repeat(Idea.SNIPPET_LENGTH + 1));
+        assertEquals("x".repeat(Idea.SNIPPET_LENGTH), idea.getSnippet());
+
+        idea.setDescription("short");
+        assertEquals("short", idea.getSnippet());
+
+        idea.setDescription(null);
+        assertNull(idea.getSnippet());
+    }
 }
@@ -2,6 +2,7 @@ package com.learn.demo.entity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,5 +44,16 @@ class TagTest {
 
         // hashCode consistency
         assertEquals(tag1.hashCode(), tag2.hashCode());
+        assertNotEquals(tag1.hashCode(), tag3.hashCode());
+    }
+
+    @Test
+    void setNameKeepsTheFoldedLookupNameInStep() {
+        Tag tag = new Tag();
+        tag.setName("  Spring Boot ");
+        assertEquals("spring boot", tag.getLowerName());
+
+        tag.setName(null);
+        assertNull(tag.getLowerName());
     }
 }
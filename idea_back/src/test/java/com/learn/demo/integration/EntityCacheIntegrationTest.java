@@ -0,0 +1,100 @@
+package com.learn.demo.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.learn.demo.config.EntityCacheConfig;
+import com.learn.demo.dto.user.UpdateUserRequest;
+import com.learn.demo.entity.User;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs with the second-level cache on and without a test transaction, so entries are only
+ * cached once their transaction commits. Uses its own database, since a rolled-back test in a
+ * shared one could leave rows behind the cache.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+    "entity-cache.statistics=true",
+    "spring.datasource.url=jdbc:h2:mem:entitycache;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private Statistics statistics;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.isStatisticsEnabled());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    void repeatedUsernameLookupsRunNoStatements() {
+        saveUser("cached", "cached@example.com");
+        userRepository.loadByUsername("cached");
+
+        User user = statementFree(() -> userRepository.loadByUsername("cached").orElseThrow());
+
+        assertEquals("cached@example.com", user.getEmail());
+        assertTrue(statistics.getDomainDataRegionStatistics(EntityCacheConfig.USERS).getHitCount() > 0);
+    }
+
+    @Test
+    void userUpdatesAreVisibleToTheNextLookup() {
+        saveUser("changing", "old@example.com");
+        userRepository.loadByUsername("changing");
+
+        userService.updateUser("changing", new UpdateUserRequest("new@example.com", null));
+
+        User user = statementFree(() -> userRepository.loadByUsername("changing").orElseThrow());
+        assertEquals("new@example.com", user.getEmail());
+    }
+
+    private <T> T statementFree(Supplier<T> action) {
+        long before = statistics.getPrepareStatementCount();
+        T result = action.get();
+        assertEquals(before, statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private User saveUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(email);
+        user = userRepository.save(user);
+        userIds.add(user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package com.learn.demo.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.idea.IdeaListResponse;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.search.FulltextSearchStrategy;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.service.IdeaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "search.strategy=fulltext")
+@Transactional
+@ActiveProfiles("test")
+class FulltextSearchFallbackIntegrationTest {
+
+    @Autowired
+    private IdeaSearchStrategy ideaSearchStrategy;
+
+    @Autowired
+    private IdeaService ideaService;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void fulltextStrategyFallsBackToLikeOnH2() {
+        FulltextSearchStrategy fulltext = assertInstanceOf(FulltextSearchStrategy.class, ideaSearchStrategy);
+        assertFalse(fulltext.isAvailable());
+
+        User user = new User();
+        user.setUsername("fulltext");
+        user.setPassword("password");
+        user = userRepository.save(user);
+        Idea idea = new Idea();
+        idea.setUser(user);
+        idea.setTitle("屋顶太阳能");
+        idea.setDescription("desc");
+        idea.setStatus(IdeaStatus.ACTIVE);
+        idea = ideaRepository.save(idea);
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(
+            IdeaQueryRequest.builder().keyword("太阳").sort("relevance").build(), null);
+
+        assertEquals(1, response.getContent().size());
+        assertEquals(idea.getId(), response.getContent().get(0).getId());
+    }
+}
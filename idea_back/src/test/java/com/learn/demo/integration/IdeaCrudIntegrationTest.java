@@ -12,25 +12,46 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.CounterConfig;
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.comment.CreateCommentRequest;
 import com.learn.demo.dto.idea.CreateIdeaRequest;
+import com.learn.demo.dto.idea.IdeaImportResult;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
 import com.learn.demo.dto.idea.UpdateIdeaRequest;
+import com.learn.demo.dto.report.CreateReportRequest;
+import com.learn.demo.dto.report.ReportTarget;
+import com.learn.demo.dto.report.ResolveReportsRequest;
 import com.learn.demo.entity.Idea;
 import com.learn.demo.entity.Like;
 import com.learn.demo.entity.Tag;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.ReportStatus;
+import com.learn.demo.enums.TargetType;
 import com.learn.demo.enums.UserRole;
 import com.learn.demo.enums.UserStatus;
 import com.learn.demo.repository.IdeaRepository;
 import com.learn.demo.repository.LikeRepository;
 import com.learn.demo.repository.TagRepository;
 import com.learn.demo.repository.UserRepository;
+import com.learn.demo.search.IdeaSearchIndex;
+import com.learn.demo.search.IdeaTagIndex;
 import com.learn.demo.security.JwtTokenProvider;
 import com.learn.demo.security.UserPrincipal;
+import com.learn.demo.service.CounterService;
+import com.learn.demo.service.IdeaExportService;
+import com.learn.demo.service.IdeaFragmentCache;
+import com.learn.demo.service.IdeaImportService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -70,6 +91,33 @@ class IdeaCrudIntegrationTest {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private IdeaSearchIndex ideaSearchIndex;
+
+    @Autowired
+    private IdeaTagIndex ideaTagIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CounterConfig counterConfig;
+
+    @Autowired
+    private CounterService counterService;
+
+    @Autowired
+    private IdeaImportService ideaImportService;
+
+    @Autowired
+    private IdeaExportService ideaExportService;
+
+    @Autowired
+    private ListingConfig listingConfig;
+
+    @Autowired
+    private IdeaFragmentCache ideaFragmentCache;
+
     @Test
     void fullCrudWorkflowUpdatesTagsAndSnippet() throws Exception {
         User author = saveUser("author", UserRole.USER);
@@ -111,6 +159,8 @@ class IdeaCrudIntegrationTest {
                 .content(objectMapper.writeValueAsString(updateRequest)))
             .andExpect(status().isOk());
 
+        entityManager.flush();
+        entityManager.clear();
         Tag spring = tagRepository.findByNameIgnoreCase("Spring").orElseThrow();
         Tag java = tagRepository.findByNameIgnoreCase("Java").orElseThrow();
         Tag db = tagRepository.findByNameIgnoreCase("DB").orElseThrow();
@@ -138,6 +188,8 @@ class IdeaCrudIntegrationTest {
             .andReturn();
         assertEquals(0, readJson(afterDelete).path("data").path("totalElements").asLong());
 
+        entityManager.flush();
+        entityManager.clear();
         Idea deleted = ideaRepository.findById(ideaId).orElseThrow();
         assertEquals(IdeaStatus.DELETED, deleted.getStatus());
         Tag javaAfterDelete = tagRepository.findByNameIgnoreCase("Java").orElseThrow();
@@ -146,6 +198,33 @@ class IdeaCrudIntegrationTest {
         assertEquals(0L, dbAfterDelete.getUsageCount());
     }
 
+    @Test
+    void ideasShareTagsAcrossSpellingsAndCreateMissingOnesTogether() throws Exception {
+        User author = saveUser("tagger", UserRole.USER);
+        saveTag("Kotlin", 3L);
+        for (List<String> tags : List.of(List.of("kotlin", "Rust", "Zig"), List.of("KOTLIN", "rust"))) {
+            CreateIdeaRequest request = CreateIdeaRequest.builder()
+                .title("Tagged")
+                .description("Desc")
+                .tags(tags)
+                .build();
+            mockMvc.perform(post("/api/ideas")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", bearer(author))
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(5L, tagRepository.findByNameIgnoreCase("kotlin").orElseThrow().getUsageCount());
+        Tag rust = tagRepository.findByNameIgnoreCase("rust").orElseThrow();
+        assertEquals("Rust", rust.getName());
+        assertEquals(2L, rust.getUsageCount());
+        assertEquals(1L, tagRepository.findByNameIgnoreCase("zig").orElseThrow().getUsageCount());
+        assertEquals(3, tagRepository.findByLowerNameIn(List.of("kotlin", "rust", "zig")).size());
+    }
+
     @Test
     void permissionEnforcementBlocksNonOwnerAllowsAdmin() throws Exception {
         User author = saveUser("owner", UserRole.USER);
@@ -180,6 +259,27 @@ class IdeaCrudIntegrationTest {
         assertEquals(IdeaStatus.DELETED, deleted.getStatus());
     }
 
+    @Test
+    void hotSortOrdersByStoredScore() throws Exception {
+        User user = saveUser("hotuser", UserRole.USER);
+        Idea cold = saveIdea(user, "Cold", "Desc", Set.of());
+        Idea warm = saveIdea(user, "Warm", "Desc", Set.of());
+        Idea hot = saveIdea(user, "Hot", "Desc", Set.of());
+        ideaRepository.updateHotScores(Map.of(cold.getId(), 0.1, warm.getId(), 0.5, hot.getId(), 2.0));
+
+        MvcResult result = mockMvc.perform(get("/api/ideas")
+                .param("sort", "hot")
+                .param("userId", String.valueOf(user.getId()))
+                .header("Authorization", bearer(user)))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode content = readJson(result).path("data").path("content");
+        assertEquals(3, content.size());
+        assertEquals(hot.getId(), content.get(0).path("id").asLong());
+        assertEquals(warm.getId(), content.get(1).path("id").asLong());
+        assertEquals(cold.getId(), content.get(2).path("id").asLong());
+    }
+
     @Test
     void paginationAndSortingWorkAcrossPages() throws Exception {
         User user = saveUser("pager", UserRole.USER);
@@ -199,12 +299,15 @@ class IdeaCrudIntegrationTest {
         MvcResult page0 = mockMvc.perform(get("/api/ideas")
                 .param("page", "0")
                 .param("size", "10")
+                .param("count", "exact")
                 .header("Authorization", bearer(user)))
             .andExpect(status().isOk())
             .andReturn();
         JsonNode page0Data = readJson(page0).path("data");
         assertEquals(25, page0Data.path("totalElements").asLong());
         assertEquals(3, page0Data.path("totalPages").asInt());
+        assertTrue(page0Data.path("hasNext").asBoolean());
+        assertFalse(page0Data.path("totalEstimated").asBoolean());
         assertEquals(10, page0Data.path("content").size());
 
         MvcResult page2 = mockMvc.perform(get("/api/ideas")
@@ -239,6 +342,44 @@ class IdeaCrudIntegrationTest {
         assertTrue(!firstCreated.isAfter(lastCreated));
     }
 
+    @Test
+    void cursorPaginationWalksAllPagesWithFilters() throws Exception {
+        User user = saveUser("cursor", UserRole.USER);
+        User other = saveUser("cursorOther", UserRole.USER);
+        Tag java = saveTag("cursorJava", 5L);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Idea idea = saveIdea(user, "Idea " + i, "Desc " + i, Set.of(java));
+            idea.setLikeCount((long) (i % 2));
+            expected.add(ideaRepository.save(idea).getId());
+        }
+        saveIdea(other, "Other", "Desc", Set.of(java));
+        ideaTagIndex.rebuild();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/api/ideas")
+                    .param("cursor", cursor)
+                    .param("size", "2")
+                    .param("sort", "likeCount,desc")
+                    .param("tag", "cursorjava")
+                    .param("userId", user.getId().toString())
+                    .header("Authorization", bearer(user)))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode data = readJson(result).path("data");
+            seen.addAll(toIdList(data.path("content")));
+            cursor = data.hasNonNull("nextCursor") ? data.path("nextCursor").asText() : null;
+            pages++;
+        }
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+        assertTrue(seen.containsAll(expected));
+    }
+
     @Test
     void filteringByKeywordTagAndUserIdWorks() throws Exception {
         User user1 = saveUser("filter1", UserRole.USER);
@@ -249,6 +390,10 @@ class IdeaCrudIntegrationTest {
         Idea alpha = saveIdea(user1, "Alpha Idea", "Something", Set.of(java));
         Idea beta = saveIdea(user1, "Other", "Contains Beta", Set.of(spring));
         Idea gamma = saveIdea(user2, "Gamma", "Another", Set.of(java));
+        Idea solar = saveIdea(user2, "屋顶太阳能", "分布式发电", Set.of());
+        Idea both = saveIdea(user2, "Both", "Tagged twice", Set.of(java, spring));
+        ideaSearchIndex.rebuild();
+        ideaTagIndex.rebuild();
 
         MvcResult keywordTitle = mockMvc.perform(get("/api/ideas")
                 .param("keyword", "alpha")
@@ -268,15 +413,39 @@ class IdeaCrudIntegrationTest {
         assertEquals(1, descIds.size());
         assertTrue(descIds.contains(beta.getId()));
 
+        MvcResult keywordCjk = mockMvc.perform(get("/api/ideas")
+                .param("keyword", "太阳能")
+                .header("Authorization", bearer(user1)))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertEquals(List.of(solar.getId()), toIdList(readJson(keywordCjk).path("data").path("content")));
+
         MvcResult tagFilter = mockMvc.perform(get("/api/ideas")
                 .param("tag", "java")
                 .header("Authorization", bearer(user1)))
             .andExpect(status().isOk())
             .andReturn();
         List<Long> tagIds = toIdList(readJson(tagFilter).path("data").path("content"));
-        assertEquals(2, tagIds.size());
-        assertTrue(tagIds.contains(alpha.getId()));
-        assertTrue(tagIds.contains(gamma.getId()));
+        assertEquals(3, tagIds.size());
+        assertTrue(tagIds.containsAll(List.of(alpha.getId(), gamma.getId(), both.getId())));
+
+        MvcResult allTags = mockMvc.perform(get("/api/ideas")
+                .param("tags", "java,Spring")
+                .param("tagMode", "all")
+                .header("Authorization", bearer(user1)))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertEquals(List.of(both.getId()), toIdList(readJson(allTags).path("data").path("content")));
+
+        MvcResult anyTags = mockMvc.perform(get("/api/ideas")
+                .param("tags", "java", "spring", "missing")
+                .param("tagMode", "any")
+                .header("Authorization", bearer(user1)))
+            .andExpect(status().isOk())
+            .andReturn();
+        List<Long> anyIds = toIdList(readJson(anyTags).path("data").path("content"));
+        assertEquals(4, anyIds.size());
+        assertTrue(anyIds.containsAll(List.of(alpha.getId(), beta.getId(), gamma.getId(), both.getId())));
 
         MvcResult userFilter = mockMvc.perform(get("/api/ideas")
                 .param("userId", user1.getId().toString())
@@ -314,6 +483,271 @@ class IdeaCrudIntegrationTest {
         assertTrue(withLikeContent.get(0).path("liked").asBoolean());
     }
 
+    @Test
+    void likeAndUnlikeAdjustCountOnlyOnChange() throws Exception {
+        User author = saveUser("likeAuthor", UserRole.USER);
+        User fan = saveUser("likeFan", UserRole.USER);
+        Idea idea = saveIdea(author, "Likeable", "Desc", Set.of());
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult liked = mockMvc.perform(post("/api/ideas/" + idea.getId() + "/like")
+                    .header("Authorization", bearer(fan)))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode data = readJson(liked).path("data");
+            assertTrue(data.path("liked").asBoolean());
+            assertEquals(1, data.path("likeCount").asLong());
+        }
+        assertEquals(1, likeRepository.countByIdeaId(idea.getId()));
+
+        MvcResult detail = mockMvc.perform(get("/api/ideas/" + idea.getId())
+                .header("Authorization", bearer(fan)))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertTrue(readJson(detail).path("data").path("liked").asBoolean());
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult unliked = mockMvc.perform(delete("/api/ideas/" + idea.getId() + "/like")
+                    .header("Authorization", bearer(fan)))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode data = readJson(unliked).path("data");
+            assertFalse(data.path("liked").asBoolean());
+            assertEquals(0, data.path("likeCount").asLong());
+        }
+
+        mockMvc.perform(post("/api/ideas/999999/like")
+                .header("Authorization", bearer(fan)))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void writeBehindLikesReachTheIdeaOnFlush() throws Exception {
+        User author = saveUser("wbAuthor", UserRole.USER);
+        Idea idea = saveIdea(author, "Buffered", "Desc", Set.of());
+        List<User> fans = List.of(saveUser("wbFan1", UserRole.USER), saveUser("wbFan2", UserRole.USER));
+
+        counterConfig.setWriteBehind(true);
+        try {
+            for (User fan : fans) {
+                mockMvc.perform(post("/api/ideas/" + idea.getId() + "/like")
+                        .header("Authorization", bearer(fan)))
+                    .andExpect(status().isOk());
+            }
+            assertEquals(0L, ideaRepository.findLikeCountById(idea.getId()).orElseThrow());
+
+            assertEquals(2, counterService.flush());
+            assertEquals(0, counterService.flush());
+        } finally {
+            counterConfig.setWriteBehind(false);
+        }
+
+        entityManager.clear();
+        assertEquals(2L, ideaRepository.findLikeCountById(idea.getId()).orElseThrow());
+    }
+
+    @Test
+    void repeatedWriteBehindLikeJournalsOneDelta() throws Exception {
+        User author = saveUser("wbRepeatAuthor", UserRole.USER);
+        User fan = saveUser("wbRepeatFan", UserRole.USER);
+        Idea idea = saveIdea(author, "Liked twice", "Desc", Set.of());
+
+        counterConfig.setWriteBehind(true);
+        try {
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(post("/api/ideas/" + idea.getId() + "/like")
+                        .header("Authorization", bearer(fan)))
+                    .andExpect(status().isOk());
+            }
+            assertEquals(1, counterService.flush());
+        } finally {
+            counterConfig.setWriteBehind(false);
+        }
+
+        entityManager.clear();
+        assertEquals(1L, ideaRepository.findLikeCountById(idea.getId()).orElseThrow());
+    }
+
+    @Test
+    void cachedListFragmentsRenderTheSameCards() throws Exception {
+        User author = saveUser("fragmentAuthor", UserRole.USER);
+        User reader = saveUser("fragmentReader", UserRole.USER);
+        Idea idea = saveIdea(author, "Fragment \"quoted\"", "é".repeat(250), Set.of(saveTag("Cached", 1L)));
+        saveIdea(author, "Plain", "Desc", Set.of());
+        Like like = new Like();
+        like.setUser(reader);
+        like.setIdea(idea);
+        likeRepository.save(like);
+        entityManager.flush();
+        entityManager.clear();
+
+        JsonNode direct = listContent(author, reader);
+        listingConfig.setFragmentCacheSize(100);
+        try {
+            JsonNode rendered = listContent(author, reader);
+            JsonNode cached = listContent(author, reader);
+
+            assertEquals(2, ideaFragmentCache.size());
+            assertEquals(direct, rendered);
+            assertEquals(direct, cached);
+        } finally {
+            listingConfig.setFragmentCacheSize(0);
+            ideaFragmentCache.clear();
+        }
+        assertEquals(2, direct.size());
+        assertEquals(1, direct.findValues("liked").stream().filter(JsonNode::asBoolean).count());
+    }
+
+    private JsonNode listContent(User author, User reader) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/ideas")
+                .param("userId", String.valueOf(author.getId()))
+                .header("Authorization", bearer(reader)))
+            .andExpect(status().isOk())
+            .andReturn();
+        return readJson(result).path("data").path("content");
+    }
+
+    @Test
+    void commentsPageByCursorAndMaintainCommentCount() throws Exception {
+        User author = saveUser("commentAuthor", UserRole.USER);
+        User reader = saveUser("commentReader", UserRole.USER);
+        Idea idea = saveIdea(author, "Discussed", "Desc", Set.of());
+
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MvcResult result = mockMvc.perform(post("/api/ideas/" + idea.getId() + "/comments")
+                    .header("Authorization", bearer(reader))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                        CreateCommentRequest.builder().content("Comment " + i).build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.author.username").value("commentReader"))
+                .andReturn();
+            created.add(readJson(result).path("data").path("id").asLong());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult page = mockMvc.perform(get("/api/ideas/" + idea.getId() + "/comments")
+                    .param("size", "2")
+                    .param("cursor", cursor == null ? "" : cursor)
+                    .header("Authorization", bearer(reader)))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode data = readJson(page).path("data");
+            data.path("content").forEach(node -> seen.add(node.path("id").asLong()));
+            cursor = data.hasNonNull("nextCursor") ? data.path("nextCursor").asText() : null;
+        } while (cursor != null);
+        assertEquals(3, seen.size());
+        assertTrue(seen.containsAll(created));
+
+        mockMvc.perform(delete("/api/ideas/" + idea.getId() + "/comments/" + created.get(0))
+                .header("Authorization", bearer(author)))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/ideas/" + idea.getId() + "/comments/" + created.get(0))
+                .header("Authorization", bearer(reader)))
+            .andExpect(status().isOk());
+        entityManager.clear();
+        mockMvc.perform(delete("/api/ideas/" + idea.getId() + "/comments/" + created.get(0))
+                .header("Authorization", bearer(reader)))
+            .andExpect(status().isNotFound());
+
+        entityManager.clear();
+        mockMvc.perform(get("/api/ideas/" + idea.getId())
+                .header("Authorization", bearer(reader)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.commentCount").value(2));
+    }
+
+    @Test
+    void moderatorResolvesGroupedReportsInBulk() throws Exception {
+        User author = saveUser("reportedAuthor", UserRole.USER);
+        User reporter = saveUser("reporterOne", UserRole.USER);
+        User admin = saveUser("moderator", UserRole.ADMIN);
+        Idea idea = saveIdea(author, "Reported", "Desc", Set.of());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/reports")
+                    .header("Authorization", bearer(reporter))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(CreateReportRequest.builder()
+                        .targetType(TargetType.IDEA).targetId(idea.getId()).reason("spam " + i).build())))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/admin/reports").header("Authorization", bearer(reporter)))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/reports").header("Authorization", bearer(admin)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].targetId").value(idea.getId()))
+            .andExpect(jsonPath("$.data.content[0].reportCount").value(2));
+
+        ResolveReportsRequest resolve = ResolveReportsRequest.builder()
+            .status(ReportStatus.RESOLVED)
+            .targets(List.of(new ReportTarget(TargetType.IDEA, idea.getId())))
+            .build();
+        mockMvc.perform(post("/api/admin/reports/resolve")
+                .header("Authorization", bearer(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(resolve)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.reports").value(2))
+            .andExpect(jsonPath("$.data.hiddenIdeas").value(1));
+
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(IdeaStatus.HIDDEN, ideaRepository.findById(idea.getId()).orElseThrow().getStatus());
+        mockMvc.perform(get("/api/admin/reports").header("Authorization", bearer(admin)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").isEmpty());
+        mockMvc.perform(get("/api/ideas/" + idea.getId()).header("Authorization", bearer(reporter)))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/ideas/" + idea.getId() + "/like").header("Authorization", bearer(reporter)))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/ideas").header("Authorization", bearer(reporter))
+                .param("userId", String.valueOf(author.getId())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").isEmpty());
+    }
+
+    @Test
+    void importedIdeasShareTagsAndComeBackThroughTheExport() throws Exception {
+        User author = saveUser("importer", UserRole.USER);
+        Tag existing = new Tag();
+        existing.setName("Legacy");
+        existing.setUsageCount(0L);
+        tagRepository.save(existing);
+        String body = String.join("\n",
+            "{\"userId\":" + author.getId() + ",\"title\":\"Old one\",\"description\":\"d\",\"tags\":[\"legacy\",\"Imported\"]}",
+            "{\"userId\":-1,\"title\":\"Orphan\",\"description\":\"d\"}",
+            "{\"userId\":" + author.getId() + ",\"title\":\"Old two\",\"description\":\"d\",\"tags\":[\"LEGACY\"]}");
+
+        IdeaImportResult result = ideaImportService.importIdeas(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(2L, tagRepository.findByNameIgnoreCase("legacy").orElseThrow().getUsageCount());
+        assertEquals(1L, tagRepository.findByNameIgnoreCase("imported").orElseThrow().getUsageCount());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IdeaQueryRequest filter = IdeaQueryRequest.builder().tag("legacy").userId(author.getId()).build();
+        assertEquals(2L, ideaExportService.export(filter, out));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertEquals("Old one", lines.get(0).get("title").asText());
+        assertEquals(Set.of("Legacy", "Imported"), toStringSet(lines.get(0).get("tags")));
+        assertEquals("importer", lines.get(0).get("author").get("username").asText());
+        assertEquals("Old two", lines.get(1).get("title").asText());
+    }
+
     private User saveUser(String username, UserRole role) {
         User user = new User();
         user.setUsername(username);
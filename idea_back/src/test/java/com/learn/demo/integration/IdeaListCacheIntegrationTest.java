@@ -0,0 +1,97 @@
+package com.learn.demo.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.learn.demo.dto.idea.CreateIdeaRequest;
+import com.learn.demo.dto.idea.IdeaListResponse;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.service.IdeaListCache;
+import com.learn.demo.service.IdeaService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs with the list cache on and without a test transaction, so invalidations fire on commit.
+ */
+@SpringBootTest(properties = {
+    "listing.result-cache-max-ids=1000",
+    "spring.datasource.url=jdbc:h2:mem:listcache;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+class IdeaListCacheIntegrationTest {
+
+    @Autowired
+    private IdeaService ideaService;
+
+    @Autowired
+    private IdeaListCache ideaListCache;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> ideaIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        ideaRepository.deleteAllById(ideaIds);
+        userRepository.deleteAllById(userIds);
+        ideaListCache.clear();
+    }
+
+    @Test
+    void cachedListsServeRepeatedReadsUntilAWriteCommits() {
+        User author = saveUser("lister");
+        IdeaQueryRequest request = IdeaQueryRequest.builder().userId(author.getId()).build();
+        create(author, "First");
+
+        assertEquals(List.of("First"), titles(request));
+        assertEquals(1, ideaListCache.size());
+
+        Idea bypass = new Idea();
+        bypass.setUser(author);
+        bypass.setTitle("Unannounced");
+        bypass.setDescription("desc");
+        bypass.setStatus(IdeaStatus.ACTIVE);
+        ideaIds.add(ideaRepository.save(bypass).getId());
+        assertEquals(List.of("First"), titles(request));
+
+        create(author, "Second");
+        assertEquals(List.of("Second", "Unannounced", "First"), titles(request));
+    }
+
+    private List<String> titles(IdeaQueryRequest request) {
+        return ideaService.listIdeas(request, null).getContent().stream().map(IdeaListResponse::getTitle).toList();
+    }
+
+    private void create(User author, String title) {
+        CreateIdeaRequest request = CreateIdeaRequest.builder()
+            .title(title)
+            .description("desc")
+            .tags(List.of())
+            .build();
+        ideaIds.add(ideaService.createIdea(request, author.getId()).getId());
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user = userRepository.save(user);
+        userIds.add(user.getId());
+        return user;
+    }
+}
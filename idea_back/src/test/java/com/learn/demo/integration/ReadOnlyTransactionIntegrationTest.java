@@ -0,0 +1,160 @@
+package com.learn.demo.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.IdeaRepositoryImpl;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.service.CommentService;
+import com.learn.demo.service.CustomUserDetailsService;
+import com.learn.demo.service.IdeaExportService;
+import com.learn.demo.service.IdeaService;
+import com.learn.demo.service.LikedIdeasCache;
+import com.learn.demo.service.ReportService;
+import com.learn.demo.service.UserService;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs without a test transaction, so every call opens its own transaction the way a request
+ * does.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadOnlyTransactionIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IdeaService ideaService;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private LikedIdeasCache likedIdeasCache;
+
+    private final List<Long> ideaIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        ideaRepository.deleteAllById(ideaIds);
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    void readMethodsDeclareReadOnlyTransactions() throws Exception {
+        Map<Class<?>, List<String>> readMethods = Map.of(
+            IdeaService.class, List.of("listIdeas", "getCurrentUserIdeas", "getIdeaDetail"),
+            IdeaExportService.class, List.of("export"),
+            UserService.class, List.of("getCurrentUser"),
+            CustomUserDetailsService.class, List.of("loadUserByUsername"),
+            CommentService.class, List.of("listComments"),
+            ReportService.class, List.of("listPendingGroups"),
+            IdeaRepositoryImpl.class, List.of("findIdPage", "findIdSlice", "findIds", "findCardsByIdIn"));
+        AnnotationTransactionAttributeSource source = new AnnotationTransactionAttributeSource();
+
+        readMethods.forEach((type, names) -> names.forEach(name -> {
+            TransactionAttribute attribute = source.getTransactionAttribute(method(type, name), type);
+            assertNotNull(attribute, type.getSimpleName() + "." + name);
+            assertTrue(attribute.isReadOnly(), type.getSimpleName() + "." + name);
+        }));
+        for (String write : List.of("updateUser", "changePassword")) {
+            assertFalse(source.getTransactionAttribute(method(UserService.class, write), UserService.class).isReadOnly());
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsUseReadOnlySessionsAndConnections() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Object> state = readOnly.execute(status -> sessionState());
+
+        assertEquals(List.of(true, true, true, FlushMode.MANUAL, true), state);
+        List<Object> readWrite = new TransactionTemplate(transactionManager).execute(status -> sessionState());
+        assertEquals(List.of(true, false, false, FlushMode.AUTO, false), readWrite);
+    }
+
+    @Test
+    void ideaDetailRunsInAReadOnlySession() {
+        User user = new User();
+        user.setUsername("readonly");
+        user.setPassword("password");
+        user = userRepository.save(user);
+        userIds.add(user.getId());
+        Idea idea = new Idea();
+        idea.setUser(user);
+        idea.setTitle("Read only");
+        idea.setDescription("desc");
+        idea.setStatus(IdeaStatus.ACTIVE);
+        idea = ideaRepository.save(idea);
+        ideaIds.add(idea.getId());
+        List<Object> state = new ArrayList<>();
+        doAnswer(invocation -> {
+            state.addAll(sessionState());
+            return invocation.callRealMethod();
+        }).when(likedIdeasCache).isLiked(any(), any());
+
+        ideaService.getIdeaDetail(idea.getId(), user.getId());
+
+        assertEquals(List.of(true, true, true, FlushMode.MANUAL, true), state);
+    }
+
+    /**
+     * Returns whether a transaction is active, whether it is read-only, whether the session
+     * loads entities read-only, the session flush mode and whether the JDBC connection is
+     * read-only.
+     */
+    private List<Object> sessionState() {
+        Session session = entityManager.unwrap(Session.class);
+        return List.of(
+            TransactionSynchronizationManager.isActualTransactionActive(),
+            TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+            session.isDefaultReadOnly(),
+            session.getHibernateFlushMode(),
+            session.doReturningWork(Connection::isReadOnly));
+    }
+
+    private static Method method(Class<?> type, String name) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(type.getSimpleName() + "." + name);
+    }
+}
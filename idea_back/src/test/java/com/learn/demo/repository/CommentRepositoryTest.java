@@ -1,6 +1,7 @@
 package com.learn.demo.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.learn.demo.entity.Comment;
@@ -8,9 +9,14 @@ import com.learn.demo.entity.Idea;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.CommentStatus;
 import com.learn.demo.enums.IdeaStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -74,6 +80,57 @@ class CommentRepositoryTest {
         assertEquals(0, commentRepository.countByIdeaIdAndStatus(1L, CommentStatus.ACTIVE));
     }
 
+    @Test
+    void keysetQueriesPageNewestFirstAndSkipDeleted() {
+        User user = userRepository.save(buildUser("keyset", "keyset@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(user, "Idea", "Desc"));
+        Comment first = commentRepository.save(buildComment(user, idea, "One", CommentStatus.ACTIVE));
+        Comment second = commentRepository.save(buildComment(user, idea, "Two", CommentStatus.ACTIVE));
+        Comment third = commentRepository.save(buildComment(user, idea, "Three", CommentStatus.ACTIVE));
+        commentRepository.save(buildComment(user, idea, "Gone", CommentStatus.DELETED));
+        commentRepository.flush();
+
+        List<Comment> newest = commentRepository.findNewest(idea.getId(), CommentStatus.ACTIVE, Limit.of(2));
+        Comment last = newest.get(newest.size() - 1);
+        List<Comment> older = commentRepository.findOlderThan(
+            idea.getId(), CommentStatus.ACTIVE, last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        List<Long> seen = new ArrayList<>(newest.stream().map(Comment::getId).toList());
+        seen.addAll(older.stream().map(Comment::getId).toList());
+        assertEquals(3, seen.size());
+        assertTrue(seen.containsAll(List.of(first.getId(), second.getId(), third.getId())));
+    }
+
+    @Test
+    void updateStatusOnlyChangesMatchingRows() {
+        User user = userRepository.save(buildUser("softdel", "softdel@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(user, "Idea", "Desc"));
+        Comment comment = commentRepository.save(buildComment(user, idea, "Bye", CommentStatus.ACTIVE));
+
+        assertEquals(1, commentRepository.updateStatus(comment.getId(), CommentStatus.ACTIVE, CommentStatus.DELETED));
+        assertEquals(0, commentRepository.updateStatus(comment.getId(), CommentStatus.ACTIVE, CommentStatus.DELETED));
+        assertEquals(0, commentRepository.countByIdeaIdAndStatus(idea.getId(), CommentStatus.ACTIVE));
+    }
+
+    @Test
+    void lockByIdInAndStatusReturnsOnlyActiveCommentsForTheBulkDelete() {
+        User user = userRepository.save(buildUser("bulkc", "bulkc@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(user, "Idea", "Desc"));
+        Idea other = ideaRepository.save(buildIdea(user, "Other", "Desc"));
+        Comment first = commentRepository.save(buildComment(user, idea, "One", CommentStatus.ACTIVE));
+        Comment second = commentRepository.save(buildComment(user, idea, "Two", CommentStatus.ACTIVE));
+        Comment gone = commentRepository.save(buildComment(user, other, "Gone", CommentStatus.DELETED));
+        List<Long> ids = List.of(first.getId(), second.getId(), gone.getId());
+
+        List<Comment> locked = commentRepository.lockByIdInAndStatus(ids, CommentStatus.ACTIVE);
+        int deleted = commentRepository.updateStatusByIdIn(ids, CommentStatus.ACTIVE, CommentStatus.DELETED);
+
+        assertEquals(Set.of(first.getId(), second.getId()), locked.stream().map(Comment::getId).collect(Collectors.toSet()));
+        assertTrue(locked.stream().allMatch(comment -> comment.getIdea().getId().equals(idea.getId())));
+        assertEquals(2, deleted);
+        assertFalse(commentRepository.existsByIdAndStatus(first.getId(), CommentStatus.ACTIVE));
+    }
+
     private User buildUser(String username, String email) {
         User user = new User();
         user.setUsername(username);
@@ -0,0 +1,59 @@
+package com.learn.demo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.learn.demo.entity.CounterDelta;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.repository.projection.CounterTotalView;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CounterDeltaRepositoryTest {
+
+    @Autowired
+    private CounterDeltaRepository counterDeltaRepository;
+
+    @Test
+    void appendWritesOneRowPerTargetInInsertOrder() {
+        assertEquals(2, counterDeltaRepository.append(CounterKind.TAG_USAGE, List.of(4L, 2L), -1L));
+        assertEquals(1, counterDeltaRepository.append(CounterKind.IDEA_LIKES, List.of(9L), 1L));
+        assertEquals(0, counterDeltaRepository.append(CounterKind.IDEA_LIKES, List.of(), 1L));
+        assertEquals(0, counterDeltaRepository.append(CounterKind.IDEA_LIKES, List.of(9L), 0L));
+
+        List<CounterDelta> oldest = counterDeltaRepository.claimOldest(Limit.of(2));
+        assertEquals(List.of(4L, 2L), oldest.stream().map(CounterDelta::getTargetId).toList());
+        assertEquals(CounterKind.TAG_USAGE, oldest.get(0).getKind());
+        assertEquals(-1L, oldest.get(0).getDelta());
+    }
+
+    @Test
+    void sumByTargetTotalsTheJournalPerTarget() {
+        counterDeltaRepository.append(CounterKind.IDEA_LIKES, List.of(1L, 2L), 1L);
+        counterDeltaRepository.append(CounterKind.IDEA_LIKES, List.of(1L), 1L);
+        counterDeltaRepository.append(CounterKind.TAG_USAGE, List.of(1L), -1L);
+
+        Map<String, Long> totals = counterDeltaRepository.sumByTarget().stream()
+            .collect(Collectors.toMap(view -> view.getKind() + ":" + view.getTargetId(), CounterTotalView::getTotal));
+
+        assertEquals(Map.of("IDEA_LIKES:1", 2L, "IDEA_LIKES:2", 1L, "TAG_USAGE:1", -1L), totals);
+    }
+
+    @Test
+    void deleteByIdInRemovesOnlyTheGivenRows() {
+        counterDeltaRepository.append(CounterKind.IDEA_COMMENTS, List.of(1L, 2L, 3L), 1L);
+        List<CounterDelta> rows = counterDeltaRepository.claimOldest(Limit.of(2));
+
+        assertEquals(2, counterDeltaRepository.deleteByIdIn(rows.stream().map(CounterDelta::getId).toList()));
+
+        List<CounterDelta> remaining = counterDeltaRepository.claimOldest(Limit.of(10));
+        assertEquals(List.of(3L), remaining.stream().map(CounterDelta::getTargetId).toList());
+    }
+}
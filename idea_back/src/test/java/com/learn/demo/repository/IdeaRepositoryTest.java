@@ -1,17 +1,41 @@
 package com.learn.demo.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.learn.demo.dto.idea.IdeaQueryRequest;
 import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.projection.IdeaCardView;
+import com.learn.demo.repository.projection.IdeaEngagementView;
+import com.learn.demo.repository.projection.IdeaOwnerView;
+import com.learn.demo.repository.projection.IdeaTagNameView;
+import com.learn.demo.repository.projection.IdeaTagUsageView;
+import com.learn.demo.specification.IdeaSpecifications;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -24,6 +48,12 @@ class IdeaRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByUserIdReturnsOnlyUsersIdeas() {
         User owner = userRepository.save(buildUser("owner", "owner@example.com"));
@@ -106,6 +136,273 @@ class IdeaRepositoryTest {
         assertTrue(statusMismatch.isEmpty());
     }
 
+    @Test
+    void findIdPageReturnsSortedIdsWithTotalForTagFilter() {
+        User owner = userRepository.save(buildUser("ids", "ids@example.com"));
+        Tag green = tagRepository.save(buildTag("Green"));
+        Tag blue = tagRepository.save(buildTag("Blue"));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Idea idea = buildIdea(owner, "Idea " + i, "Desc", IdeaStatus.ACTIVE);
+            idea.setTags(new HashSet<>(Set.of(green, blue)));
+            ids.add(ideaRepository.save(idea).getId());
+        }
+        ideaRepository.save(buildIdea(owner, "Untagged", "Desc", IdeaStatus.ACTIVE));
+
+        Specification<Idea> spec = IdeaSpecifications.combine(IdeaQueryRequest.builder().tag("green").build());
+        Page<Long> page = ideaRepository.findIdPage(spec, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(ids.get(2), ids.get(1)), page.getContent());
+    }
+
+    @Test
+    void findIdSliceDetectsNextPageWithoutCounting() {
+        User owner = userRepository.save(buildUser("slice", "slice@example.com"));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(ideaRepository.save(buildIdea(owner, "Idea " + i, "d", IdeaStatus.ACTIVE)).getId());
+        }
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+
+        Slice<Long> first = ideaRepository.findIdSlice(null, PageRequest.of(0, 2, sort));
+        Slice<Long> last = ideaRepository.findIdSlice(null, PageRequest.of(1, 2, sort));
+
+        assertEquals(ids.subList(0, 2), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(ids.get(2)), last.getContent());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void hotScoreUpdatesAndEngagementBatches() {
+        User owner = userRepository.save(buildUser("hot", "hot@example.com"));
+        Idea active = buildIdea(owner, "Hot", "d", IdeaStatus.ACTIVE);
+        active.setLikeCount(3L);
+        active = ideaRepository.save(active);
+        Idea deleted = ideaRepository.save(buildIdea(owner, "Gone", "d", IdeaStatus.DELETED));
+        entityManager.flush();
+
+        List<IdeaEngagementView> batch = ideaRepository.findEngagementBatch(
+            0L, LocalDateTime.now().minusDays(1), IdeaStatus.ACTIVE, PageRequest.of(0, 10));
+        assertEquals(List.of(active.getId()), batch.stream().map(IdeaEngagementView::getId).toList());
+        assertEquals(3L, batch.get(0).getLikeCount());
+
+        ideaRepository.updateHotScores(Map.of(active.getId(), 2.5, deleted.getId(), 1.0));
+        ideaRepository.updateHotScores(Map.of());
+        entityManager.clear();
+        assertEquals(2.5, ideaRepository.findById(active.getId()).orElseThrow().getHotScore());
+        assertEquals(1.0, ideaRepository.findById(deleted.getId()).orElseThrow().getHotScore());
+
+        assertEquals(Optional.of(active.getId()), ideaRepository.findFirstIdCreatedSince(LocalDateTime.now().minusDays(1)));
+        assertEquals(Optional.empty(), ideaRepository.findFirstIdCreatedSince(LocalDateTime.now().plusDays(1)));
+        assertEquals(2, ideaRepository.clearHotScoresBefore(LocalDateTime.now().plusDays(1)));
+        assertEquals(0, ideaRepository.clearHotScoresBefore(LocalDateTime.now().plusDays(1)));
+        entityManager.clear();
+
+        assertEquals(0.0, ideaRepository.findById(active.getId()).orElseThrow().getHotScore());
+        assertEquals(List.of(active.getId()), ideaRepository.findEngagementByIdIn(List.of(active.getId(), -1L)).stream()
+            .map(IdeaEngagementView::getId).toList());
+    }
+
+    @Test
+    void adjustLikeCountsClampsAtZero() {
+        User owner = userRepository.save(buildUser("counter", "counter@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(owner, "Count", "d", IdeaStatus.ACTIVE));
+        Idea other = ideaRepository.save(buildIdea(owner, "Other", "d", IdeaStatus.ACTIVE));
+
+        assertEquals(2, ideaRepository.adjustLikeCounts(List.of(idea.getId(), other.getId()), 3));
+        assertEquals(1, ideaRepository.adjustLikeCounts(List.of(idea.getId()), -5));
+        assertEquals(0L, ideaRepository.findLikeCountById(idea.getId()).orElseThrow());
+        assertEquals(3L, ideaRepository.findLikeCountById(other.getId()).orElseThrow());
+        assertTrue(ideaRepository.existsByIdAndStatus(idea.getId(), IdeaStatus.ACTIVE));
+        assertFalse(ideaRepository.existsByIdAndStatus(idea.getId(), IdeaStatus.HIDDEN));
+    }
+
+    @Test
+    void adjustCommentCountsClampsAtZero() {
+        User owner = userRepository.save(buildUser("comments", "comments@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(owner, "Count", "d", IdeaStatus.ACTIVE));
+
+        assertEquals(1, ideaRepository.adjustCommentCounts(List.of(idea.getId()), 2));
+        assertEquals(1, ideaRepository.adjustCommentCounts(List.of(idea.getId()), -1));
+        entityManager.clear();
+        assertEquals(1L, ideaRepository.findById(idea.getId()).orElseThrow().getCommentCount());
+        ideaRepository.adjustCommentCounts(List.of(idea.getId()), -4);
+        entityManager.clear();
+        assertEquals(0L, ideaRepository.findById(idea.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void hidingLocksOwnersUpdatesInBulkAndReadsTagUsages() {
+        User owner = userRepository.save(buildUser("hider", "hider@example.com"));
+        Tag tag = tagRepository.save(buildTag("Hidden"));
+        Idea active = buildIdea(owner, "A", "d", IdeaStatus.ACTIVE);
+        active.setTags(new HashSet<>(Set.of(tag)));
+        active = ideaRepository.save(active);
+        Idea deleted = ideaRepository.save(buildIdea(owner, "B", "d", IdeaStatus.DELETED));
+        entityManager.flush();
+        List<Long> ids = List.of(active.getId(), deleted.getId());
+
+        List<IdeaOwnerView> owners = ideaRepository.lockOwnersByIdInAndStatus(ids, IdeaStatus.ACTIVE);
+        assertEquals(List.of(active.getId()), owners.stream().map(IdeaOwnerView::getId).toList());
+        assertEquals(owner.getId(), owners.get(0).getUserId());
+
+        assertEquals(1, ideaRepository.updateStatusByIdIn(ids, IdeaStatus.ACTIVE, IdeaStatus.HIDDEN));
+        entityManager.clear();
+        assertEquals(IdeaStatus.HIDDEN, ideaRepository.findById(active.getId()).orElseThrow().getStatus());
+        assertEquals(IdeaStatus.DELETED, ideaRepository.findById(deleted.getId()).orElseThrow().getStatus());
+
+        List<IdeaTagUsageView> usages = ideaRepository.findTagUsagesByIdeaIdIn(ids);
+        assertEquals(1, usages.size());
+        assertEquals(active.getId(), usages.get(0).getIdeaId());
+        assertEquals(tag.getId(), usages.get(0).getTagId());
+        assertEquals("Hidden", usages.get(0).getName());
+        assertEquals(1L, usages.get(0).getUsageCount());
+    }
+
+    @Test
+    void findIdsAppliesSortAndLimit() {
+        User owner = userRepository.save(buildUser("limit", "limit@example.com"));
+        Idea first = ideaRepository.save(buildIdea(owner, "A", "d", IdeaStatus.ACTIVE));
+        Idea second = ideaRepository.save(buildIdea(owner, "B", "d", IdeaStatus.ACTIVE));
+        ideaRepository.save(buildIdea(owner, "C", "d", IdeaStatus.ACTIVE));
+
+        List<Long> ids = ideaRepository.findIds(null, Sort.by(Sort.Direction.ASC, "id"), 2);
+
+        assertEquals(List.of(first.getId(), second.getId()), ids);
+    }
+
+    @Test
+    void findCardsByIdInProjectsCardsWithoutManagedEntities() {
+        User owner = userRepository.save(buildUser("graph", "graph@example.com"));
+        Tag tag = tagRepository.save(buildTag("Graph"));
+        Tag other = tagRepository.save(buildTag("Other"));
+        Idea idea = buildIdea(owner, "Graph", "d".repeat(Idea.SNIPPET_LENGTH + 10), IdeaStatus.ACTIVE);
+        idea.setImages(List.of("a.png"));
+        idea.setTags(new HashSet<>(Set.of(tag, other)));
+        Long id = ideaRepository.save(idea).getId();
+        Long untagged = ideaRepository.save(buildIdea(owner, "Plain", "d", IdeaStatus.ACTIVE)).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<IdeaCardView> loaded = ideaRepository.findCardsByIdIn(List.of(id, untagged));
+
+        assertEquals(2, loaded.size());
+        IdeaCardView card = loaded.stream().filter(view -> view.id().equals(id)).findFirst().orElseThrow();
+        assertEquals("d".repeat(Idea.SNIPPET_LENGTH), card.snippet());
+        assertEquals("Graph", card.title());
+        assertEquals(List.of("a.png"), card.images());
+        assertEquals(owner.getId(), card.authorId());
+        assertEquals("graph", card.authorUsername());
+        assertEquals(Set.of("Graph", "Other"), new HashSet<>(card.tags()));
+        assertNotNull(card.updatedAt());
+        assertTrue(loaded.stream().filter(view -> view.id().equals(untagged))
+            .findFirst().orElseThrow().tags().isEmpty());
+        assertEquals(0, entityManager.getEntityManager().unwrap(SessionImplementor.class)
+            .getPersistenceContext().getNumberOfManagedEntities());
+        assertTrue(ideaRepository.findCardsByIdIn(List.of()).isEmpty());
+    }
+
+    @Test
+    void backfillSnippetsFillsRowsWrittenBeforeTheColumnExisted() {
+        User owner = userRepository.save(buildUser("legacy", "legacy@example.com"));
+        Long id = ideaRepository.save(buildIdea(owner, "Legacy", "e".repeat(250), IdeaStatus.ACTIVE)).getId();
+        Long empty = ideaRepository.save(buildIdea(owner, "Empty", null, IdeaStatus.ACTIVE)).getId();
+        entityManager.flush();
+        entityManager.getEntityManager().createQuery("update Idea i set i.snippet = null").executeUpdate();
+        entityManager.clear();
+
+        assertEquals(0, ideaRepository.backfillSnippets(id, empty, Idea.SNIPPET_LENGTH));
+        assertEquals(1, ideaRepository.backfillSnippets(0L, id, Idea.SNIPPET_LENGTH));
+        entityManager.clear();
+
+        assertEquals("e".repeat(Idea.SNIPPET_LENGTH), ideaRepository.findById(id).orElseThrow().getSnippet());
+        assertNull(ideaRepository.findById(empty).orElseThrow().getSnippet());
+        assertEquals(0, ideaRepository.backfillSnippets(0L, empty, Idea.SNIPPET_LENGTH));
+        assertEquals(empty.longValue(), ideaRepository.findMaxId());
+    }
+
+    @Test
+    void streamAllWalksFilteredIdeasInIdOrderWithTheirTagNames() {
+        User owner = userRepository.save(buildUser("stream", "stream@example.com"));
+        Tag green = tagRepository.save(buildTag("Green"));
+        Tag blue = tagRepository.save(buildTag("Blue"));
+        Idea first = buildIdea(owner, "First", "Desc", IdeaStatus.ACTIVE);
+        first.setTags(new HashSet<>(Set.of(green, blue)));
+        Long firstId = ideaRepository.save(first).getId();
+        Idea second = buildIdea(owner, "Second", "Desc", IdeaStatus.ACTIVE);
+        second.setTags(new HashSet<>(Set.of(green)));
+        Long secondId = ideaRepository.save(second).getId();
+        ideaRepository.save(buildIdea(owner, "Untagged", "Desc", IdeaStatus.ACTIVE));
+        Idea deleted = buildIdea(owner, "Deleted", "Desc", IdeaStatus.DELETED);
+        deleted.setTags(new HashSet<>(Set.of(green)));
+        ideaRepository.save(deleted);
+        entityManager.flush();
+        entityManager.clear();
+
+        Specification<Idea> spec = IdeaSpecifications.combine(IdeaQueryRequest.builder().tag("green").build());
+        List<Idea> streamed;
+        try (Stream<Idea> ideas = ideaRepository.streamAll(spec, 1)) {
+            streamed = ideas.toList();
+        }
+
+        assertEquals(List.of(firstId, secondId), streamed.stream().map(Idea::getId).toList());
+        assertTrue(Hibernate.isInitialized(streamed.get(0).getUser()));
+        List<IdeaTagNameView> names = ideaRepository.findTagNamesByIdeaIdIn(List.of(firstId, secondId));
+        assertEquals(3, names.size());
+        assertEquals(Set.of("Green", "Blue"), names.stream()
+            .filter(view -> view.getIdeaId().equals(firstId))
+            .map(IdeaTagNameView::getName)
+            .collect(java.util.stream.Collectors.toSet()));
+    }
+
+    @Test
+    void insertBatchAssignsGeneratedIdsAndLinksTags() {
+        User owner = userRepository.save(buildUser("batch", "batch@example.com"));
+        Tag green = tagRepository.save(buildTag("Green"));
+        Tag blue = tagRepository.save(buildTag("Blue"));
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<Idea> ideas = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Idea idea = buildIdea(owner, "Imported " + i, "Desc " + i, IdeaStatus.ACTIVE);
+            idea.setImages(i == 0 ? List.of("a.png") : null);
+            idea.setTags(i == 2 ? new HashSet<>() : new HashSet<>(i == 0 ? Set.of(green, blue) : Set.of(green)));
+            idea.setCreatedAt(now);
+            idea.setUpdatedAt(now);
+            ideas.add(idea);
+        }
+
+        ideaRepository.insertBatch(ideas);
+        entityManager.clear();
+
+        List<Long> ids = ideas.stream().map(Idea::getId).toList();
+        assertEquals(3, new HashSet<>(ids).size());
+        List<IdeaCardView> loaded = ideaRepository.findCardsByIdIn(ids);
+        assertEquals(3, loaded.size());
+        IdeaCardView card = loaded.stream().filter(view -> view.id().equals(ids.get(0))).findFirst().orElseThrow();
+        assertEquals("Imported 0", card.title());
+        assertEquals("Desc 0", card.snippet());
+        Idea first = ideaRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals(List.of("a.png"), first.getImages());
+        assertEquals(owner.getId(), first.getUser().getId());
+        assertEquals(now, first.getCreatedAt());
+        assertEquals(2, first.getTags().size());
+        assertEquals(List.of(ids.get(0), ids.get(1)), ideaRepository.findTagNamesByIdeaIdIn(ids).stream()
+            .filter(view -> view.getName().equals("Green"))
+            .map(IdeaTagNameView::getIdeaId)
+            .sorted()
+            .toList());
+        assertEquals(List.of(owner.getId()), userRepository.findExistingIds(List.of(owner.getId(), -1L)));
+    }
+
+    private Tag buildTag(String name) {
+        Tag tag = new Tag();
+        tag.setName(name);
+        tag.setUsageCount(1L);
+        return tag;
+    }
+
     private User buildUser(String username, String email) {
         User user = new User();
         user.setUsername(username);
@@ -0,0 +1,34 @@
+package com.learn.demo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.learn.demo.entity.JobCheckpoint;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class JobCheckpointRepositoryTest {
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void saveOverwritesThePositionStoredUnderTheJobName() {
+        jobCheckpointRepository.save(new JobCheckpoint("job", 10L, null));
+        jobCheckpointRepository.save(new JobCheckpoint("job", 25L, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        JobCheckpoint stored = jobCheckpointRepository.findById("job").orElseThrow();
+        assertEquals(25L, stored.getPosition());
+        assertNotNull(stored.getUpdatedAt());
+        assertEquals(1L, jobCheckpointRepository.count());
+    }
+}
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -39,6 +41,20 @@ class LikeRepositoryTest {
         assertTrue(likeRepository.existsByUserIdAndIdeaId(user.getId(), idea.getId()));
     }
 
+    @Test
+    void insertIfAbsentIgnoresDuplicatesAndDeleteReportsRowCount() {
+        User user = userRepository.save(buildUser("upsert", "upsert@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(user, "Idea", "Desc"));
+
+        assertEquals(1, likeRepository.insertIfAbsent(user.getId(), idea.getId()));
+        assertEquals(0, likeRepository.insertIfAbsent(user.getId(), idea.getId()));
+        assertEquals(1, likeRepository.countByIdeaId(idea.getId()));
+        assertTrue(likeRepository.findByUserIdAndIdeaId(user.getId(), idea.getId()).orElseThrow().getCreatedAt() != null);
+
+        assertEquals(1, likeRepository.deleteByUserIdAndIdeaId(user.getId(), idea.getId()));
+        assertEquals(0, likeRepository.deleteByUserIdAndIdeaId(user.getId(), idea.getId()));
+    }
+
     @Test
     void countByIdeaIdReturnsZeroWhenNoLikes() {
         User user = userRepository.save(buildUser("countuser", "count@example.com"));
@@ -101,6 +117,32 @@ class LikeRepositoryTest {
         assertTrue(likes.stream().allMatch(like -> like.getIdea().getId().equals(idea1.getId())));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findIdeaIdsByUserIdReturnsLikedIdeaIds() {
+        User user = userRepository.save(buildUser("members", "members@example.com"));
+        User other = userRepository.save(buildUser("members2", "members2@example.com"));
+        Idea idea1 = ideaRepository.save(buildIdea(user, "Idea1", "Desc1"));
+        Idea idea2 = ideaRepository.save(buildIdea(user, "Idea2", "Desc2"));
+        List<Like> likes = List.of(likeRepository.save(buildLike(user, idea1)), likeRepository.save(buildLike(other, idea2)));
+        try {
+            assertEquals(List.of(idea1.getId()), likeRepository.findIdeaIdsByUserId(user.getId()));
+        } finally {
+            likeRepository.deleteAll(likes);
+            ideaRepository.deleteAll(List.of(idea1, idea2));
+            userRepository.deleteAll(List.of(user, other));
+        }
+    }
+
+    @Test
+    void findIdeaIdsByUserIdReadsOutsideTheCallersTransaction() {
+        User user = userRepository.save(buildUser("members3", "members3@example.com"));
+        Idea idea = ideaRepository.save(buildIdea(user, "Idea", "Desc"));
+        likeRepository.saveAndFlush(buildLike(user, idea));
+
+        assertEquals(List.of(), likeRepository.findIdeaIdsByUserId(user.getId()));
+    }
+
     @Test
     void findByUserIdAndIdeaIdInIgnoresMissingIdeas() {
         User user = userRepository.save(buildUser("batch4", "batch4@example.com"));
@@ -1,18 +1,21 @@
 package com.learn.demo.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.learn.demo.entity.Report;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.ReportStatus;
 import com.learn.demo.enums.TargetType;
+import com.learn.demo.repository.projection.ReportGroupView;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -76,6 +79,40 @@ class ReportRepositoryTest {
         assertEquals(0, reportRepository.countByStatus(ReportStatus.REJECTED));
     }
 
+    @Test
+    void findGroupsByStatusAggregatesPerTargetMostReportedFirst() {
+        User reporter = userRepository.save(buildUser("grouper", "grouper@example.com"));
+        reportRepository.save(buildReport(reporter, TargetType.IDEA, 1L, ReportStatus.PENDING));
+        reportRepository.save(buildReport(reporter, TargetType.COMMENT, 2L, ReportStatus.PENDING));
+        reportRepository.save(buildReport(reporter, TargetType.COMMENT, 2L, ReportStatus.PENDING));
+        reportRepository.save(buildReport(reporter, TargetType.IDEA, 1L, ReportStatus.RESOLVED));
+
+        Slice<ReportGroupView> first = reportRepository.findGroupsByStatus(ReportStatus.PENDING, PageRequest.of(0, 1));
+        Slice<ReportGroupView> second = reportRepository.findGroupsByStatus(ReportStatus.PENDING, PageRequest.of(1, 1));
+
+        assertEquals(TargetType.COMMENT, first.getContent().get(0).getTargetType());
+        assertEquals(2L, first.getContent().get(0).getReportCount());
+        assertTrue(first.hasNext());
+        assertEquals(1L, second.getContent().get(0).getTargetId());
+        assertEquals(1L, second.getContent().get(0).getReportCount());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void updateStatusByTargetsOnlyTouchesPendingReportsOfTargets() {
+        User reporter = userRepository.save(buildUser("bulkr", "bulkr@example.com"));
+        reportRepository.save(buildReport(reporter, TargetType.IDEA, 1L, ReportStatus.PENDING));
+        reportRepository.save(buildReport(reporter, TargetType.IDEA, 1L, ReportStatus.PENDING));
+        reportRepository.save(buildReport(reporter, TargetType.IDEA, 1L, ReportStatus.REJECTED));
+        reportRepository.save(buildReport(reporter, TargetType.COMMENT, 1L, ReportStatus.PENDING));
+
+        int updated = reportRepository.updateStatusByTargets(
+            TargetType.IDEA, List.of(1L, 5L), ReportStatus.PENDING, ReportStatus.RESOLVED);
+
+        assertEquals(2, updated);
+        assertEquals(1, reportRepository.countByStatus(ReportStatus.PENDING));
+    }
+
     private User buildUser(String username, String email) {
         User user = new User();
         user.setUsername(username);
@@ -2,13 +2,24 @@ package com.learn.demo.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.learn.demo.entity.CounterDelta;
+import com.learn.demo.entity.Idea;
 import com.learn.demo.entity.Tag;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.projection.TagUsageView;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -18,6 +29,9 @@ class TagRepositoryTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByNameIgnoreCaseMatchesRegardlessOfCase() {
         tagRepository.save(buildTag("Java", 5L));
@@ -53,6 +67,105 @@ class TagRepositoryTest {
         assertTrue(top.get(0).getUsageCount() >= top.get(1).getUsageCount());
     }
 
+    @Test
+    void findByLowerNameInMatchesFoldedNames() {
+        Tag java = tagRepository.save(buildTag("Java", 1L));
+        tagRepository.save(buildTag("Go", 1L));
+
+        List<Tag> found = tagRepository.findByLowerNameIn(List.of("java", "rust"));
+        assertEquals(List.of(java.getId()), found.stream().map(Tag::getId).toList());
+        assertEquals(1, tagRepository.lockByLowerNameIn(List.of("go")).size());
+    }
+
+    @Test
+    void insertIgnoringConflictsSkipsExistingNames() {
+        tagRepository.save(buildTag("Java", 4L));
+
+        int inserted = tagRepository.insertIgnoringConflicts(List.of("Java", "Kotlin", "Scala"));
+
+        assertEquals(2, inserted);
+        Tag kotlin = tagRepository.findByNameIgnoreCase("kotlin").orElseThrow();
+        assertEquals(0L, kotlin.getUsageCount());
+        assertNotNull(kotlin.getCreatedAt());
+        assertEquals(4L, tagRepository.findByNameIgnoreCase("java").orElseThrow().getUsageCount());
+        assertEquals(0, tagRepository.insertIgnoringConflicts(List.of()));
+    }
+
+    @Test
+    void insertIgnoringConflictsTreatsCaseVariantsAsTheSameTag() {
+        tagRepository.save(buildTag("Java", 4L));
+
+        assertEquals(1, tagRepository.insertIgnoringConflicts(List.of("JAVA", "Zig")));
+
+        assertEquals(1, tagRepository.findByLowerNameIn(List.of("java")).size());
+        assertEquals("Zig", tagRepository.findByLowerNameIn(List.of("zig")).get(0).getName());
+    }
+
+    @Test
+    void adjustUsageUpdatesInBulkWithoutGoingNegative() {
+        Tag java = tagRepository.save(buildTag("Java", 1L));
+        Tag go = tagRepository.save(buildTag("Go", 0L));
+
+        assertEquals(2, tagRepository.adjustUsage(List.of(java.getId(), go.getId()), 2L));
+        assertEquals(2, tagRepository.adjustUsage(List.of(java.getId(), go.getId()), -3L));
+        entityManager.clear();
+
+        assertEquals(0L, tagRepository.findById(java.getId()).orElseThrow().getUsageCount());
+        assertEquals(0L, tagRepository.findById(go.getId()).orElseThrow().getUsageCount());
+    }
+
+    @Test
+    void findUsageBatchCountsActiveIdeasAndPendingDeltas() {
+        Tag java = tagRepository.save(buildTag("Java", 5L));
+        Tag go = tagRepository.save(buildTag("Go", 0L));
+        Tag rust = tagRepository.save(buildTag("Rust", 1L));
+        User owner = new User();
+        owner.setUsername("tagowner");
+        owner.setPassword("secret123");
+        owner.setEmail("tagowner@example.com");
+        entityManager.persist(owner);
+        entityManager.persist(buildIdea(owner, IdeaStatus.ACTIVE, Set.of(java, go)));
+        entityManager.persist(buildIdea(owner, IdeaStatus.HIDDEN, Set.of(java)));
+        entityManager.persist(buildIdea(owner, IdeaStatus.DELETED, Set.of(java, rust)));
+        entityManager.persist(new CounterDelta(null, CounterKind.TAG_USAGE, go.getId(), 1L, null));
+        entityManager.persist(new CounterDelta(null, CounterKind.IDEA_LIKES, go.getId(), 7L, null));
+        entityManager.flush();
+
+        List<TagUsageView> first = tagRepository.findUsageBatch(0L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2));
+        assertEquals(List.of(java.getId(), go.getId()), first.stream().map(TagUsageView::getId).toList());
+        assertEquals(1L, first.get(0).getLinked());
+        assertEquals(0L, first.get(0).getPending());
+        assertEquals(5L, first.get(0).getUsageCount());
+        assertEquals(1L, first.get(1).getLinked());
+        assertEquals(1L, first.get(1).getPending());
+
+        List<TagUsageView> rest = tagRepository.findUsageBatch(go.getId(), IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2));
+        assertEquals(1, rest.size());
+        assertEquals("Rust", rest.get(0).getName());
+        assertEquals(0L, rest.get(0).getLinked());
+    }
+
+    @Test
+    void compareAndSetUsageWritesOnlyWhenUnchanged() {
+        Tag java = tagRepository.save(buildTag("Java", 5L));
+
+        assertEquals(0, tagRepository.compareAndSetUsage(java.getId(), 4L, 2L));
+        assertEquals(1, tagRepository.compareAndSetUsage(java.getId(), 5L, 2L));
+        entityManager.clear();
+
+        assertEquals(2L, tagRepository.findById(java.getId()).orElseThrow().getUsageCount());
+    }
+
+    private Idea buildIdea(User owner, IdeaStatus status, Set<Tag> tags) {
+        Idea idea = new Idea();
+        idea.setUser(owner);
+        idea.setTitle("Tagged");
+        idea.setDescription("d");
+        idea.setStatus(status);
+        idea.setTags(new HashSet<>(tags));
+        return idea;
+    }
+
     private Tag buildTag(String name, Long usageCount) {
         Tag tag = new Tag();
         tag.setName(name);
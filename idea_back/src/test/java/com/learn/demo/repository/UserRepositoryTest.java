@@ -34,6 +34,17 @@ class UserRepositoryTest {
         assertTrue(found.isEmpty());
     }
 
+    @Test
+    void loadByUsernameResolvesTheNaturalId() {
+        User saved = userRepository.save(buildUser("dana", "dana@example.com"));
+
+        Optional<User> found = userRepository.loadByUsername("dana");
+        assertTrue(found.isPresent());
+        assertEquals(saved.getId(), found.get().getId());
+        assertTrue(userRepository.loadByUsername("missing").isEmpty());
+        assertTrue(userRepository.loadByUsername(null).isEmpty());
+    }
+
     @Test
     void existsByUsernameReturnsTrueWhenPresent() {
         userRepository.save(buildUser("bob", "bob@example.com"));
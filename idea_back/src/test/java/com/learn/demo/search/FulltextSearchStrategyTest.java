@@ -0,0 +1,90 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.repository.IdeaRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FulltextSearchStrategyTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private FulltextSearchStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new FulltextSearchStrategy(ideaRepository, jdbcTemplate);
+    }
+
+    @Test
+    void staysUnavailableOnNonMysqlDatabase() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        strategy.onApplicationReady();
+
+        assertFalse(strategy.isAvailable());
+        assertTrue(strategy.search("solar", 10).isEmpty());
+        verify(ideaRepository, never()).searchFulltextIds(anyString(), anyInt());
+    }
+
+    @Test
+    void staysUnavailableWhenTheIndexIsMissing() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(FulltextSearchStrategy.INDEX_NAME)))
+            .thenReturn(0);
+
+        strategy.onApplicationReady();
+
+        assertFalse(strategy.isAvailable());
+        assertTrue(strategy.search("solar", 10).isEmpty());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void searchesOnceTheIndexExists() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(FulltextSearchStrategy.INDEX_NAME)))
+            .thenReturn(1);
+        when(ideaRepository.searchFulltextIds("+太阳能 +roof", 20)).thenReturn(List.of(7L, 2L));
+
+        strategy.onApplicationReady();
+
+        assertTrue(strategy.isAvailable());
+        verify(jdbcTemplate, never()).execute(anyString());
+        assertEquals(Optional.of(List.of(7L, 2L)), strategy.search("太阳能 roof", 20));
+        assertTrue(strategy.search("+-*", 20).isEmpty());
+    }
+
+    @Test
+    void toBooleanQueryStripsOperatorsAndRequiresEveryTerm() {
+        assertEquals("+solar +grid", FulltextSearchStrategy.toBooleanQuery(" solar  \"grid*\" "));
+        assertEquals("", FulltextSearchStrategy.toBooleanQuery(null));
+        assertEquals("", FulltextSearchStrategy.toBooleanQuery("()"));
+    }
+
+    @Test
+    void likeStrategyNeverRanks() {
+        assertTrue(new LikeSearchStrategy().search("solar", 10).isEmpty());
+    }
+}
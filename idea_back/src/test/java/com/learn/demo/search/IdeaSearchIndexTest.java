@@ -0,0 +1,124 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaTextView;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaSearchIndexTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private SearchConfig searchConfig;
+    private IdeaSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new SearchConfig();
+        searchConfig.setRebuildBatchSize(2);
+        index = new IdeaSearchIndex(ideaRepository, searchConfig);
+    }
+
+    @Test
+    void searchIsUnavailableUntilBuilt() {
+        assertFalse(index.isReady());
+        assertTrue(index.search("solar", 10).isEmpty());
+    }
+
+    @Test
+    void rebuildLoadsAllBatches() {
+        when(ideaRepository.findTextBatch(eq(0L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(view(1L, "Solar grid", "clean energy"), view(2L, "Wind farm", "energy")));
+        when(ideaRepository.findTextBatch(eq(2L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(view(3L, "太阳能板", "屋顶发电")));
+
+        index.onApplicationReady();
+
+        assertTrue(index.isReady());
+        assertEquals(3, index.size());
+        assertEquals(Optional.of(List.of(2L, 1L)), index.search("energy", 10));
+        assertEquals(Optional.of(List.of(3L)), index.search("太阳能", 10));
+        assertEquals(Optional.of(List.of()), index.search("energy 发电", 10));
+    }
+
+    @Test
+    void searchRanksTitleMatchesAboveDescriptionAndMatchesPrefixes() {
+        buildEmpty();
+        index.put(1L, "Notes", "solar panels everywhere");
+        index.put(2L, "Solar roof", "cheap");
+        index.put(3L, "Other", "nothing");
+
+        assertEquals(Optional.of(List.of(2L, 1L)), index.search("sol", 10));
+        assertEquals(Optional.of(List.of(2L)), index.search("sol", 1));
+        assertTrue(index.search("??", 10).isEmpty());
+    }
+
+    @Test
+    void indexReplacesAndRemovesDocuments() {
+        buildEmpty();
+        Idea idea = new Idea();
+        idea.setId(5L);
+        idea.setTitle("Garden robot");
+        idea.setDescription("weeds");
+        idea.setStatus(IdeaStatus.ACTIVE);
+        index.index(idea);
+        assertEquals(Optional.of(List.of(5L)), index.search("robot", 10));
+
+        idea.setTitle("Garden drone");
+        index.index(idea);
+        assertEquals(Optional.of(List.of()), index.search("robot", 10));
+        assertEquals(Optional.of(List.of(5L)), index.search("drone", 10));
+
+        idea.setStatus(IdeaStatus.DELETED);
+        index.index(idea);
+        assertEquals(Optional.of(List.of()), index.search("drone", 10));
+        assertEquals(0, index.size());
+
+        index.index(new Idea());
+        index.remove(99L);
+        assertEquals(0, index.size());
+    }
+
+    private void buildEmpty() {
+        when(ideaRepository.findTextBatch(eq(0L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of());
+        index.rebuild();
+    }
+
+    private IdeaTextView view(Long id, String title, String description) {
+        return new IdeaTextView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.repository.projection.IdeaTagView;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaTagIndexTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private SearchConfig searchConfig;
+    private IdeaTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new SearchConfig();
+        searchConfig.setRebuildBatchSize(2);
+        index = new IdeaTagIndex(ideaRepository, tagRepository, searchConfig);
+    }
+
+    @Test
+    void matchIsUnavailableUntilBuilt() {
+        assertFalse(index.isReady());
+        assertTrue(index.match(List.of("java"), TagMatchMode.ALL).isEmpty());
+    }
+
+    @Test
+    void rebuildLoadsPairsAcrossBatchesAndAnswersAllAndAny() {
+        buildIndex();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.tagCount());
+        assertEquals(3, index.ideaCount());
+        assertEquals(Optional.of(List.of(1L)), index.match(List.of("java", "spring"), TagMatchMode.ALL));
+        assertEquals(Optional.of(List.of(1L, 2L, 3L)), index.match(List.of("Java", "spring"), TagMatchMode.ANY));
+        assertEquals(Optional.of(List.of()), index.match(List.of("java", "missing"), TagMatchMode.ALL));
+        assertEquals(Optional.of(List.of(1L, 2L)), index.match(List.of("java", "missing"), TagMatchMode.ANY));
+        assertTrue(index.match(List.of(), TagMatchMode.ANY).isEmpty());
+    }
+
+    @Test
+    void indexReplacesTagsAndRegistersNewTagNames() {
+        buildIndex();
+        Tag cloud = buildTag(30L, "Cloud");
+        Tag spring = buildTag(20L, "Spring");
+
+        index.index(buildIdea(2L, IdeaStatus.ACTIVE, spring, cloud));
+
+        assertEquals(Optional.of(List.of(1L)), index.match(List.of("java"), TagMatchMode.ALL));
+        assertEquals(Optional.of(List.of(2L)), index.match(List.of("cloud", "spring"), TagMatchMode.ALL));
+    }
+
+    @Test
+    void deletedIdeasAreRemoved() {
+        buildIndex();
+
+        index.index(buildIdea(1L, IdeaStatus.DELETED, buildTag(10L, "Java")));
+
+        assertEquals(Optional.of(List.of(2L)), index.match(List.of("java"), TagMatchMode.ALL));
+        assertEquals(2, index.ideaCount());
+    }
+
+    @Test
+    void largeMatchesFallBackToSql() {
+        buildIndex();
+        searchConfig.setTagIndexMaxIds(2);
+
+        assertTrue(index.match(List.of("java", "spring"), TagMatchMode.ANY).isEmpty());
+        assertTrue(index.match(List.of("java"), TagMatchMode.ANY).isPresent());
+    }
+
+    private void buildIndex() {
+        when(tagRepository.findAll()).thenReturn(List.of(buildTag(10L, "Java"), buildTag(20L, "Spring")));
+        when(ideaRepository.findTagPairs(eq(0L), eq(0L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(pair(1L, 10L), pair(1L, 20L)));
+        when(ideaRepository.findTagPairs(eq(1L), eq(20L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(pair(2L, 10L), pair(3L, 20L)));
+        when(ideaRepository.findTagPairs(eq(3L), eq(20L), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of());
+        index.onApplicationReady();
+    }
+
+    private Idea buildIdea(Long id, IdeaStatus status, Tag... tags) {
+        Idea idea = new Idea();
+        idea.setId(id);
+        idea.setStatus(status);
+        idea.setTags(new HashSet<>(Set.of(tags)));
+        return idea;
+    }
+
+    private Tag buildTag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        return tag;
+    }
+
+    private IdeaTagView pair(Long ideaId, Long tagId) {
+        return new IdeaTagView() {
+            @Override
+            public Long getIdeaId() {
+                return ideaId;
+            }
+
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TagSuggestIndexTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private SearchConfig searchConfig;
+    private TagSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new SearchConfig();
+        searchConfig.setTagSuggestSize(2);
+        index = new TagSuggestIndex(tagRepository, searchConfig);
+    }
+
+    @Test
+    void suggestIsEmptyUntilBuilt() {
+        assertFalse(index.isReady());
+        assertTrue(index.suggest("ja", 5).isEmpty());
+    }
+
+    @Test
+    void suggestRanksByUsageWithinPrefixIgnoringCase() {
+        when(tagRepository.findAll()).thenReturn(List.of(
+            buildTag(1L, "Java", 5L),
+            buildTag(2L, "JavaScript", 9L),
+            buildTag(3L, "Jakarta", 7L),
+            buildTag(4L, "Go", 3L),
+            buildTag(5L, "Unused", 0L)));
+        index.rebuild();
+
+        assertEquals(List.of("JavaScript", "Jakarta"), names(index.suggest("JA", 5)));
+        assertEquals(List.of("JavaScript", "Java"), names(index.suggest("jav", 5)));
+        assertEquals(List.of("JavaScript"), names(index.suggest("ja", 1)));
+        assertEquals(List.of("JavaScript", "Jakarta"), names(index.suggest("", 5)));
+        assertTrue(index.suggest("un", 5).isEmpty());
+        assertTrue(index.suggest("x", 5).isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void countChangesReRankAndRestoreFromSubtree() {
+        when(tagRepository.findAll()).thenReturn(List.of(
+            buildTag(1L, "Java", 5L),
+            buildTag(2L, "JavaScript", 9L),
+            buildTag(3L, "Jakarta", 7L)));
+        index.rebuild();
+
+        index.adjust(buildTag(1L, "Java", 5L), 5L);
+        assertEquals(List.of("Java", "JavaScript"), names(index.suggest("ja", 5)));
+        assertEquals(10L, index.suggest("java", 1).get(0).usageCount());
+
+        index.adjust(buildTag(1L, "Java", 5L), -9L);
+        assertEquals(List.of("JavaScript", "Jakarta"), names(index.suggest("ja", 5)));
+
+        index.adjust(buildTag(2L, "JavaScript", 9L), -9L);
+        assertEquals(List.of("Jakarta", "Java"), names(index.suggest("ja", 5)));
+        assertTrue(index.suggest("javas", 5).isEmpty());
+        assertEquals(2, index.size());
+
+        index.adjust(buildTag(6L, "Kotlin", 0L), 1L);
+        assertEquals(List.of("Kotlin"), names(index.suggest("K", 5)));
+    }
+
+    @Test
+    void adjustStartsUnknownTagsFromLoadedCountAndNeverGoesNegative() {
+        when(tagRepository.findAll()).thenReturn(List.of());
+        index.rebuild();
+
+        index.adjust(buildTag(1L, "Rust", 4L), 1L);
+        assertEquals(5L, index.suggest("rust", 1).get(0).usageCount());
+
+        index.adjust(buildTag(1L, "Rust", 4L), -10L);
+        assertTrue(index.suggest("rust", 1).isEmpty());
+        index.adjust(buildTag(1L, "Rust", 0L), 0L);
+        index.adjust(null, 1L);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void randomUpdatesMatchBruteForce() {
+        searchConfig.setTagSuggestSize(3);
+        when(tagRepository.findAll()).thenReturn(List.of());
+        index.rebuild();
+        String[] names = {"a", "ab", "abc", "abd", "b", "ba", "bab", "c", "ca", "cab", "abcd", "bc"};
+        Map<Long, Long> counts = new HashMap<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 2000; step++) {
+            long id = random.nextInt(names.length);
+            long count = random.nextInt(6);
+            counts.put(id, count);
+            index.put(id, names[(int) id], count);
+
+            String prefix = names[random.nextInt(names.length)].substring(0, 1 + random.nextInt(1));
+            List<String> expected = new ArrayList<>();
+            counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0 && names[entry.getKey().intValue()].startsWith(prefix))
+                .sorted(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                    .thenComparing(entry -> names[entry.getKey().intValue()]))
+                .limit(3)
+                .forEach(entry -> expected.add(names[entry.getKey().intValue()]));
+            assertEquals(expected, names(index.suggest(prefix, 3)), "step " + step);
+        }
+    }
+
+    private List<String> names(List<TagSuggestIndex.Entry> entries) {
+        return entries.stream().map(TagSuggestIndex.Entry::name).toList();
+    }
+
+    private Tag buildTag(Long id, String name, Long usageCount) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        tag.setUsageCount(usageCount);
+        return tag;
+    }
+}
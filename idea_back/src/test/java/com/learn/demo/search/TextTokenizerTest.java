@@ -0,0 +1,47 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TextTokenizerTest {
+
+    @Test
+    void tokenizeSplitsLatinWordsAndLowercases() {
+        assertEquals(List.of("solar", "grid", "2024"), TextTokenizer.tokenize("Solar-Grid, 2024!"));
+    }
+
+    @Test
+    void tokenizeEmitsCjkUnigramsAndBigrams() {
+        assertEquals(List.of("太", "太阳", "阳", "阳能", "能"), TextTokenizer.tokenize("太阳能"));
+    }
+
+    @Test
+    void tokenizeHandlesMixedScripts() {
+        assertEquals(List.of("ai", "绘", "绘画"), TextTokenizer.tokenize("AI绘画").subList(0, 3));
+    }
+
+    @Test
+    void tokenizeQueryUsesBigramsForCjkRuns() {
+        assertEquals(List.of("太阳", "阳能"), TextTokenizer.tokenizeQuery("太阳能"));
+        assertEquals(List.of("阳"), TextTokenizer.tokenizeQuery("阳"));
+        assertEquals(List.of("green", "能源"), TextTokenizer.tokenizeQuery("green 能源"));
+    }
+
+    @Test
+    void tokenizeReturnsEmptyForBlankInput() {
+        assertTrue(TextTokenizer.tokenize(null).isEmpty());
+        assertTrue(TextTokenizer.tokenizeQuery("  ").isEmpty());
+        assertTrue(TextTokenizer.tokenizeQuery("!!").isEmpty());
+    }
+
+    @Test
+    void isCjkTokenDetectsScript() {
+        assertTrue(TextTokenizer.isCjkToken("能源"));
+        assertFalse(TextTokenizer.isCjkToken("energy"));
+        assertFalse(TextTokenizer.isCjkToken(""));
+    }
+}
@@ -0,0 +1,101 @@
+package com.learn.demo.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.learn.demo.config.TrendingConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.enums.TrendingWindow;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrendingTagTrackerTest {
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long START = 1_000 * HOUR;
+
+    private TrendingConfig trendingConfig;
+    private TrendingTagTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        trendingConfig = new TrendingConfig();
+        trendingConfig.setCapacity(3);
+        trendingConfig.setTopSize(2);
+        tracker = new TrendingTagTracker(trendingConfig);
+    }
+
+    @Test
+    void topIsEmptyBeforeFirstRefresh() {
+        tracker.record(1L, "java", START);
+
+        assertTrue(tracker.top(TrendingWindow.DAY, 5).isEmpty());
+    }
+
+    @Test
+    void windowsOnlyCountRecentBuckets() {
+        for (int i = 0; i < 3; i++) {
+            tracker.record(1L, "java", START - 3 * 24 * HOUR);
+        }
+        for (int i = 0; i < 2; i++) {
+            tracker.record(2L, "spring", START - 5 * HOUR);
+        }
+        tracker.record(3L, "go", START - 10 * MINUTE);
+
+        tracker.refresh(START);
+
+        assertEquals(List.of("go"), names(tracker.top(TrendingWindow.HOUR, 5)));
+        assertEquals(List.of("spring", "go"), names(tracker.top(TrendingWindow.DAY, 5)));
+        assertEquals(List.of("java", "spring"), names(tracker.top(TrendingWindow.WEEK, 5)));
+        assertEquals(3L, tracker.top(TrendingWindow.WEEK, 1).get(0).count());
+
+        tracker.refresh(START + 8 * 24 * HOUR);
+        assertTrue(tracker.top(TrendingWindow.WEEK, 5).isEmpty());
+    }
+
+    @Test
+    void heavyHitterSurvivesEvictionWhenCountersAreFull() {
+        for (int i = 0; i < 30; i++) {
+            tracker.record(1L, "java", START);
+        }
+        for (long id = 2; id < 50; id++) {
+            tracker.record(id, "tag" + id, START);
+        }
+
+        tracker.refresh(START);
+
+        List<TrendingTagTracker.Entry> top = tracker.top(TrendingWindow.HOUR, 2);
+        assertEquals("java", top.get(0).name());
+        assertTrue(top.get(0).count() >= 30);
+        assertEquals(2, top.size());
+    }
+
+    @Test
+    void bucketSlotsAreReusedAfterTheyExpire() {
+        tracker.record(1L, "java", START);
+        tracker.record(2L, "go", START + 60 * MINUTE);
+
+        tracker.refresh(START + 60 * MINUTE);
+
+        assertEquals(List.of("go"), names(tracker.top(TrendingWindow.HOUR, 5)));
+        assertEquals(List.of("java", "go"), names(tracker.top(TrendingWindow.DAY, 5)));
+    }
+
+    @Test
+    void recordOutsideTransactionAppliesImmediately() {
+        Tag tag = new Tag();
+        tag.setId(4L);
+        tag.setName("rust");
+
+        tracker.record(tag);
+        tracker.record((Tag) null);
+        tracker.refresh();
+
+        assertEquals(List.of("rust"), names(tracker.top(TrendingWindow.HOUR, 5)));
+    }
+
+    private List<String> names(List<TrendingTagTracker.Entry> entries) {
+        return entries.stream().map(TrendingTagTracker.Entry::name).toList();
+    }
+}
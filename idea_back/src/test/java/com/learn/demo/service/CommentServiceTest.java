@@ -0,0 +1,188 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.comment.CommentResponse;
+import com.learn.demo.dto.comment.CreateCommentRequest;
+import com.learn.demo.entity.Comment;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CommentStatus;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.CommentRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.util.CursorCodec;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CounterService counterService;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Test
+    void listCommentsReturnsCursorWhenMoreRowsExist() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(ideaRepository.existsByIdAndStatus(6L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(commentRepository.findNewest(6L, CommentStatus.ACTIVE, Limit.of(3)))
+            .thenReturn(List.of(buildComment(9L, 1L, time), buildComment(8L, 1L, time), buildComment(7L, 1L, time)));
+
+        PageResponse<CommentResponse> page = commentService.listComments(6L, null, 2);
+
+        assertEquals(List.of(9L, 8L), page.getContent().stream().map(CommentResponse::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(CursorCodec.encode(time.toString(), "8"), page.getNextCursor());
+    }
+
+    @Test
+    void listCommentsAfterCursorSeeksPastLastRow() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(ideaRepository.existsByIdAndStatus(6L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(commentRepository.findOlderThan(6L, CommentStatus.ACTIVE, time, 8L, Limit.of(3)))
+            .thenReturn(List.of(buildComment(7L, 1L, time)));
+
+        PageResponse<CommentResponse> page = commentService.listComments(
+            6L, CursorCodec.encode(time.toString(), "8"), 2);
+
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void listCommentsRejectsBadCursorAndSize() {
+        when(ideaRepository.existsByIdAndStatus(6L, IdeaStatus.ACTIVE)).thenReturn(true);
+
+        BusinessException badCursor = assertThrows(BusinessException.class,
+            () -> commentService.listComments(6L, CursorCodec.encode("yesterday", "x"), 2));
+        BusinessException badSize = assertThrows(BusinessException.class,
+            () -> commentService.listComments(6L, null, 0));
+
+        assertEquals(400, badCursor.getCode());
+        assertEquals(400, badSize.getCode());
+    }
+
+    @Test
+    void createCommentIncrementsCounter() {
+        User author = buildUser(1L);
+        when(ideaRepository.existsByIdAndStatus(6L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(ideaRepository.getReferenceById(6L)).thenReturn(buildIdea(6L));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            comment.setId(3L);
+            return comment;
+        });
+
+        CommentResponse response = commentService.createComment(
+            6L, CreateCommentRequest.builder().content("Nice").build(), 1L);
+
+        assertEquals(3L, response.getId());
+        assertEquals(6L, response.getIdeaId());
+        assertEquals("user1", response.getAuthor().getUsername());
+        verify(counterService).add(CounterKind.IDEA_COMMENTS, 6L, 1L);
+    }
+
+    @Test
+    void createCommentOnMissingIdeaThrows404() {
+        when(ideaRepository.existsByIdAndStatus(6L, IdeaStatus.ACTIVE)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> commentService.createComment(
+            6L, CreateCommentRequest.builder().content("Nice").build(), 1L));
+
+        assertEquals(404, ex.getCode());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    void deleteCommentDecrementsCounterOnlyWhenStatusChanged() {
+        Comment comment = buildComment(3L, 1L, LocalDateTime.now());
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+        when(commentRepository.updateStatus(3L, CommentStatus.ACTIVE, CommentStatus.DELETED)).thenReturn(1, 0);
+
+        commentService.deleteComment(6L, 3L, 1L, false);
+        commentService.deleteComment(6L, 3L, 1L, false);
+
+        verify(counterService).add(CounterKind.IDEA_COMMENTS, 6L, -1L);
+    }
+
+    @Test
+    void deleteCommentByOtherUserIsForbiddenUnlessAdmin() {
+        Comment comment = buildComment(3L, 1L, LocalDateTime.now());
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+        when(commentRepository.updateStatus(3L, CommentStatus.ACTIVE, CommentStatus.DELETED)).thenReturn(1);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> commentService.deleteComment(6L, 3L, 2L, false));
+        commentService.deleteComment(6L, 3L, 2L, true);
+
+        assertEquals(403, ex.getCode());
+        verify(counterService).add(CounterKind.IDEA_COMMENTS, 6L, -1L);
+    }
+
+    @Test
+    void deleteCommentOfAnotherIdeaThrows404() {
+        Comment comment = buildComment(3L, 1L, LocalDateTime.now());
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> commentService.deleteComment(5L, 3L, 1L, false));
+
+        assertEquals(404, ex.getCode());
+        verify(counterService, never()).add(any(CounterKind.class), anyLong(), anyLong());
+    }
+
+    private Comment buildComment(Long id, Long userId, LocalDateTime createdAt) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setIdea(buildIdea(6L));
+        comment.setUser(buildUser(userId));
+        comment.setContent("c" + id);
+        comment.setStatus(CommentStatus.ACTIVE);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+
+    private Idea buildIdea(Long id) {
+        Idea idea = new Idea();
+        idea.setId(id);
+        return idea;
+    }
+
+    private User buildUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
@@ -0,0 +1,222 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.CounterConfig;
+import com.learn.demo.entity.CounterDelta;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.repository.CounterDeltaRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.repository.projection.CounterTotalView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class CounterServiceTest {
+
+    @Mock
+    private CounterDeltaRepository counterDeltaRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private HotScoreService hotScoreService;
+    @Mock
+    private IdeaListCache ideaListCache;
+
+    private CounterConfig counterConfig;
+    private CounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterConfig = new CounterConfig();
+        counterConfig.setFlushBatchSize(10);
+        counterService = new CounterService(
+            counterDeltaRepository,
+            new CounterWriter(counterDeltaRepository, ideaRepository, tagRepository),
+            hotScoreService,
+            ideaListCache,
+            counterConfig);
+    }
+
+    @Test
+    void addJournalsDeltaAndExposesItAsPending() {
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 1L);
+        counterService.add(CounterKind.TAG_USAGE, Arrays.asList(1L, null, 2L, 1L), -1L);
+
+        verify(counterDeltaRepository, times(2)).append(CounterKind.IDEA_LIKES, List.of(5L), 1L);
+        verify(counterDeltaRepository).append(CounterKind.TAG_USAGE, List.of(1L, 2L), -1L);
+        assertEquals(2L, counterService.pending(CounterKind.IDEA_LIKES, 5L));
+        assertEquals(0L, counterService.pending(CounterKind.IDEA_COMMENTS, 5L));
+        assertEquals(6L, counterService.current(CounterKind.IDEA_LIKES, 5L, 4L));
+        assertEquals(0L, counterService.current(CounterKind.TAG_USAGE, 1L, 0L));
+        assertEquals(0L, counterService.current(CounterKind.IDEA_LIKES, null, null));
+        verifyNoInteractions(ideaRepository, tagRepository, hotScoreService);
+    }
+
+    @Test
+    void addIgnoresEmptyTargetsAndZeroDeltas() {
+        counterService.add(CounterKind.IDEA_LIKES, (Long) null, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 0L);
+        counterService.add(CounterKind.TAG_USAGE, (List<Long>) null, 1L);
+
+        verifyNoInteractions(counterDeltaRepository);
+    }
+
+    @Test
+    void addAppliesImmediatelyWhenWriteBehindIsOff() {
+        counterConfig.setWriteBehind(false);
+
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 1L);
+        counterService.add(CounterKind.IDEA_COMMENTS, 6L, -1L);
+        counterService.add(CounterKind.TAG_USAGE, List.of(1L, 2L), 1L);
+
+        verify(ideaRepository).adjustLikeCounts(List.of(5L), 1L);
+        verify(ideaRepository).adjustCommentCounts(List.of(6L), -1L);
+        verify(tagRepository).adjustUsage(List.of(1L, 2L), 1L);
+        verify(hotScoreService).markDirty(5L);
+        verify(hotScoreService).markDirty(6L);
+        verify(ideaListCache).invalidateLikeRanking();
+        verifyNoInteractions(counterDeltaRepository);
+        assertEquals(0L, counterService.pending(CounterKind.IDEA_LIKES, 5L));
+    }
+
+    @Test
+    void flushFoldsRowsIntoOneUpdatePerDistinctDeltaAndClearsPending() {
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 5L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 7L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 7L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 9L, 1L);
+        counterService.add(CounterKind.IDEA_LIKES, 9L, -1L);
+        counterService.add(CounterKind.TAG_USAGE, 3L, 1L);
+        when(counterDeltaRepository.claimOldest(Limit.of(10))).thenReturn(List.of(
+            row(1L, CounterKind.IDEA_LIKES, 5L, 1L),
+            row(2L, CounterKind.IDEA_LIKES, 5L, 1L),
+            row(3L, CounterKind.IDEA_LIKES, 7L, 1L),
+            row(4L, CounterKind.IDEA_LIKES, 7L, 1L),
+            row(5L, CounterKind.IDEA_LIKES, 9L, 1L),
+            row(6L, CounterKind.IDEA_LIKES, 9L, -1L),
+            row(7L, CounterKind.TAG_USAGE, 3L, 1L)));
+
+        assertEquals(7, counterService.flush());
+
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(ideaRepository).adjustLikeCounts(ids.capture(), any(Long.class));
+        assertEquals(Set.of(5L, 7L), new HashSet<>(ids.getValue()));
+        verify(ideaRepository).adjustLikeCounts(ids.getValue(), 2L);
+        verify(tagRepository).adjustUsage(List.of(3L), 1L);
+        verify(counterDeltaRepository).deleteByIdIn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+        verify(hotScoreService).markDirty(5L);
+        verify(hotScoreService).markDirty(9L);
+        verify(hotScoreService, never()).markDirty(3L);
+        verify(ideaListCache).invalidateLikeRanking();
+        assertEquals(0L, counterService.pending(CounterKind.IDEA_LIKES, 5L));
+        assertEquals(0L, counterService.pending(CounterKind.TAG_USAGE, 3L));
+    }
+
+    @Test
+    void startupReloadsPendingFromTheJournalAndFlushDrainsItIncrementally() {
+        when(counterDeltaRepository.sumByTarget()).thenReturn(List.of(
+            total(CounterKind.IDEA_LIKES, 5L, 3L),
+            total(CounterKind.IDEA_COMMENTS, 6L, 0L)));
+        counterService.onApplicationReady();
+        assertEquals(3L, counterService.pending(CounterKind.IDEA_LIKES, 5L));
+        when(counterDeltaRepository.claimOldest(Limit.of(10))).thenReturn(List.of(
+            row(1L, CounterKind.IDEA_LIKES, 5L, 1L),
+            row(2L, CounterKind.IDEA_LIKES, 5L, 1L)));
+
+        assertEquals(2, counterService.flush());
+
+        verify(ideaRepository).adjustLikeCounts(List.of(5L), 2L);
+        verify(counterDeltaRepository).sumByTarget();
+        assertEquals(1L, counterService.pending(CounterKind.IDEA_LIKES, 5L));
+        assertEquals(3L, counterService.current(CounterKind.IDEA_LIKES, 5L, 2L));
+        assertEquals(0L, counterService.pending(CounterKind.IDEA_COMMENTS, 6L));
+    }
+
+    @Test
+    void flushKeepsClaimingFullChunksUntilTheJournalIsEmpty() {
+        counterConfig.setFlushBatchSize(2);
+        when(counterDeltaRepository.claimOldest(Limit.of(2))).thenReturn(
+            List.of(row(1L, CounterKind.IDEA_LIKES, 5L, 1L), row(2L, CounterKind.IDEA_LIKES, 6L, 1L)),
+            List.of(row(3L, CounterKind.IDEA_LIKES, 5L, 1L), row(4L, CounterKind.IDEA_LIKES, 6L, 1L)),
+            List.of(row(5L, CounterKind.IDEA_LIKES, 5L, 1L)));
+
+        assertEquals(5, counterService.flush());
+
+        verify(counterDeltaRepository, times(3)).claimOldest(Limit.of(2));
+        verify(counterDeltaRepository).deleteByIdIn(List.of(5L));
+        verify(counterDeltaRepository, never()).sumByTarget();
+    }
+
+    @Test
+    void flushStopsClaimingOnceTheBudgetIsSpent() {
+        counterConfig.setFlushBatchSize(1);
+        counterConfig.setFlushBudgetMillis(0);
+        when(counterDeltaRepository.claimOldest(Limit.of(1))).thenReturn(List.of(row(1L, CounterKind.IDEA_LIKES, 5L, 1L)));
+
+        assertEquals(1, counterService.flush());
+
+        verify(counterDeltaRepository, times(1)).claimOldest(Limit.of(1));
+    }
+
+    @Test
+    void flushWithEmptyJournalDoesNothing() {
+        when(counterDeltaRepository.claimOldest(Limit.of(10))).thenReturn(new ArrayList<>());
+
+        assertEquals(0, counterService.flush());
+
+        verify(counterDeltaRepository, never()).sumByTarget();
+        verify(counterDeltaRepository, never()).deleteByIdIn(any());
+        verify(hotScoreService, never()).markDirty(anyLong());
+    }
+
+    private CounterTotalView total(CounterKind kind, Long targetId, Long total) {
+        return new CounterTotalView() {
+            @Override
+            public CounterKind getKind() {
+                return kind;
+            }
+
+            @Override
+            public Long getTargetId() {
+                return targetId;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private CounterDelta row(Long id, CounterKind kind, Long targetId, long delta) {
+        CounterDelta row = new CounterDelta();
+        row.setId(id);
+        row.setKind(kind);
+        row.setTargetId(targetId);
+        row.setDelta(delta);
+        return row;
+    }
+}
@@ -0,0 +1,160 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.HotRankingConfig;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaEngagementView;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class HotScoreServiceTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    @Mock
+    private IdeaListCache ideaListCache;
+
+    private HotRankingConfig config;
+    private HotScoreService hotScoreService;
+
+    @BeforeEach
+    void setUp() {
+        config = new HotRankingConfig();
+        hotScoreService = new HotScoreService(ideaRepository, config, ideaListCache);
+    }
+
+    @Test
+    void scoreGrowsWithEngagementAndDecaysWithAge() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 10, 12, 0);
+
+        double fresh = hotScoreService.score(10, 0, now.minusHours(1), now);
+        double old = hotScoreService.score(10, 0, now.minusDays(3), now);
+        double discussed = hotScoreService.score(10, 5, now.minusHours(1), now);
+
+        assertTrue(fresh > old);
+        assertTrue(discussed > fresh);
+        assertEquals(1.0 / Math.pow(2.0, config.getGravity()), hotScoreService.score(0, 0, now, now), 1e-9);
+        assertEquals(hotScoreService.score(0, 0, now, now), hotScoreService.score(-3, -1, null, now), 1e-9);
+        assertTrue(hotScoreService.initialScore() > 0);
+    }
+
+    @Test
+    void flushDirtyRecomputesEachQueuedIdeaOnce() {
+        when(ideaRepository.findEngagementByIdIn(List.of(7L)))
+            .thenReturn(List.of(view(7L, 4L, 1L, LocalDateTime.now().minusHours(2))));
+
+        hotScoreService.flushDirty();
+        hotScoreService.markDirty(7L);
+        hotScoreService.markDirty(7L);
+        hotScoreService.markDirty(null);
+        hotScoreService.flushDirty();
+        hotScoreService.flushDirty();
+
+        verify(ideaRepository, times(1)).updateHotScores(argThat(scores -> scores.keySet().equals(Set.of(7L))));
+        verify(ideaListCache, times(1)).invalidateHotRanking();
+    }
+
+    @Test
+    void flushDirtyLoadsAndStoresQueuedIdeasInChunks() {
+        config.setBatchSize(2);
+        LocalDateTime created = LocalDateTime.now().minusHours(2);
+        when(ideaRepository.findEngagementByIdIn(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(id -> view(id, 1L, 0L, created)).toList());
+        for (long id = 1; id <= 5; id++) {
+            hotScoreService.markDirty(id);
+        }
+
+        hotScoreService.flushDirty();
+
+        verify(ideaRepository, times(3)).findEngagementByIdIn(anyList());
+        verify(ideaRepository, times(3)).updateHotScores(anyMap());
+        verify(ideaListCache).invalidateHotRanking();
+    }
+
+    @Test
+    void recomputeAllWalksBatchesAndClearsExpiredScores() {
+        config.setBatchSize(2);
+        LocalDateTime created = LocalDateTime.now().minusHours(5);
+        when(ideaRepository.findFirstIdCreatedSince(any(LocalDateTime.class))).thenReturn(Optional.of(1L));
+        when(ideaRepository.findEngagementBatch(eq(0L), any(LocalDateTime.class), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(view(1L, 0L, 0L, created), view(2L, null, null, created)));
+        when(ideaRepository.findEngagementBatch(eq(2L), any(LocalDateTime.class), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(view(3L, 1L, 0L, created)));
+
+        hotScoreService.recomputeAll();
+
+        verify(ideaRepository).updateHotScores(argThat(scores -> scores.keySet().equals(Set.of(1L, 2L))));
+        verify(ideaRepository).updateHotScores(argThat(scores -> scores.keySet().equals(Set.of(3L))));
+        verify(ideaRepository).clearHotScoresBefore(any(LocalDateTime.class));
+        verify(ideaListCache).invalidateHotRanking();
+    }
+
+    @Test
+    void recomputeAllStartsAtTheFirstIdInsideTheWindow() {
+        when(ideaRepository.findFirstIdCreatedSince(any(LocalDateTime.class))).thenReturn(Optional.of(500L));
+        when(ideaRepository.findEngagementBatch(eq(499L), any(LocalDateTime.class), eq(IdeaStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(view(500L, 1L, 0L, LocalDateTime.now())));
+
+        hotScoreService.recomputeAll();
+
+        verify(ideaRepository).updateHotScores(argThat(scores -> scores.keySet().equals(Set.of(500L))));
+    }
+
+    @Test
+    void recomputeAllWithNoIdeasInTheWindowOnlyClearsExpiredScores() {
+        when(ideaRepository.findFirstIdCreatedSince(any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        hotScoreService.recomputeAll();
+
+        verify(ideaRepository, never()).findEngagementBatch(anyLong(), any(), any(), any());
+        verify(ideaRepository).clearHotScoresBefore(any(LocalDateTime.class));
+    }
+
+    private IdeaEngagementView view(Long id, Long likes, Long comments, LocalDateTime createdAt) {
+        return new IdeaEngagementView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likes;
+            }
+
+            @Override
+            public Long getCommentCount() {
+                return comments;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.repository.IdeaRepository;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaCountEstimatorTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private ListingConfig listingConfig;
+    private IdeaCountEstimator estimator;
+    private final Specification<Idea> spec = (root, query, cb) -> null;
+
+    @BeforeEach
+    void setUp() {
+        listingConfig = new ListingConfig();
+        estimator = new IdeaCountEstimator(ideaRepository, listingConfig);
+    }
+
+    @Test
+    void estimateCountsOnceAndServesCachedValue() {
+        when(ideaRepository.count(any(Specification.class))).thenReturn(12L);
+
+        assertEquals(12L, estimator.estimate("all", () -> spec));
+        assertEquals(12L, estimator.estimate("all", () -> spec));
+
+        verify(ideaRepository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedFilter() {
+        listingConfig.setCountCacheSize(2);
+        estimator = new IdeaCountEstimator(ideaRepository, listingConfig);
+        when(ideaRepository.count(any(Specification.class))).thenReturn(1L);
+
+        estimator.estimate("a", () -> spec);
+        estimator.estimate("b", () -> spec);
+        estimator.estimate("a", () -> spec);
+        estimator.estimate("c", () -> spec);
+        estimator.estimate("a", () -> spec);
+
+        assertEquals(2, estimator.size());
+        verify(ideaRepository, times(3)).count(any(Specification.class));
+    }
+
+    @Test
+    void refreshRecountsStaleEntriesThatWereRead() {
+        listingConfig.setCountRefreshMillis(0);
+        when(ideaRepository.count(any(Specification.class))).thenReturn(5L, 8L);
+
+        estimator.estimate("all", () -> spec);
+        estimator.estimate("all", () -> spec);
+        estimator.refreshStale();
+
+        assertEquals(8L, estimator.estimate("all", () -> spec));
+    }
+
+    @Test
+    void refreshRebuildsTheSpecification() {
+        listingConfig.setCountRefreshMillis(0);
+        AtomicInteger builds = new AtomicInteger();
+        when(ideaRepository.count(any(Specification.class))).thenReturn(5L, 8L);
+
+        estimator.estimate("tag:green", () -> {
+            builds.incrementAndGet();
+            return spec;
+        });
+        estimator.estimate("tag:green", () -> spec);
+        estimator.refreshStale();
+
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void refreshDropsStaleEntriesNobodyRead() {
+        listingConfig.setCountRefreshMillis(0);
+        when(ideaRepository.count(any(Specification.class))).thenReturn(5L);
+
+        estimator.estimate("all", () -> spec);
+        estimator.refreshStale();
+
+        assertEquals(0, estimator.size());
+    }
+
+    @Test
+    void refreshKeepsOldValueWhenCountFails() {
+        listingConfig.setCountRefreshMillis(0);
+        when(ideaRepository.count(any(Specification.class)))
+            .thenReturn(5L)
+            .thenThrow(new IllegalStateException("db down"));
+
+        estimator.estimate("all", () -> spec);
+        estimator.estimate("all", () -> spec);
+        estimator.refreshStale();
+
+        assertEquals(5L, estimator.estimate("all", () -> spec));
+        estimator.clear();
+        assertEquals(0, estimator.size());
+    }
+}
@@ -0,0 +1,146 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.projection.IdeaTagNameView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.specification.IdeaSpecifications;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaExportServiceTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private IdeaSearchStrategy ideaSearchStrategy;
+    @Mock
+    private CounterService counterService;
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdeaExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ListingConfig listingConfig = new ListingConfig();
+        listingConfig.setExportFetchSize(2);
+        exportService = new IdeaExportService(
+            ideaRepository, ideaSearchStrategy, counterService, listingConfig, objectMapper, entityManager);
+    }
+
+    @Test
+    void exportWritesOneLinePerIdeaInChunks() throws Exception {
+        User author = new User();
+        author.setId(9L);
+        author.setUsername("alice");
+        when(ideaRepository.streamAll(any(), eq(2)))
+            .thenReturn(Stream.of(idea(1L, author), idea(2L, author), idea(3L, author)));
+        when(ideaRepository.findTagNamesByIdeaIdIn(List.of(1L, 2L)))
+            .thenReturn(List.of(tagName(1L, "java"), tagName(1L, "spring"), tagName(2L, "go")));
+        when(ideaRepository.findTagNamesByIdeaIdIn(List.of(3L))).thenReturn(List.of());
+        when(counterService.current(any(CounterKind.class), anyLong(), any()))
+            .thenAnswer(invocation -> invocation.<Long>getArgument(2) + 1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(3L, exportService.export(new IdeaQueryRequest(), out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("java", first.get("tags").get(0).asText());
+        assertEquals("spring", first.get("tags").get(1).asText());
+        assertEquals("alice", first.get("author").get("username").asText());
+        assertEquals(5L, first.get("likeCount").asLong());
+        assertEquals(3L, first.get("commentCount").asLong());
+        assertTrue(objectMapper.readTree(lines[2]).get("tags").isEmpty());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportOfNoMatchesWritesNothing() throws Exception {
+        when(ideaRepository.streamAll(any(), eq(2))).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0L, exportService.export(new IdeaQueryRequest(), out));
+
+        assertEquals(0, out.size());
+        verify(ideaRepository, never()).findTagNamesByIdeaIdIn(any());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void keywordFilterUsesEveryIndexMatchAndFallsBackToLikeWithoutIndex() throws Exception {
+        when(ideaRepository.streamAll(any(), eq(2))).thenAnswer(invocation -> Stream.empty());
+        when(ideaSearchStrategy.search("solar", Integer.MAX_VALUE))
+            .thenReturn(Optional.of(List.of(4L, 5L)), Optional.empty());
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").build();
+
+        try (MockedStatic<IdeaSpecifications> specs = mockStatic(IdeaSpecifications.class, CALLS_REAL_METHODS)) {
+            exportService.export(request, new ByteArrayOutputStream());
+            specs.verify(() -> IdeaSpecifications.withIdIn(List.of(4L, 5L)));
+            specs.verify(() -> IdeaSpecifications.withKeyword(any()), never());
+
+            exportService.export(request, new ByteArrayOutputStream());
+            specs.verify(() -> IdeaSpecifications.withKeyword("solar"));
+        }
+    }
+
+    private Idea idea(Long id, User author) {
+        Idea idea = new Idea();
+        idea.setId(id);
+        idea.setUser(author);
+        idea.setTitle("Title " + id);
+        idea.setDescription("Desc " + id);
+        idea.setStatus(IdeaStatus.ACTIVE);
+        idea.setLikeCount(4L);
+        idea.setCommentCount(2L);
+        return idea;
+    }
+
+    private IdeaTagNameView tagName(Long ideaId, String name) {
+        return new IdeaTagNameView() {
+            @Override
+            public Long getIdeaId() {
+                return ideaId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.repository.projection.IdeaCardView;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class IdeaFragmentCacheTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private final ListingConfig listingConfig = new ListingConfig();
+    private IdeaFragmentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        listingConfig.setFragmentCacheSize(2);
+        cache = new IdeaFragmentCache(mapper, listingConfig);
+    }
+
+    @Test
+    void getRendersStaticFieldsWithoutClosingBrace() {
+        SerializableString fragment = cache.get(buildCard(1L, "neo"));
+
+        JsonNode node = mapper.readTree(fragment.getValue() + "}");
+        assertEquals(1L, node.get("id").asLong());
+        assertEquals("Title 1", node.get("title").asString());
+        assertFalse(node.has("likeCount"));
+        assertEquals(fragment.getValue().length(), fragment.asUnquotedUTF8().length);
+    }
+
+    @Test
+    void getReusesFragmentUntilVersionOrAuthorChanges() {
+        IdeaCardView card = buildCard(1L, "neo");
+        SerializableString first = cache.get(card);
+
+        assertSame(first, cache.get(buildCard(1L, "neo")));
+
+        IdeaCardView edited = new IdeaCardView(1L, "Title 1", "Desc", null, 0L, 0L, 0.0, card.createdAt(),
+            card.updatedAt().plusSeconds(1), 101L, "neo", null);
+        SerializableString afterEdit = cache.get(edited);
+        assertNotSame(first, afterEdit);
+
+        IdeaCardView newAvatar = new IdeaCardView(1L, "Title 1", "Desc", null, 0L, 0L, 0.0, card.createdAt(),
+            edited.updatedAt(), 101L, "neo", "new.png");
+        SerializableString afterAvatar = cache.get(newAvatar);
+        assertNotSame(afterEdit, afterAvatar);
+        assertEquals("new.png", mapper.readTree(afterAvatar.getValue() + "}").get("author").get("avatar").asString());
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedIdeas() {
+        IdeaCardView first = buildCard(1L, "a");
+        SerializableString cached = cache.get(first);
+        cache.get(buildCard(2L, "b"));
+        cache.get(first);
+        cache.get(buildCard(3L, "c"));
+
+        assertEquals(2, cache.size());
+        assertSame(cached, cache.get(first));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getReturnsNullWhenDisabled() {
+        listingConfig.setFragmentCacheSize(0);
+
+        assertNull(cache.get(buildCard(1L, "neo")));
+        assertNull(cache.get(null));
+        assertEquals(0, cache.size());
+    }
+
+    private static IdeaCardView buildCard(Long id, String username) {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new IdeaCardView(id, "Title " + id, "Desc", null, 0L, 0L, 0.0, at, at, id + 100, username, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learn.demo.config.ImportConfig;
+import com.learn.demo.dto.idea.IdeaImportError;
+import com.learn.demo.dto.idea.IdeaImportResult;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaImportServiceTest {
+
+    @Mock
+    private IdeaImportWriter ideaImportWriter;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ImportConfig importConfig = new ImportConfig();
+    private IdeaImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importConfig.setBatchSize(2);
+        importService = new IdeaImportService(
+            ideaImportWriter, new ObjectMapper(), validatorFactory.getValidator(), importConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void importWritesValidRecordsInBatchesAndReportsBadLines() throws Exception {
+        List<List<Long>> batches = new ArrayList<>();
+        when(ideaImportWriter.write(anyList())).thenAnswer(invocation -> {
+            List<IdeaImportWriter.Line> lines = invocation.getArgument(0);
+            batches.add(lines.stream().map(IdeaImportWriter.Line::number).toList());
+            return lines.stream()
+                .filter(line -> line.record().getUserId() == 99L)
+                .map(line -> new IdeaImportError(line.number(), IdeaImportWriter.USER_NOT_FOUND))
+                .toList();
+        });
+
+        IdeaImportResult result = importService.importIdeas(ndjson(
+            record(1L, "First"),
+            "{not json",
+            "",
+            record(1L, ""),
+            record(99L, "Orphan"),
+            record(2L, "Second")));
+
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(List.of(1L, 5L), List.of(6L)), batches);
+        assertEquals(List.of(2L, 4L, 5L), result.getErrors().stream().map(IdeaImportError::getLine).toList());
+        assertEquals(IdeaImportService.MALFORMED_RECORD, result.getErrors().get(0).getMessage());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("title: "));
+        assertEquals(IdeaImportWriter.USER_NOT_FOUND, result.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void importRetriesAFailedBatchSoOnlyTheBadLineFails() throws Exception {
+        importConfig.setBatchSize(4);
+        List<List<Long>> writes = new ArrayList<>();
+        when(ideaImportWriter.write(anyList())).thenAnswer(invocation -> {
+            List<IdeaImportWriter.Line> lines = invocation.getArgument(0);
+            writes.add(lines.stream().map(IdeaImportWriter.Line::number).toList());
+            if (lines.stream().anyMatch(line -> line.record().getTitle().equals("Bad"))) {
+                throw new IllegalStateException("duplicate key");
+            }
+            return List.of();
+        });
+
+        IdeaImportResult result = importService.importIdeas(ndjson(
+            record(1L, "A"), record(1L, "B"), record(1L, "Bad"), record(1L, "D")));
+
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(3L), result.getErrors().stream().map(IdeaImportError::getLine).toList());
+        assertEquals(IdeaImportService.WRITE_FAILED + "duplicate key", result.getErrors().get(0).getMessage());
+        assertEquals(List.of(
+            List.of(1L, 2L, 3L, 4L), List.of(1L, 2L), List.of(3L, 4L), List.of(3L), List.of(4L)), writes);
+    }
+
+    @Test
+    void importCountsFailuresBeyondTheReportedErrorLimit() throws Exception {
+        importConfig.setMaxErrors(1);
+
+        IdeaImportResult result = importService.importIdeas(ndjson("null", "[]", "{}"));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getFailed());
+        assertEquals(1, result.getErrors().size());
+        verify(ideaImportWriter, never()).write(anyList());
+    }
+
+    private static String record(Long userId, String title) {
+        return "{\"userId\":" + userId + ",\"title\":\"" + title + "\",\"description\":\"d\",\"tags\":[\"java\"]}";
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
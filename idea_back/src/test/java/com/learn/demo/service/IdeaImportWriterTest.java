@@ -0,0 +1,137 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.dto.idea.IdeaImportError;
+import com.learn.demo.dto.idea.IdeaImportRecord;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaImportWriterTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TagDictionary tagDictionary;
+    @Mock
+    private HotScoreService hotScoreService;
+    @Mock
+    private CounterService counterService;
+    @Mock
+    private IdeaSearchStrategy ideaSearchStrategy;
+    @Mock
+    private IdeaTagIndex ideaTagIndex;
+    @Mock
+    private TagSuggestIndex tagSuggestIndex;
+    @Mock
+    private IdeaListCache ideaListCache;
+
+    @InjectMocks
+    private IdeaImportWriter writer;
+
+    @Test
+    void writeInsertsAcceptedIdeasAndCountsEachTagOnce() {
+        Tag java = tag(1L, "Java");
+        Tag go = tag(2L, "Go");
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(7L));
+        when(userRepository.getReferenceById(7L)).thenReturn(user(7L));
+        when(tagDictionary.resolve(List.of("java", "Go", "JAVA", " ")))
+            .thenReturn(Map.of("java", java, "go", go));
+        when(hotScoreService.initialScore()).thenReturn(1.5);
+        List<Idea> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Idea> ideas = invocation.getArgument(0);
+            long id = 100L;
+            for (Idea idea : ideas) {
+                idea.setId(id++);
+                inserted.add(idea);
+            }
+            return null;
+        }).when(ideaRepository).insertBatch(anyList());
+
+        List<IdeaImportError> rejected = writer.write(List.of(
+            line(1L, 7L, List.of("java", "Go")),
+            line(2L, 8L, List.of("rust")),
+            line(3L, 7L, List.of("JAVA", " "))));
+
+        assertEquals(List.of(new IdeaImportError(2L, IdeaImportWriter.USER_NOT_FOUND)), rejected);
+        assertEquals(2, inserted.size());
+        Idea first = inserted.get(0);
+        assertEquals(IdeaStatus.ACTIVE, first.getStatus());
+        assertEquals(1.5, first.getHotScore());
+        assertEquals(Set.of(java, go), first.getTags());
+        assertEquals(Set.of(java), inserted.get(1).getTags());
+        assertTrue(first.getCreatedAt() != null && first.getCreatedAt().equals(first.getUpdatedAt()));
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(1L), 2L);
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(2L), 1L);
+        verify(tagSuggestIndex).adjust(java, 2L);
+        verify(tagSuggestIndex).adjust(go, 1L);
+        verify(ideaSearchStrategy).index(first);
+        verify(ideaTagIndex).index(first);
+        verify(ideaListCache).invalidate(eq(7L), eq(Set.of("Java", "Go")));
+    }
+
+    @Test
+    void writeSkipsInsertWhenNoAuthorExists() {
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        List<IdeaImportError> rejected = writer.write(List.of(line(4L, 8L, null)));
+
+        assertEquals(1, rejected.size());
+        assertEquals(4L, rejected.get(0).getLine());
+        verify(ideaRepository, never()).insertBatch(anyList());
+        verify(tagDictionary, never()).resolve(any());
+    }
+
+    private static IdeaImportWriter.Line line(long number, Long userId, List<String> tags) {
+        return new IdeaImportWriter.Line(number, IdeaImportRecord.builder()
+            .userId(userId)
+            .title("Title " + number)
+            .description("Desc " + number)
+            .tags(tags)
+            .build());
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static Tag tag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        return tag;
+    }
+}
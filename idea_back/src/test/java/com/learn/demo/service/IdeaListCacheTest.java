@@ -0,0 +1,161 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.idea.IdeaQueryRequest;
+import com.learn.demo.enums.CountMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdeaListCacheTest {
+
+    private ListingConfig listingConfig;
+    private IdeaListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        listingConfig = new ListingConfig();
+        cache = new IdeaListCache(listingConfig);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void keyNormalizesFilters() {
+        IdeaListCache.Key first = IdeaListCache.Key.of(
+            IdeaQueryRequest.builder().keyword(" Solar ").tag("Green").sort("createdAt,DESC").build(), CountMode.ESTIMATE);
+        IdeaListCache.Key second = IdeaListCache.Key.of(
+            IdeaQueryRequest.builder().keyword("solar").tag("green ").sort("createdat,desc").build(), CountMode.ESTIMATE);
+        IdeaListCache.Key exact = IdeaListCache.Key.of(
+            IdeaQueryRequest.builder().keyword("solar").tag("green").build(), CountMode.EXACT);
+
+        assertEquals(first, second);
+        assertNotEquals(first, exact);
+    }
+
+    @Test
+    void repeatedGetServesCachedPage() {
+        IdeaListCache.Key key = key(null, null);
+
+        PageResponse<Long> first = cache.get(key, () -> load(1L, 2L));
+        PageResponse<Long> second = cache.get(key, () -> load(3L));
+
+        assertSame(first, second);
+        assertEquals(List.of(1L, 2L), second.getContent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void anyWriteInvalidatesUnfilteredLists() {
+        IdeaListCache.Key key = key(null, null);
+        cache.get(key, () -> load(1L));
+
+        cache.invalidate(9L, Set.of());
+
+        assertEquals(List.of(2L), cache.get(key, () -> load(2L)).getContent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void writesOnlyInvalidateMatchingUserAndTagScopes() {
+        IdeaListCache.Key green = key("green", null);
+        IdeaListCache.Key blue = key("blue", null);
+        IdeaListCache.Key owner = key(null, 7L);
+        cache.get(green, () -> load(1L));
+        cache.get(blue, () -> load(2L));
+        cache.get(owner, () -> load(3L));
+
+        cache.invalidate(8L, Set.of("Green"));
+        cache.get(green, () -> load(1L));
+        cache.get(blue, () -> load(2L));
+        cache.get(owner, () -> load(3L));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void hotRankingChangesOnlyInvalidateHotLists() {
+        IdeaListCache.Key hot = IdeaListCache.Key.of(IdeaQueryRequest.builder().sort("hot").build(), CountMode.ESTIMATE);
+        IdeaListCache.Key latest = key(null, null);
+        cache.get(hot, () -> load(1L));
+        cache.get(latest, () -> load(2L));
+
+        cache.invalidateHotRanking();
+        cache.get(hot, () -> load(1L));
+        cache.get(latest, () -> load(2L));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void likeChangesOnlyInvalidateLikeSortedLists() {
+        IdeaListCache.Key byLikes = IdeaListCache.Key.of(
+            IdeaQueryRequest.builder().sort("likeCount,desc").build(), CountMode.ESTIMATE);
+        IdeaListCache.Key latest = key(null, null);
+        cache.get(byLikes, () -> load(1L));
+        cache.get(latest, () -> load(2L));
+
+        cache.invalidateLikeRanking();
+        cache.get(byLikes, () -> load(1L));
+        cache.get(latest, () -> load(2L));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBeyondIdBudget() {
+        listingConfig.setResultCacheMaxIds(6);
+        cache = new IdeaListCache(listingConfig);
+        IdeaListCache.Key a = key("a", null);
+        IdeaListCache.Key b = key("b", null);
+        IdeaListCache.Key c = key("c", null);
+        cache.get(a, () -> load(1L, 2L));
+        cache.get(b, () -> load(3L, 4L));
+        cache.get(a, () -> load(1L, 2L));
+        cache.get(c, () -> load(5L, 6L));
+
+        assertEquals(2, cache.size());
+        cache.get(a, () -> load(1L, 2L));
+        assertEquals(3, loads.get());
+        cache.get(b, () -> load(3L, 4L));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void zeroBudgetDisablesCaching() {
+        listingConfig.setResultCacheMaxIds(0);
+        IdeaListCache.Key key = key(null, null);
+
+        cache.get(key, () -> load(1L));
+        cache.get(key, () -> load(1L));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void clearDropsEntries() {
+        cache.get(key(null, null), () -> load(1L));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    private IdeaListCache.Key key(String tag, Long userId) {
+        return IdeaListCache.Key.of(IdeaQueryRequest.builder().tag(tag).userId(userId).build(), CountMode.ESTIMATE);
+    }
+
+    private PageResponse<Long> load(Long... ids) {
+        loads.incrementAndGet();
+        return PageResponse.<Long>builder().content(new ArrayList<>(List.of(ids))).size(20).build();
+    }
+}
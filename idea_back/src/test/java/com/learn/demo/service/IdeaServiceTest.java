@@ -3,17 +3,25 @@ package com.learn.demo.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.config.SearchConfig;
 import com.learn.demo.dto.PageResponse;
 import com.learn.demo.dto.idea.CreateIdeaRequest;
 import com.learn.demo.dto.idea.IdeaDetailResponse;
@@ -21,33 +29,46 @@ import com.learn.demo.dto.idea.IdeaListResponse;
 import com.learn.demo.dto.idea.IdeaQueryRequest;
 import com.learn.demo.dto.idea.UpdateIdeaRequest;
 import com.learn.demo.entity.Idea;
-import com.learn.demo.entity.Like;
 import com.learn.demo.entity.Tag;
 import com.learn.demo.entity.User;
+import com.learn.demo.enums.CounterKind;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
 import com.learn.demo.exception.BusinessException;
 import com.learn.demo.repository.IdeaRepository;
-import com.learn.demo.repository.LikeRepository;
-import com.learn.demo.repository.TagRepository;
 import com.learn.demo.repository.UserRepository;
+import com.learn.demo.repository.projection.IdeaCardView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import com.learn.demo.search.TrendingTagTracker;
+import com.learn.demo.specification.IdeaSpecifications;
+import com.learn.demo.util.CursorCodec;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import tools.jackson.core.io.SerializedString;
 
 @ExtendWith(MockitoExtension.class)
 class IdeaServiceTest {
@@ -57,9 +78,29 @@ class IdeaServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private TagRepository tagRepository;
+    private LikedIdeasCache likedIdeasCache;
     @Mock
-    private LikeRepository likeRepository;
+    private IdeaSearchStrategy ideaSearchStrategy;
+    @Spy
+    private SearchConfig searchConfig = new SearchConfig();
+    @Mock
+    private IdeaCountEstimator ideaCountEstimator;
+    @Spy
+    private IdeaListCache ideaListCache = new IdeaListCache(new ListingConfig());
+    @Mock
+    private HotScoreService hotScoreService;
+    @Mock
+    private IdeaTagIndex ideaTagIndex;
+    @Mock
+    private TagSuggestIndex tagSuggestIndex;
+    @Mock
+    private TrendingTagTracker trendingTagTracker;
+    @Mock
+    private TagDictionary tagDictionary;
+    @Mock
+    private CounterService counterService;
+    @Mock
+    private IdeaFragmentCache ideaFragmentCache;
 
     @InjectMocks
     private IdeaService ideaService;
@@ -74,16 +115,16 @@ class IdeaServiceTest {
     @Test
     void listIdeasEmptyDoesNotQueryLikesWhenUserNull() {
         IdeaQueryRequest request = IdeaQueryRequest.builder().build();
-        when(ideaRepository.findAll(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
             Pageable pageable = invocation.getArgument(1);
-            return new PageImpl<>(List.of(), pageable, 0);
+            return new SliceImpl<Long>(List.of(), pageable, false);
         });
 
         PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
 
         assertTrue(response.getContent().isEmpty());
         assertEquals(0, response.getTotalElements());
-        verify(likeRepository, never()).findByUserIdAndIdeaIdIn(anyLong(), anyList());
+        verify(likedIdeasCache, never()).likedAmong(any(), anyList());
     }
 
     @Test
@@ -91,15 +132,15 @@ class IdeaServiceTest {
         IdeaQueryRequest request = IdeaQueryRequest.builder()
             .sort("likeCount,asc")
             .build();
-        when(ideaRepository.findAll(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
             Pageable pageable = invocation.getArgument(1);
-            return new PageImpl<>(List.of(), pageable, 0);
+            return new SliceImpl<Long>(List.of(), pageable, false);
         });
 
         ideaService.listIdeas(request, 9L);
 
         ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
-        verify(ideaRepository).findAll(any(Specification.class), captor.capture());
+        verify(ideaRepository).findIdSlice(any(Specification.class), captor.capture());
         Pageable pageable = captor.getValue();
         Sort.Order order = pageable.getSort().getOrderFor("likeCount");
         assertNotNull(order);
@@ -109,20 +150,16 @@ class IdeaServiceTest {
     @Test
     void listIdeasMapsLikedFlags() {
         IdeaQueryRequest request = IdeaQueryRequest.builder().build();
-        Idea idea1 = buildIdea(1L, user, IdeaStatus.ACTIVE, Set.of());
-        Idea idea2 = buildIdea(2L, user, IdeaStatus.ACTIVE, Set.of());
-        Page<Idea> page = new PageImpl<>(
-            List.of(idea1, idea2),
+        IdeaCardView idea1 = buildCard(1L);
+        IdeaCardView idea2 = buildCard(2L);
+        Slice<Long> slice = new SliceImpl<>(
+            List.of(1L, 2L),
             PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")),
-            2
+            false
         );
-        when(ideaRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-        Like like = new Like();
-        like.setId(7L);
-        like.setUser(user);
-        like.setIdea(idea2);
-        when(likeRepository.findByUserIdAndIdeaIdIn(eq(5L), eq(List.of(1L, 2L))))
-            .thenReturn(List.of(like));
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class))).thenReturn(slice);
+        when(ideaRepository.findCardsByIdIn(List.of(1L, 2L))).thenReturn(List.of(idea2, idea1));
+        when(likedIdeasCache.likedAmong(eq(5L), eq(List.of(1L, 2L)))).thenReturn(Set.of(2L));
 
         PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, 5L);
 
@@ -131,6 +168,322 @@ class IdeaServiceTest {
         assertTrue(response.getContent().get(1).isLiked());
     }
 
+    @Test
+    void listIdeasSplicesCachedFragments() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().build();
+        IdeaCardView idea = buildCard(1L, 4L, 0.0, null);
+        Slice<Long> slice = new SliceImpl<>(List.of(1L), PageRequest.of(0, 20), false);
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class))).thenReturn(slice);
+        when(ideaRepository.findCardsByIdIn(List.of(1L))).thenReturn(List.of(idea));
+        SerializedString fragment = new SerializedString("{\"id\":1");
+        when(ideaFragmentCache.get(idea)).thenReturn(fragment);
+        when(counterService.current(CounterKind.IDEA_LIKES, 1L, 4L)).thenReturn(5L);
+
+        IdeaListResponse card = ideaService.listIdeas(request, null).getContent().get(0);
+
+        assertSame(fragment, card.getFragment());
+        assertNull(card.getTitle());
+        assertEquals(5L, card.getLikeCount());
+    }
+
+    @Test
+    void listIdeasWithExactCountUsesCountingPage() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().count("exact").build();
+        when(ideaRepository.findIdPage(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(0, response.getTotalElements());
+        assertFalse(response.isTotalEstimated());
+        verify(ideaRepository, never()).findIdSlice(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void listIdeasEstimatesTotalWhenMorePagesExist() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().size(1).tag("Green").build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(1L), PageRequest.of(0, 1), true));
+        when(ideaRepository.findCardsByIdIn(List.of(1L)))
+            .thenReturn(List.of(buildCard(1L)));
+        when(ideaCountEstimator.estimate(any(), any())).thenReturn(40L);
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(40, response.getTotalElements());
+        assertEquals(40, response.getTotalPages());
+        assertTrue(response.isHasNext());
+        assertTrue(response.isTotalEstimated());
+        verify(ideaRepository, never()).findIdPage(any(Specification.class), any(Pageable.class));
+        ArgumentCaptor<Supplier<Specification<Idea>>> countSpec = ArgumentCaptor.forClass(Supplier.class);
+        verify(ideaCountEstimator).estimate(any(), countSpec.capture());
+        countSpec.getValue().get();
+        verify(ideaTagIndex, times(2)).match(List.of("green"), TagMatchMode.ALL);
+    }
+
+    @Test
+    void listIdeasRaisesStaleEstimateToRowsAlreadySeen() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().page(3).size(1).build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(1L), PageRequest.of(3, 1), true));
+        when(ideaRepository.findCardsByIdIn(List.of(1L)))
+            .thenReturn(List.of(buildCard(1L)));
+        when(ideaCountEstimator.estimate(any(), any())).thenReturn(2L);
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(5, response.getTotalElements());
+    }
+
+    @Test
+    void listIdeasWithoutCountReportsUnknownTotal() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().page(2).size(1).count("none").build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(2, 1), false));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(-1, response.getTotalElements());
+        assertEquals(-1, response.getTotalPages());
+        assertFalse(response.isHasNext());
+        verify(ideaCountEstimator, never()).estimate(any(), any());
+    }
+
+    @Test
+    void listIdeasLastPageReportsExactTotalWithoutCounting() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().page(1).size(2).build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(3L), PageRequest.of(1, 2), false));
+        when(ideaRepository.findCardsByIdIn(List.of(3L)))
+            .thenReturn(List.of(buildCard(3L)));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(3, response.getTotalElements());
+        assertEquals(2, response.getTotalPages());
+        assertFalse(response.isTotalEstimated());
+        verify(ideaCountEstimator, never()).estimate(any(), any());
+    }
+
+    @Test
+    void listIdeasServesRepeatedQueriesFromSharedCache() {
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(1L), PageRequest.of(0, 20), false));
+        IdeaCardView idea = buildCard(1L);
+        when(ideaRepository.findCardsByIdIn(List.of(1L))).thenReturn(List.of(idea));
+        when(likedIdeasCache.likedAmong(5L, List.of(1L))).thenReturn(Set.of(1L));
+
+        PageResponse<IdeaListResponse> anonymous = ideaService.listIdeas(
+            IdeaQueryRequest.builder().tag("Green").build(), null);
+        PageResponse<IdeaListResponse> member = ideaService.listIdeas(
+            IdeaQueryRequest.builder().tag(" green ").build(), 5L);
+
+        assertFalse(anonymous.getContent().get(0).isLiked());
+        assertTrue(member.getContent().get(0).isLiked());
+        assertEquals(1, member.getTotalElements());
+        verify(ideaRepository, times(1)).findIdSlice(any(Specification.class), any(Pageable.class));
+
+        ideaListCache.invalidate(2L, Set.of("Green"));
+        ideaService.listIdeas(IdeaQueryRequest.builder().tag("Green").build(), null);
+
+        verify(ideaRepository, times(2)).findIdSlice(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void listIdeasByCursorReturnsNextCursorWhenMoreRowsExist() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().size(2).cursor("").build();
+        IdeaCardView idea1 = buildCard(3L);
+        IdeaCardView idea2 = buildCard(2L, 0L, 0.0, LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        when(ideaRepository.findIds(any(Specification.class), any(Sort.class), eq(3)))
+            .thenReturn(List.of(3L, 2L, 1L));
+        when(ideaRepository.findCardsByIdIn(List.of(3L, 2L))).thenReturn(List.of(idea1, idea2));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(2, response.getContent().size());
+        assertEquals(-1, response.getTotalElements());
+        assertNotNull(response.getNextCursor());
+        String[] parts = CursorCodec.decode(response.getNextCursor(), 4);
+        assertEquals("createdAt", parts[0]);
+        assertEquals("DESC", parts[1]);
+        assertEquals("2024-01-02T03:04:05", parts[2]);
+        assertEquals("2", parts[3]);
+        verify(ideaRepository, never()).findIdPage(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void listIdeasByCursorSortsByFieldThenId() {
+        String cursor = CursorCodec.encode("likeCount", "ASC", "4", "9");
+        IdeaQueryRequest request = IdeaQueryRequest.builder().size(5).sort("likeCount,asc").cursor(cursor).build();
+        when(ideaRepository.findIds(any(Specification.class), any(Sort.class), eq(6))).thenReturn(List.of());
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, 1L);
+
+        assertTrue(response.getContent().isEmpty());
+        assertNull(response.getNextCursor());
+        verify(ideaRepository).findIds(
+            any(Specification.class),
+            eq(Sort.by(Sort.Order.asc("likeCount"), Sort.Order.asc("id"))),
+            eq(6));
+        verify(ideaRepository, never()).findCardsByIdIn(anyList());
+    }
+
+    @Test
+    void listIdeasFiltersTagsThroughBitmapIndex() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().tags(List.of("java", "spring")).tagMode("any").build();
+        when(ideaTagIndex.match(List.of("java", "spring"), TagMatchMode.ANY)).thenReturn(Optional.of(List.of(3L)));
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        ideaService.listIdeas(request, null);
+
+        verify(ideaTagIndex).match(List.of("java", "spring"), TagMatchMode.ANY);
+    }
+
+    @Test
+    void listIdeasSortsHotByScoreThenId() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().sort("hot").build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        ideaService.listIdeas(request, null);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(ideaRepository).findIdSlice(any(Specification.class), captor.capture());
+        assertEquals(Sort.by(Sort.Order.desc("hotScore"), Sort.Order.desc("id")), captor.getValue().getSort());
+    }
+
+    @Test
+    void listIdeasByCursorEncodesHotScore() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().size(1).sort("hot").cursor("").build();
+        when(ideaRepository.findIds(any(Specification.class), any(Sort.class), eq(2))).thenReturn(List.of(4L, 3L));
+        IdeaCardView idea = buildCard(4L, 0L, 0.25, null);
+        when(ideaRepository.findCardsByIdIn(List.of(4L))).thenReturn(List.of(idea));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(CursorCodec.encode("hotScore", "DESC", "0.25", "4"), response.getNextCursor());
+
+        request.setCursor(response.getNextCursor());
+        when(ideaRepository.findIds(any(Specification.class), any(Sort.class), eq(2))).thenReturn(List.of());
+        assertTrue(ideaService.listIdeas(request, null).getContent().isEmpty());
+    }
+
+    @Test
+    void listIdeasByCursorRejectsCursorForDifferentSort() {
+        String cursor = CursorCodec.encode("likeCount", "DESC", "4", "9");
+        IdeaQueryRequest request = IdeaQueryRequest.builder().cursor(cursor).build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> ideaService.listIdeas(request, 1L));
+
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void listIdeasByCursorRejectsMalformedValue() {
+        String cursor = CursorCodec.encode("createdAt", "DESC", "not-a-date", "9");
+        IdeaQueryRequest request = IdeaQueryRequest.builder().cursor(cursor).build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> ideaService.listIdeas(request, 1L));
+
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void listIdeasByCursorRejectsNonPositiveSize() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().size(0).cursor("").build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> ideaService.listIdeas(request, 1L));
+
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void listIdeasUsesSearchIndexCandidatesForKeyword() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").build();
+        when(ideaSearchStrategy.search("solar", Integer.MAX_VALUE)).thenReturn(Optional.of(List.of(4L)));
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(4L), PageRequest.of(0, 20), false));
+        IdeaCardView idea = buildCard(4L);
+        when(ideaRepository.findCardsByIdIn(List.of(4L))).thenReturn(List.of(idea));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(1, response.getContent().size());
+        verify(ideaSearchStrategy).search("solar", Integer.MAX_VALUE);
+    }
+
+    @Test
+    void listIdeasFiltersOnEveryIndexMatchOutsideRelevanceSort() {
+        searchConfig.setMaxCandidates(2);
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").build();
+        when(ideaSearchStrategy.search("solar", Integer.MAX_VALUE)).thenReturn(Optional.of(List.of(4L, 5L, 6L)));
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        try (MockedStatic<IdeaSpecifications> specs = mockStatic(IdeaSpecifications.class, CALLS_REAL_METHODS)) {
+            ideaService.listIdeas(request, null);
+
+            specs.verify(() -> IdeaSpecifications.withIdIn(List.of(4L, 5L, 6L)));
+            specs.verify(() -> IdeaSpecifications.withKeyword(any()), never());
+        }
+    }
+
+    @Test
+    void listIdeasSortsByRelevanceUsingRankedCandidates() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").sort("relevance").size(1).build();
+        when(ideaSearchStrategy.search("solar", 1000)).thenReturn(Optional.of(List.of(5L, 3L, 9L)));
+        when(ideaRepository.findIds(any(Specification.class), eq(Sort.unsorted()), eq(3))).thenReturn(List.of(9L, 3L));
+        IdeaCardView idea = buildCard(3L);
+        when(ideaRepository.findCardsByIdIn(List.of(3L))).thenReturn(List.of(idea));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertEquals(1, response.getContent().size());
+        assertEquals(3L, response.getContent().get(0).getId());
+        assertEquals(2, response.getTotalElements());
+        verify(ideaRepository, never()).findIdPage(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void listIdeasRelevanceWithNoMatchesReturnsEmptyPage() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").sort("relevance,desc").build();
+        when(ideaSearchStrategy.search("solar", 1000)).thenReturn(Optional.of(List.of()));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertTrue(response.getContent().isEmpty());
+        assertEquals(0, response.getTotalElements());
+        verify(ideaRepository, never()).findIds(any(Specification.class), any(Sort.class), anyInt());
+    }
+
+    @Test
+    void listIdeasRelevanceWithoutRankingFallsBackToCreatedAt() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().sort("relevance").build();
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        ideaService.listIdeas(request, null);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(ideaRepository).findIdSlice(any(Specification.class), captor.capture());
+        assertNotNull(captor.getValue().getSort().getOrderFor("createdAt"));
+        verify(ideaSearchStrategy, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void listIdeasFallsBackToLikeWhenIndexUnavailable() {
+        IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").build();
+        when(ideaSearchStrategy.search("solar", Integer.MAX_VALUE)).thenReturn(Optional.empty());
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        PageResponse<IdeaListResponse> response = ideaService.listIdeas(request, null);
+
+        assertTrue(response.getContent().isEmpty());
+        verify(ideaRepository, never()).findCardsByIdIn(anyList());
+    }
+
     @Test
     void getIdeaDetailNotFoundThrows404() {
         when(ideaRepository.findById(99L)).thenReturn(Optional.empty());
@@ -154,13 +507,28 @@ class IdeaServiceTest {
     void getIdeaDetailReturnsLikedStatus() {
         Idea idea = buildIdea(4L, user, IdeaStatus.ACTIVE, Set.of());
         when(ideaRepository.findById(4L)).thenReturn(Optional.of(idea));
-        when(likeRepository.existsByUserIdAndIdeaId(2L, 4L)).thenReturn(true);
+        when(likedIdeasCache.isLiked(2L, 4L)).thenReturn(true);
 
         IdeaDetailResponse response = ideaService.getIdeaDetail(4L, 2L);
 
         assertTrue(response.isLiked());
     }
 
+    @Test
+    void getIdeaDetailAddsPendingCounterDeltas() {
+        Idea idea = buildIdea(4L, user, IdeaStatus.ACTIVE, Set.of());
+        idea.setLikeCount(3L);
+        idea.setCommentCount(1L);
+        when(ideaRepository.findById(4L)).thenReturn(Optional.of(idea));
+        when(counterService.current(CounterKind.IDEA_LIKES, 4L, 3L)).thenReturn(5L);
+        when(counterService.current(CounterKind.IDEA_COMMENTS, 4L, 1L)).thenReturn(1L);
+
+        IdeaDetailResponse response = ideaService.getIdeaDetail(4L, null);
+
+        assertEquals(5L, response.getLikeCount());
+        assertEquals(1L, response.getCommentCount());
+    }
+
     @Test
     void createIdeaCreatesNewAndExistingTags() {
         CreateIdeaRequest request = CreateIdeaRequest.builder()
@@ -170,16 +538,17 @@ class IdeaServiceTest {
             .tags(Arrays.asList(" Green ", "green", "", null, "Blue"))
             .build();
         Tag green = buildTag(10L, "Green", 2L);
+        Tag blue = buildTag(11L, "Blue", 0L);
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(tagRepository.findByNameIgnoreCase("Green")).thenReturn(Optional.of(green));
-        when(tagRepository.findByNameIgnoreCase("Blue")).thenReturn(Optional.empty());
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tagDictionary.resolve(List.of("Green", "Blue"))).thenReturn(Map.of("green", green, "blue", blue));
         when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> {
             Idea saved = invocation.getArgument(0);
             saved.setId(100L);
             return saved;
         });
 
+        when(hotScoreService.initialScore()).thenReturn(0.5);
+
         IdeaDetailResponse response = ideaService.createIdea(request, 1L);
 
         assertEquals(100L, response.getId());
@@ -188,19 +557,35 @@ class IdeaServiceTest {
         Idea saved = ideaCaptor.getValue();
         assertEquals(IdeaStatus.ACTIVE, saved.getStatus());
         assertEquals("Title", saved.getTitle());
-        assertEquals(2, saved.getTags().size());
-        verify(tagRepository, times(1)).findByNameIgnoreCase("Green");
-        verify(tagRepository, times(1)).findByNameIgnoreCase("Blue");
+        assertEquals(0.5, saved.getHotScore());
+        assertEquals(Set.of(green, blue), saved.getTags());
+        ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(counterService).add(eq(CounterKind.TAG_USAGE), idsCaptor.capture(), eq(1L));
+        assertEquals(Set.of(10L, 11L), new HashSet<>(idsCaptor.getValue()));
+        verify(counterService, never()).add(any(CounterKind.class), anyList(), eq(-1L));
+        verify(ideaSearchStrategy).index(saved);
+        verify(ideaListCache).invalidate(1L, Set.of("Green", "Blue"));
+        verify(ideaTagIndex).index(saved);
+        verify(tagSuggestIndex).adjust(green, 1L);
+        verify(tagSuggestIndex).adjust(blue, 1L);
+        verify(trendingTagTracker, times(2)).record(any(Tag.class));
+    }
+
+    @Test
+    void createIdeaWithoutTagsSkipsUsageUpdates() {
+        CreateIdeaRequest request = CreateIdeaRequest.builder()
+            .title("Title")
+            .description("Desc")
+            .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(tagDictionary.resolve(List.of())).thenReturn(Map.of());
+        when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        ArgumentCaptor<Tag> tagCaptor = ArgumentCaptor.forClass(Tag.class);
-        verify(tagRepository, times(2)).save(tagCaptor.capture());
-        List<Tag> savedTags = tagCaptor.getAllValues();
-        Tag savedGreen = savedTags.stream().filter(t -> "Green".equals(t.getName())).findFirst().orElse(null);
-        Tag savedBlue = savedTags.stream().filter(t -> "Blue".equals(t.getName())).findFirst().orElse(null);
-        assertNotNull(savedGreen);
-        assertNotNull(savedBlue);
-        assertEquals(3L, savedGreen.getUsageCount());
-        assertEquals(1L, savedBlue.getUsageCount());
+        IdeaDetailResponse response = ideaService.createIdea(request, 1L);
+
+        assertTrue(response.getTags().isEmpty());
+        verify(counterService, never()).add(any(CounterKind.class), anyList(), anyLong());
+        verify(tagSuggestIndex, never()).adjust(any(), anyLong());
     }
 
     @Test
@@ -231,6 +616,23 @@ class IdeaServiceTest {
         assertEquals(404, ex.getCode());
     }
 
+    @Test
+    void updateIdeaHiddenThrows404WithoutTouchingTags() {
+        Idea idea = buildIdea(6L, user, IdeaStatus.HIDDEN, new HashSet<>(Set.of(buildTag(1L, "A", 1L))));
+        when(ideaRepository.findById(6L)).thenReturn(Optional.of(idea));
+        UpdateIdeaRequest request = UpdateIdeaRequest.builder()
+            .title("T")
+            .description("D")
+            .tags(List.of("B"))
+            .build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> ideaService.updateIdea(6L, request, 1L));
+
+        assertEquals(404, ex.getCode());
+        verify(counterService, never()).add(any(), anyCollection(), anyLong());
+        verify(ideaSearchStrategy, never()).index(any());
+    }
+
     @Test
     void updateIdeaSyncsTags() {
         Tag tagA = buildTag(1L, "A", 2L);
@@ -238,26 +640,25 @@ class IdeaServiceTest {
         Tag tagC = buildTag(3L, "C", 5L);
         Idea idea = buildIdea(7L, user, IdeaStatus.ACTIVE, new HashSet<>(Set.of(tagA, tagB)));
         when(ideaRepository.findById(7L)).thenReturn(Optional.of(idea));
-        when(tagRepository.findByNameIgnoreCase("C")).thenReturn(Optional.of(tagC));
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tagDictionary.resolve(List.of("C"))).thenReturn(Map.of("c", tagC));
         when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> invocation.getArgument(0));
         UpdateIdeaRequest request = UpdateIdeaRequest.builder()
             .title("New")
             .description("New Desc")
-            .tags(List.of("B", "C"))
+            .tags(List.of("b", "C"))
             .build();
 
         IdeaDetailResponse response = ideaService.updateIdea(7L, request, 1L);
 
         assertEquals(2, response.getTags().size());
-        assertEquals(1L, tagA.getUsageCount());
-        assertEquals(3L, tagB.getUsageCount());
-        assertEquals(6L, tagC.getUsageCount());
-        ArgumentCaptor<Tag> tagCaptor = ArgumentCaptor.forClass(Tag.class);
-        verify(tagRepository, times(2)).save(tagCaptor.capture());
-        List<Tag> savedTags = tagCaptor.getAllValues();
-        assertTrue(savedTags.contains(tagA));
-        assertTrue(savedTags.contains(tagC));
+        assertEquals(Set.of(tagB, tagC), idea.getTags());
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(1L), -1L);
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(3L), 1L);
+        verify(tagSuggestIndex).adjust(tagA, -1L);
+        verify(tagSuggestIndex).adjust(tagC, 1L);
+        verify(tagSuggestIndex, never()).adjust(eq(tagB), anyLong());
+        verify(trendingTagTracker).record(tagC);
+        verify(ideaListCache).invalidate(1L, Set.of("A", "B", "C"));
     }
 
     @Test
@@ -266,15 +667,35 @@ class IdeaServiceTest {
         Tag tagB = buildTag(2L, "B", 0L);
         Idea idea = buildIdea(8L, user, IdeaStatus.ACTIVE, Set.of(tagA, tagB));
         when(ideaRepository.findById(8L)).thenReturn(Optional.of(idea));
-        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         ideaService.deleteIdea(8L, 1L, false);
 
         assertEquals(IdeaStatus.DELETED, idea.getStatus());
-        assertEquals(0L, tagA.getUsageCount());
-        assertEquals(0L, tagB.getUsageCount());
-        verify(tagRepository, times(2)).save(any(Tag.class));
+        verify(ideaSearchStrategy).index(idea);
+        ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(counterService).add(eq(CounterKind.TAG_USAGE), idsCaptor.capture(), eq(-1L));
+        assertEquals(Set.of(1L, 2L), new HashSet<>(idsCaptor.getValue()));
+        verify(tagSuggestIndex).adjust(tagA, -1L);
+        verify(tagSuggestIndex).adjust(tagB, -1L);
         verify(ideaRepository).save(idea);
+        verify(ideaListCache).invalidate(1L, Set.of("A", "B"));
+    }
+
+    @Test
+    void deleteIdeaHiddenSkipsUsageAndIndexesAlreadyDropped() {
+        Tag tagA = buildTag(1L, "A", 0L);
+        Idea idea = buildIdea(8L, user, IdeaStatus.HIDDEN, Set.of(tagA));
+        when(ideaRepository.findById(8L)).thenReturn(Optional.of(idea));
+
+        ideaService.deleteIdea(8L, 1L, false);
+
+        assertEquals(IdeaStatus.DELETED, idea.getStatus());
+        verify(ideaRepository).save(idea);
+        verify(counterService, never()).add(any(), anyCollection(), anyLong());
+        verify(tagSuggestIndex, never()).adjust(any(Tag.class), anyLong());
+        verify(ideaSearchStrategy, never()).index(any());
+        verify(ideaTagIndex, never()).index(any());
+        verify(ideaListCache, never()).invalidate(any(), anyCollection());
     }
 
     @Test
@@ -304,9 +725,9 @@ class IdeaServiceTest {
     @Test
     void getCurrentUserIdeasSetsUserId() {
         IdeaQueryRequest request = IdeaQueryRequest.builder().build();
-        when(ideaRepository.findAll(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
+        when(ideaRepository.findIdSlice(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
             Pageable pageable = invocation.getArgument(1);
-            return new PageImpl<>(List.of(), pageable, 0);
+            return new SliceImpl<Long>(List.of(), pageable, false);
         });
 
         ideaService.getCurrentUserIdeas(request, 42L);
@@ -333,6 +754,15 @@ class IdeaServiceTest {
         return idea;
     }
 
+    private IdeaCardView buildCard(Long id) {
+        return buildCard(id, 0L, 0.0, null);
+    }
+
+    private IdeaCardView buildCard(Long id, long likeCount, double hotScore, LocalDateTime createdAt) {
+        return new IdeaCardView(id, "Title " + id, "Desc " + id, List.of(), likeCount, 0L, hotScore, createdAt,
+            createdAt, user.getId(), user.getUsername(), user.getAvatar());
+    }
+
     private Tag buildTag(Long id, String name, long usageCount) {
         Tag tag = new Tag();
         tag.setId(id);
@@ -0,0 +1,80 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.repository.IdeaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaSnippetBackfillTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private final ListingConfig listingConfig = new ListingConfig();
+    private IdeaSnippetBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        listingConfig.setSnippetBackfillBatchSize(10);
+        backfill = new IdeaSnippetBackfill(ideaRepository, listingConfig);
+    }
+
+    @Test
+    void startupFillsMissingSnippetsInBoundedIdRanges() {
+        when(ideaRepository.findMaxId()).thenReturn(25L);
+        when(ideaRepository.backfillSnippets(0L, 10L, Idea.SNIPPET_LENGTH)).thenReturn(3);
+        when(ideaRepository.backfillSnippets(10L, 20L, Idea.SNIPPET_LENGTH)).thenReturn(0);
+        when(ideaRepository.backfillSnippets(20L, 25L, Idea.SNIPPET_LENGTH)).thenReturn(1);
+
+        backfill.onApplicationReady();
+
+        assertEquals(25L, backfill.getCheckpoint());
+    }
+
+    @Test
+    void finishedWalkOnlyVisitsNewIds() {
+        when(ideaRepository.findMaxId()).thenReturn(5L, 5L, 12L);
+        assertEquals(0, backfill.backfill());
+        assertEquals(0, backfill.backfill());
+
+        backfill.backfill();
+
+        verify(ideaRepository).backfillSnippets(0L, 5L, Idea.SNIPPET_LENGTH);
+        verify(ideaRepository).backfillSnippets(5L, 12L, Idea.SNIPPET_LENGTH);
+    }
+
+    @Test
+    void failedChunkKeepsTheCheckpointForTheNextRun() {
+        when(ideaRepository.findMaxId()).thenReturn(20L);
+        when(ideaRepository.backfillSnippets(0L, 10L, Idea.SNIPPET_LENGTH)).thenReturn(1);
+        when(ideaRepository.backfillSnippets(10L, 20L, Idea.SNIPPET_LENGTH))
+            .thenThrow(new IllegalStateException("lock wait timeout"))
+            .thenReturn(2);
+
+        backfill.onApplicationReady();
+        assertEquals(10L, backfill.getCheckpoint());
+
+        assertEquals(2, backfill.backfill());
+        assertEquals(20L, backfill.getCheckpoint());
+        verify(ideaRepository).backfillSnippets(0L, 10L, Idea.SNIPPET_LENGTH);
+    }
+
+    @Test
+    void emptyTableRunsNoUpdates() {
+        backfill.onApplicationReady();
+
+        verify(ideaRepository, never()).backfillSnippets(anyLong(), anyLong(), eq(Idea.SNIPPET_LENGTH));
+    }
+}
@@ -0,0 +1,95 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.dto.idea.LikeResponse;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.LikeRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private LikedIdeasCache likedIdeasCache;
+    @Mock
+    private CounterService counterService;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @Test
+    void likeIncrementsCounterWhenRowInserted() {
+        when(ideaRepository.existsByIdAndStatus(5L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(likeRepository.insertIfAbsent(2L, 5L)).thenReturn(1);
+        when(ideaRepository.findLikeCountById(5L)).thenReturn(Optional.of(4L));
+        when(counterService.current(CounterKind.IDEA_LIKES, 5L, 4L)).thenReturn(5L);
+
+        LikeResponse response = likeService.like(5L, 2L);
+
+        assertTrue(response.isLiked());
+        assertEquals(5L, response.getLikeCount());
+        assertEquals(5L, response.getIdeaId());
+        verify(counterService).add(CounterKind.IDEA_LIKES, 5L, 1L);
+        verify(likedIdeasCache).recordLike(2L, 5L);
+    }
+
+    @Test
+    void repeatedLikeLeavesCounterAlone() {
+        when(ideaRepository.existsByIdAndStatus(5L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(likeRepository.insertIfAbsent(2L, 5L)).thenReturn(0);
+        when(ideaRepository.findLikeCountById(5L)).thenReturn(Optional.of(4L));
+
+        LikeResponse response = likeService.like(5L, 2L);
+
+        assertTrue(response.isLiked());
+        verify(counterService, never()).add(any(CounterKind.class), anyLong(), anyLong());
+        verify(likedIdeasCache, never()).recordLike(anyLong(), anyLong());
+    }
+
+    @Test
+    void unlikeDecrementsCounterOnlyWhenRowDeleted() {
+        when(ideaRepository.existsByIdAndStatus(5L, IdeaStatus.ACTIVE)).thenReturn(true);
+        when(likeRepository.deleteByUserIdAndIdeaId(2L, 5L)).thenReturn(1, 0);
+        when(ideaRepository.findLikeCountById(5L)).thenReturn(Optional.empty());
+        when(counterService.current(CounterKind.IDEA_LIKES, 5L, 0L)).thenReturn(0L);
+
+        LikeResponse first = likeService.unlike(5L, 2L);
+        LikeResponse second = likeService.unlike(5L, 2L);
+
+        assertFalse(first.isLiked());
+        assertEquals(0L, second.getLikeCount());
+        verify(counterService).add(CounterKind.IDEA_LIKES, 5L, -1L);
+        verify(likedIdeasCache).recordUnlike(2L, 5L);
+    }
+
+    @Test
+    void likeMissingIdeaThrows404() {
+        when(ideaRepository.existsByIdAndStatus(5L, IdeaStatus.ACTIVE)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> likeService.like(5L, 2L));
+
+        assertEquals(404, ex.getCode());
+        verify(likeRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+}
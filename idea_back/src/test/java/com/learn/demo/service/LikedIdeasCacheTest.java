@@ -0,0 +1,104 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.ListingConfig;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Like;
+import com.learn.demo.repository.LikeRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LikedIdeasCacheTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    private ListingConfig listingConfig;
+    private LikedIdeasCache cache;
+
+    @BeforeEach
+    void setUp() {
+        listingConfig = new ListingConfig();
+        listingConfig.setLikedCacheUsers(2);
+        cache = new LikedIdeasCache(likeRepository, listingConfig);
+    }
+
+    @Test
+    void loadsMembershipOnceAndAnswersFromMemory() {
+        when(likeRepository.findIdeaIdsByUserId(1L)).thenReturn(List.of(3L, 5L));
+
+        assertEquals(Set.of(5L), cache.likedAmong(1L, List.of(4L, 5L)));
+        assertTrue(cache.isLiked(1L, 3L));
+        assertFalse(cache.isLiked(1L, 4L));
+
+        verify(likeRepository, times(1)).findIdeaIdsByUserId(1L);
+        verify(likeRepository, never()).existsByUserIdAndIdeaId(anyLong(), anyLong());
+    }
+
+    @Test
+    void likeAndUnlikeUpdateLoadedMembership() {
+        when(likeRepository.findIdeaIdsByUserId(1L)).thenReturn(List.of(3L));
+        assertTrue(cache.isLiked(1L, 3L));
+
+        cache.recordLike(1L, 8L);
+        cache.recordUnlike(1L, 3L);
+
+        assertTrue(cache.isLiked(1L, 8L));
+        assertFalse(cache.isLiked(1L, 3L));
+        verify(likeRepository, times(1)).findIdeaIdsByUserId(1L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUser() {
+        when(likeRepository.findIdeaIdsByUserId(anyLong())).thenReturn(List.of());
+
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 1L);
+        cache.isLiked(1L, 1L);
+        cache.isLiked(3L, 1L);
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 1L);
+
+        assertEquals(2, cache.size());
+        verify(likeRepository, times(1)).findIdeaIdsByUserId(1L);
+        verify(likeRepository, times(2)).findIdeaIdsByUserId(2L);
+    }
+
+    @Test
+    void anonymousOrEmptyRequestsSkipLookups() {
+        assertFalse(cache.isLiked(null, 1L));
+        assertTrue(cache.likedAmong(1L, List.of()).isEmpty());
+
+        verify(likeRepository, never()).findIdeaIdsByUserId(anyLong());
+    }
+
+    @Test
+    void zeroSizeQueriesLikeTableDirectly() {
+        listingConfig.setLikedCacheUsers(0);
+        Idea idea = new Idea();
+        idea.setId(7L);
+        Like like = new Like();
+        like.setIdea(idea);
+        when(likeRepository.findByUserIdAndIdeaIdIn(1L, List.of(7L, 9L))).thenReturn(List.of(like));
+        when(likeRepository.existsByUserIdAndIdeaId(1L, 9L)).thenReturn(false);
+
+        assertEquals(Set.of(7L), cache.likedAmong(1L, List.of(7L, 9L)));
+        assertFalse(cache.isLiked(1L, 9L));
+        assertEquals(0, cache.size());
+        verify(likeRepository, never()).findIdeaIdsByUserId(anyLong());
+    }
+}
@@ -0,0 +1,296 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.dto.PageResponse;
+import com.learn.demo.dto.report.CreateReportRequest;
+import com.learn.demo.dto.report.ReportGroupResponse;
+import com.learn.demo.dto.report.ReportResolutionResponse;
+import com.learn.demo.dto.report.ReportResponse;
+import com.learn.demo.dto.report.ReportTarget;
+import com.learn.demo.dto.report.ResolveReportsRequest;
+import com.learn.demo.entity.Comment;
+import com.learn.demo.entity.Idea;
+import com.learn.demo.entity.Report;
+import com.learn.demo.entity.User;
+import com.learn.demo.enums.CommentStatus;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.ReportStatus;
+import com.learn.demo.enums.TargetType;
+import com.learn.demo.exception.BusinessException;
+import com.learn.demo.repository.CommentRepository;
+import com.learn.demo.repository.IdeaRepository;
+import com.learn.demo.repository.ReportRepository;
+import com.learn.demo.repository.UserRepository;
+import com.learn.demo.repository.projection.IdeaOwnerView;
+import com.learn.demo.repository.projection.IdeaTagUsageView;
+import com.learn.demo.repository.projection.ReportGroupView;
+import com.learn.demo.search.IdeaSearchStrategy;
+import com.learn.demo.search.IdeaTagIndex;
+import com.learn.demo.search.TagSuggestIndex;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CounterService counterService;
+    @Mock
+    private IdeaSearchStrategy ideaSearchStrategy;
+    @Mock
+    private IdeaTagIndex ideaTagIndex;
+    @Mock
+    private TagSuggestIndex tagSuggestIndex;
+    @Mock
+    private IdeaListCache ideaListCache;
+
+    @InjectMocks
+    private ReportService reportService;
+
+    @Test
+    void createReportStoresPendingReport() {
+        User reporter = new User();
+        reporter.setId(2L);
+        when(commentRepository.existsByIdAndStatus(9L, CommentStatus.ACTIVE)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(reporter));
+        when(reportRepository.save(any(Report.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReportResponse response = reportService.createReport(
+            CreateReportRequest.builder().targetType(TargetType.COMMENT).targetId(9L).reason("spam").build(), 2L);
+
+        assertEquals(ReportStatus.PENDING, response.getStatus());
+        assertEquals(9L, response.getTargetId());
+    }
+
+    @Test
+    void createReportForMissingTargetThrows404() {
+        when(ideaRepository.existsByIdAndStatus(9L, IdeaStatus.ACTIVE)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> reportService.createReport(
+            CreateReportRequest.builder().targetType(TargetType.IDEA).targetId(9L).reason("spam").build(), 2L));
+
+        assertEquals(404, ex.getCode());
+        verify(reportRepository, never()).save(any(Report.class));
+    }
+
+    @Test
+    void listPendingGroupsMapsAggregateRows() {
+        ReportGroupView view = new GroupView(TargetType.IDEA, 4L, 3L);
+        when(reportRepository.findGroupsByStatus(ReportStatus.PENDING, PageRequest.of(0, 10)))
+            .thenReturn(new SliceImpl<>(List.of(view), PageRequest.of(0, 10), true));
+
+        PageResponse<ReportGroupResponse> page = reportService.listPendingGroups(0, 10);
+
+        assertEquals(3L, page.getContent().get(0).getReportCount());
+        assertEquals(true, page.isHasNext());
+        assertEquals(-1, page.getTotalElements());
+    }
+
+    @Test
+    void listPendingGroupsRejectsOversizedPage() {
+        BusinessException ex = assertThrows(BusinessException.class, () -> reportService.listPendingGroups(0, 101));
+
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void resolveHidesTargetsAndDropsHiddenIdeasFromListsAndIndexes() {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.RESOLVED)
+            .targets(List.of(
+                new ReportTarget(TargetType.IDEA, 1L),
+                new ReportTarget(TargetType.IDEA, 1L),
+                new ReportTarget(TargetType.COMMENT, 7L)))
+            .build();
+        when(reportRepository.updateStatusByTargets(TargetType.IDEA, Set.of(1L), ReportStatus.PENDING, ReportStatus.RESOLVED))
+            .thenReturn(4);
+        when(reportRepository.updateStatusByTargets(TargetType.COMMENT, Set.of(7L), ReportStatus.PENDING, ReportStatus.RESOLVED))
+            .thenReturn(2);
+        when(ideaRepository.lockOwnersByIdInAndStatus(Set.of(1L), IdeaStatus.ACTIVE))
+            .thenReturn(List.of(new OwnerView(1L, 3L)));
+        when(ideaRepository.updateStatusByIdIn(List.of(1L), IdeaStatus.ACTIVE, IdeaStatus.HIDDEN)).thenReturn(1);
+        when(ideaRepository.findTagUsagesByIdeaIdIn(List.of(1L)))
+            .thenReturn(List.of(new TagUsage(1L, 8L, "Green", 4L)));
+        Idea commented = new Idea();
+        commented.setId(5L);
+        Comment comment = new Comment();
+        comment.setId(7L);
+        comment.setIdea(commented);
+        when(commentRepository.lockByIdInAndStatus(Set.of(7L), CommentStatus.ACTIVE)).thenReturn(List.of(comment));
+        when(commentRepository.updateStatusByIdIn(List.of(7L), CommentStatus.ACTIVE, CommentStatus.DELETED)).thenReturn(1);
+
+        ReportResolutionResponse response = reportService.resolve(request);
+
+        assertEquals(6, response.getReports());
+        assertEquals(1, response.getHiddenIdeas());
+        assertEquals(1, response.getDeletedComments());
+        verify(counterService).add(CounterKind.IDEA_COMMENTS, 5L, -1L);
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(8L), -1L);
+        verify(tagSuggestIndex).adjust(8L, "Green", 4L, -1L);
+        ArgumentCaptor<Idea> indexed = ArgumentCaptor.forClass(Idea.class);
+        verify(ideaSearchStrategy).index(indexed.capture());
+        assertEquals(1L, indexed.getValue().getId());
+        assertEquals(IdeaStatus.HIDDEN, indexed.getValue().getStatus());
+        verify(ideaTagIndex).index(indexed.getValue());
+        verify(ideaListCache).invalidate(3L, List.of("Green"));
+    }
+
+    @Test
+    void hidingGroupsTagUsageDropsIntoOneCounterCallPerAmount() {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.RESOLVED)
+            .targets(List.of(new ReportTarget(TargetType.IDEA, 1L), new ReportTarget(TargetType.IDEA, 2L)))
+            .build();
+        Set<Long> ids = new LinkedHashSet<>(List.of(1L, 2L));
+        when(reportRepository.updateStatusByTargets(TargetType.IDEA, ids, ReportStatus.PENDING, ReportStatus.RESOLVED))
+            .thenReturn(2);
+        when(ideaRepository.lockOwnersByIdInAndStatus(ids, IdeaStatus.ACTIVE))
+            .thenReturn(List.of(new OwnerView(1L, 3L), new OwnerView(2L, 4L)));
+        when(ideaRepository.updateStatusByIdIn(List.of(1L, 2L), IdeaStatus.ACTIVE, IdeaStatus.HIDDEN)).thenReturn(2);
+        when(ideaRepository.findTagUsagesByIdeaIdIn(List.of(1L, 2L))).thenReturn(List.of(
+            new TagUsage(1L, 8L, "Shared", 5L),
+            new TagUsage(2L, 8L, "Shared", 5L),
+            new TagUsage(2L, 9L, "Solo", 1L)));
+
+        ReportResolutionResponse response = reportService.resolve(request);
+
+        assertEquals(2, response.getHiddenIdeas());
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(8L), -2L);
+        verify(counterService).add(CounterKind.TAG_USAGE, List.of(9L), -1L);
+        verify(tagSuggestIndex).adjust(8L, "Shared", 5L, -2L);
+        verify(tagSuggestIndex).adjust(9L, "Solo", 1L, -1L);
+        verify(ideaListCache).invalidate(3L, List.of("Shared"));
+        verify(ideaListCache).invalidate(4L, List.of("Shared", "Solo"));
+    }
+
+    @Test
+    void hidingIdeasThatAreNoLongerActiveChangesNothing() {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.RESOLVED)
+            .targets(List.of(new ReportTarget(TargetType.IDEA, 1L)))
+            .build();
+        when(ideaRepository.lockOwnersByIdInAndStatus(Set.of(1L), IdeaStatus.ACTIVE)).thenReturn(List.of());
+
+        ReportResolutionResponse response = reportService.resolve(request);
+
+        assertEquals(0, response.getHiddenIdeas());
+        verify(ideaRepository, never()).updateStatusByIdIn(anyCollection(), any(), any());
+        verify(ideaSearchStrategy, never()).index(any());
+    }
+
+    @Test
+    void rejectOnlyClosesReports() {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.REJECTED)
+            .targets(List.of(new ReportTarget(TargetType.IDEA, 1L)))
+            .build();
+        when(reportRepository.updateStatusByTargets(TargetType.IDEA, Set.of(1L), ReportStatus.PENDING, ReportStatus.REJECTED))
+            .thenReturn(3);
+
+        ReportResolutionResponse response = reportService.resolve(request);
+
+        assertEquals(3, response.getReports());
+        verify(ideaRepository, never()).lockOwnersByIdInAndStatus(anyCollection(), any());
+        verify(commentRepository, never()).updateStatusByIdIn(anyCollection(), any(), any());
+    }
+
+    @Test
+    void resolveWithPendingStatusThrows400() {
+        ResolveReportsRequest request = ResolveReportsRequest.builder()
+            .status(ReportStatus.PENDING)
+            .targets(List.of(new ReportTarget(TargetType.IDEA, 1L)))
+            .build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> reportService.resolve(request));
+
+        assertEquals(400, ex.getCode());
+    }
+
+    private record OwnerView(Long id, Long userId) implements IdeaOwnerView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+    }
+
+    private record TagUsage(Long ideaId, Long tagId, String name, Long usageCount) implements IdeaTagUsageView {
+        @Override
+        public Long getIdeaId() {
+            return ideaId;
+        }
+
+        @Override
+        public Long getTagId() {
+            return tagId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Long getUsageCount() {
+            return usageCount;
+        }
+    }
+
+    private record GroupView(TargetType targetType, Long targetId, Long reportCount) implements ReportGroupView {
+        @Override
+        public TargetType getTargetType() {
+            return targetType;
+        }
+
+        @Override
+        public Long getTargetId() {
+            return targetId;
+        }
+
+        @Override
+        public Long getReportCount() {
+            return reportCount;
+        }
+
+        @Override
+        public LocalDateTime getFirstReportedAt() {
+            return null;
+        }
+
+        @Override
+        public LocalDateTime getLastReportedAt() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.entity.Tag;
+import com.learn.demo.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private SearchConfig searchConfig;
+    private TagDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new SearchConfig();
+        searchConfig.setTagDictionarySize(2);
+        dictionary = new TagDictionary(tagRepository, searchConfig);
+    }
+
+    @Test
+    void resolveBlankInputTouchesNothing() {
+        assertTrue(dictionary.resolve(null).isEmpty());
+        assertTrue(dictionary.resolve(Arrays.asList(" ", null)).isEmpty());
+
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    void resolveLooksUpMissesOnceAndCreatesTheRestInOneInsert() {
+        Tag java = buildTag(1L, "Java");
+        Tag go = buildTag(2L, "go");
+        when(tagRepository.findByLowerNameIn(Set.of("java", "go"))).thenReturn(List.of(java));
+        when(tagRepository.lockByLowerNameIn(Set.of("go"))).thenReturn(List.of(go));
+
+        Map<String, Tag> resolved = dictionary.resolve(List.of("JAVA", " go ", "java"));
+
+        assertEquals(Map.of("java", java, "go", go), resolved);
+        verify(tagRepository).insertIgnoringConflicts(List.of("go"));
+        verify(tagRepository, never()).findAllById(any());
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void resolveLoadsRememberedNamesByIdAndSkipsTheNameLookup() {
+        Tag java = buildTag(1L, "Java");
+        when(tagRepository.findByLowerNameIn(Set.of("java"))).thenReturn(List.of(java));
+        dictionary.resolve(List.of("Java"));
+        when(tagRepository.findAllById(Set.of(1L))).thenReturn(List.of(java));
+
+        Map<String, Tag> resolved = dictionary.resolve(List.of("jAvA"));
+
+        assertSame(java, resolved.get("java"));
+        verify(tagRepository).findByLowerNameIn(anyCollection());
+        verify(tagRepository, never()).insertIgnoringConflicts(anyCollection());
+    }
+
+    @Test
+    void resolveDropsRememberedIdsThatNoLongerLoad() {
+        Tag java = buildTag(1L, "Java");
+        Tag replacement = buildTag(7L, "Java");
+        when(tagRepository.findByLowerNameIn(Set.of("java"))).thenReturn(List.of(java), List.of(replacement));
+        dictionary.resolve(List.of("Java"));
+        when(tagRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+
+        assertSame(replacement, dictionary.resolve(List.of("Java")).get("java"));
+        when(tagRepository.findAllById(Set.of(7L))).thenReturn(List.of(replacement));
+        assertSame(replacement, dictionary.resolve(List.of("Java")).get("java"));
+    }
+
+    @Test
+    void resolvePrefersTheOldestTagWhenSpellingsCollide() {
+        Tag older = buildTag(3L, "Rust");
+        Tag newer = buildTag(9L, "rust");
+        when(tagRepository.findByLowerNameIn(Set.of("rust"))).thenReturn(List.of(newer, older));
+
+        assertSame(older, dictionary.resolve(List.of("rust")).get("rust"));
+    }
+
+    @Test
+    void resolveEvictsLeastRecentlyUsedNames() {
+        when(tagRepository.findByLowerNameIn(anyCollection())).thenAnswer(invocation -> {
+            List<Tag> tags = new ArrayList<>();
+            for (Object name : (Iterable<?>) invocation.getArgument(0)) {
+                tags.add(buildTag((long) name.hashCode(), (String) name));
+            }
+            return tags;
+        });
+
+        dictionary.resolve(List.of("a"));
+        dictionary.resolve(List.of("b"));
+        dictionary.resolve(List.of("c"));
+
+        assertEquals(2, dictionary.size());
+        dictionary.clear();
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    void resolveWithDictionaryDisabledAlwaysQueriesByName() {
+        searchConfig.setTagDictionarySize(0);
+        Tag java = buildTag(1L, "Java");
+        when(tagRepository.findByLowerNameIn(Set.of("java"))).thenReturn(List.of(java));
+
+        dictionary.resolve(List.of("Java"));
+        dictionary.resolve(List.of("Java"));
+
+        assertEquals(0, dictionary.size());
+        verify(tagRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void resolveFailsWhenCreatedTagsCannotBeRead() {
+        when(tagRepository.findByLowerNameIn(Set.of("ghost"))).thenReturn(List.of());
+        when(tagRepository.lockByLowerNameIn(Set.of("ghost"))).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> dictionary.resolve(List.of("Ghost")));
+    }
+
+    private Tag buildTag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        tag.setUsageCount(0L);
+        return tag;
+    }
+}
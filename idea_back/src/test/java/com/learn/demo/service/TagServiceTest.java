@@ -0,0 +1,74 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.SearchConfig;
+import com.learn.demo.config.TrendingConfig;
+import com.learn.demo.dto.tag.TagResponse;
+import com.learn.demo.dto.tag.TrendingTagResponse;
+import com.learn.demo.enums.TrendingWindow;
+import com.learn.demo.search.TagSuggestIndex;
+import com.learn.demo.search.TrendingTagTracker;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest {
+
+    @Mock
+    private TagSuggestIndex tagSuggestIndex;
+    @Spy
+    private SearchConfig searchConfig = new SearchConfig();
+    @Mock
+    private TrendingTagTracker trendingTagTracker;
+    @Spy
+    private TrendingConfig trendingConfig = new TrendingConfig();
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Test
+    void suggestMapsEntriesAndCapsLimit() {
+        when(tagSuggestIndex.suggest("ja", 10))
+            .thenReturn(List.of(new TagSuggestIndex.Entry(2L, "Java", 4L)));
+
+        List<TagResponse> tags = tagService.suggest("ja", 50);
+
+        assertEquals(1, tags.size());
+        assertEquals("Java", tags.get(0).getName());
+        assertEquals(4L, tags.get(0).getUsageCount());
+    }
+
+    @Test
+    void suggestRaisesNonPositiveLimitToOne() {
+        tagService.suggest("ja", 0);
+
+        verify(tagSuggestIndex).suggest("ja", 1);
+    }
+
+    @Test
+    void trendingResolvesWindowAndMapsEntries() {
+        when(trendingTagTracker.top(TrendingWindow.WEEK, 3))
+            .thenReturn(List.of(new TrendingTagTracker.Entry(5L, "Rust", 12L)));
+
+        List<TrendingTagResponse> tags = tagService.trending("7d", 3);
+
+        assertEquals("Rust", tags.get(0).getName());
+        assertEquals(12L, tags.get(0).getCount());
+        assertEquals("7d", tags.get(0).getWindow());
+    }
+
+    @Test
+    void trendingDefaultsUnknownWindowToDay() {
+        tagService.trending("month", 99);
+
+        verify(trendingTagTracker).top(TrendingWindow.DAY, 10);
+    }
+}
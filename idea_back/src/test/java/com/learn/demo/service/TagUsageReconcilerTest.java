@@ -0,0 +1,134 @@
+package com.learn.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learn.demo.config.CounterConfig;
+import com.learn.demo.entity.JobCheckpoint;
+import com.learn.demo.enums.CounterKind;
+import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.repository.JobCheckpointRepository;
+import com.learn.demo.repository.TagRepository;
+import com.learn.demo.repository.projection.TagUsageView;
+import com.learn.demo.search.TagSuggestIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class TagUsageReconcilerTest {
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TagSuggestIndex tagSuggestIndex;
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private TagUsageReconciler reconciler;
+    private final List<Long> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        CounterConfig counterConfig = new CounterConfig();
+        counterConfig.setReconcileBatchSize(2);
+        reconciler = new TagUsageReconciler(tagRepository, tagSuggestIndex, counterConfig, jobCheckpointRepository);
+        when(jobCheckpointRepository.findById(TagUsageReconciler.CHECKPOINT)).thenAnswer(invocation -> saved.isEmpty()
+            ? Optional.empty()
+            : Optional.of(new JobCheckpoint(TagUsageReconciler.CHECKPOINT, saved.get(saved.size() - 1), null)));
+        when(jobCheckpointRepository.save(any(JobCheckpoint.class))).thenAnswer(invocation -> {
+            JobCheckpoint checkpoint = invocation.getArgument(0);
+            saved.add(checkpoint.getPosition());
+            return checkpoint;
+        });
+    }
+
+    @Test
+    void reconcileWalksChunksAndWritesOnlyDriftedRows() {
+        when(tagRepository.findUsageBatch(0L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2)))
+            .thenReturn(List.of(view(1L, "Java", 5L, 3L, 0L), view(2L, "Go", 1L, 2L, 1L)));
+        when(tagRepository.findUsageBatch(2L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2)))
+            .thenReturn(List.of(view(4L, "Rust", 0L, 2L, -1L)));
+        when(tagRepository.compareAndSetUsage(1L, 5L, 3L)).thenReturn(1);
+        when(tagRepository.compareAndSetUsage(4L, 0L, 3L)).thenReturn(1);
+
+        assertEquals(2, reconciler.reconcile());
+
+        verify(tagRepository, never()).compareAndSetUsage(eq(2L), anyLong(), anyLong());
+        verify(tagSuggestIndex).adjust(1L, "Java", 5L, -2L);
+        verify(tagSuggestIndex).adjust(4L, "Rust", 0L, 3L);
+        assertEquals(List.of(2L, 4L, 0L), saved);
+    }
+
+    @Test
+    void reconcileSkipsRowsThatChangedConcurrently() {
+        when(tagRepository.findUsageBatch(0L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2)))
+            .thenReturn(List.of(view(1L, "Java", 5L, 3L, 0L)));
+        when(tagRepository.compareAndSetUsage(1L, 5L, 3L)).thenReturn(0);
+
+        assertEquals(0, reconciler.reconcile());
+
+        verify(tagSuggestIndex, never()).adjust(eq(1L), eq("Java"), eq(5L), anyLong());
+    }
+
+    @Test
+    void reconcileResumesFromCheckpointAfterFailure() {
+        when(tagRepository.findUsageBatch(0L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2)))
+            .thenReturn(List.of(view(1L, "Java", 1L, 1L, 0L), view(3L, "Go", 1L, 1L, 0L)));
+        when(tagRepository.findUsageBatch(3L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2)))
+            .thenThrow(new IllegalStateException("connection lost"))
+            .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> reconciler.reconcile());
+        assertEquals(List.of(3L), saved);
+
+        // A fresh instance stands in for a restart: it resumes from the stored position, not id 0.
+        CounterConfig counterConfig = new CounterConfig();
+        counterConfig.setReconcileBatchSize(2);
+        TagUsageReconciler restarted = new TagUsageReconciler(tagRepository, tagSuggestIndex, counterConfig, jobCheckpointRepository);
+        assertEquals(0, restarted.reconcile());
+        assertEquals(List.of(3L, 0L), saved);
+        verify(tagRepository).findUsageBatch(0L, IdeaStatus.ACTIVE, CounterKind.TAG_USAGE, Limit.of(2));
+    }
+
+    private TagUsageView view(Long id, String name, Long usageCount, Long linked, Long pending) {
+        return new TagUsageView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getUsageCount() {
+                return usageCount;
+            }
+
+            @Override
+            public Long getLinked() {
+                return linked;
+            }
+
+            @Override
+            public Long getPending() {
+                return pending;
+            }
+        };
+    }
+}
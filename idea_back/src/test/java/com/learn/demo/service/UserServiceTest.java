@@ -45,7 +45,7 @@ class UserServiceTest {
     @Test
     void getCurrentUserReturnsUser() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
 
         User result = userService.getCurrentUser("alice");
 
@@ -54,7 +54,7 @@ class UserServiceTest {
 
     @Test
     void getCurrentUserNotFoundThrows404() {
-        when(userRepository.findByUsername("missing")).thenReturn(Optional.empty());
+        when(userRepository.loadByUsername("missing")).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(BusinessException.class, () -> userService.getCurrentUser("missing"));
 
@@ -65,7 +65,7 @@ class UserServiceTest {
     @Test
     void updateUserUpdatesEmailAndAvatar() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UpdateUserRequest request = new UpdateUserRequest("new@example.com", "new.png");
@@ -83,7 +83,7 @@ class UserServiceTest {
     @Test
     void updateUserOnlyEmailDoesNotChangeAvatar() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UpdateUserRequest request = new UpdateUserRequest("new@example.com", null);
@@ -97,7 +97,7 @@ class UserServiceTest {
     @Test
     void updateUserOnlyAvatarDoesNotChangeEmail() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UpdateUserRequest request = new UpdateUserRequest(null, "new.png");
@@ -110,7 +110,7 @@ class UserServiceTest {
 
     @Test
     void updateUserNotFoundThrows404() {
-        when(userRepository.findByUsername("missing")).thenReturn(Optional.empty());
+        when(userRepository.loadByUsername("missing")).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(BusinessException.class, () -> userService.updateUser("missing", new UpdateUserRequest()));
 
@@ -121,7 +121,7 @@ class UserServiceTest {
     @Test
     void changePasswordOldPasswordMismatchThrows400() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("old", "hashed")).thenReturn(false);
 
         BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -136,7 +136,7 @@ class UserServiceTest {
     @Test
     void changePasswordSuccessUpdatesPasswordAndTimestamp() {
         User user = buildUser();
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.loadByUsername("alice")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("old", "hashed")).thenReturn(true);
         when(passwordEncoder.encode("newpass")).thenReturn("encoded-new");
         AtomicReference<User> savedRef = new AtomicReference<>();
@@ -158,7 +158,7 @@ class UserServiceTest {
 
     @Test
     void changePasswordUserNotFoundThrows404() {
-        when(userRepository.findByUsername("missing")).thenReturn(Optional.empty());
+        when(userRepository.loadByUsername("missing")).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(BusinessException.class, () ->
             userService.changePassword("missing", new ChangePasswordRequest("old", "newpass"))
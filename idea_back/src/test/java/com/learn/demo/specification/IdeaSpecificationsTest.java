@@ -1,6 +1,7 @@
 package com.learn.demo.specification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.learn.demo.dto.idea.IdeaQueryRequest;
@@ -8,11 +9,13 @@ import com.learn.demo.entity.Idea;
 import com.learn.demo.entity.Tag;
 import com.learn.demo.entity.User;
 import com.learn.demo.enums.IdeaStatus;
+import com.learn.demo.enums.TagMatchMode;
 import com.learn.demo.repository.IdeaRepository;
 import com.learn.demo.repository.TagRepository;
 import com.learn.demo.repository.UserRepository;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
@@ -32,7 +35,7 @@ class IdeaSpecificationsTest {
     private TagRepository tagRepository;
 
     @Test
-    void combineFiltersByKeywordAndExcludesDeleted() {
+    void combineFiltersByKeywordAndKeepsOnlyActiveIdeas() {
         User user = userRepository.save(buildUser("kwd", "kw@example.com"));
         ideaRepository.save(buildIdea(user, "Solar Grid", "clean energy", IdeaStatus.ACTIVE, Set.of()));
         ideaRepository.save(buildIdea(user, "Wind", "Solar panels", IdeaStatus.HIDDEN, Set.of()));
@@ -41,8 +44,8 @@ class IdeaSpecificationsTest {
         IdeaQueryRequest request = IdeaQueryRequest.builder().keyword("solar").build();
         List<Idea> results = ideaRepository.findAll(IdeaSpecifications.combine(request));
 
-        assertEquals(2, results.size());
-        assertTrue(results.stream().noneMatch(idea -> idea.getStatus() == IdeaStatus.DELETED));
+        assertEquals(1, results.size());
+        assertTrue(results.stream().allMatch(idea -> idea.getStatus() == IdeaStatus.ACTIVE));
     }
 
     @Test
@@ -62,6 +65,23 @@ class IdeaSpecificationsTest {
         assertTrue(results.stream().allMatch(idea -> idea.getTags().contains(green)));
     }
 
+    @Test
+    void withTagsMatchesAllOrAnyTag() {
+        User user = userRepository.save(buildUser("tags", "tags@example.com"));
+        Tag green = tagRepository.save(buildTag("Green"));
+        Tag blue = tagRepository.save(buildTag("Blue"));
+        Idea both = ideaRepository.save(buildIdea(user, "Both", "Desc", IdeaStatus.ACTIVE, Set.of(green, blue)));
+        Idea greenOnly = ideaRepository.save(buildIdea(user, "Green", "Desc", IdeaStatus.ACTIVE, Set.of(green)));
+        ideaRepository.save(buildIdea(user, "None", "Desc", IdeaStatus.ACTIVE, Set.of()));
+
+        List<Idea> all = ideaRepository.findAll(IdeaSpecifications.withTags(List.of("green", "BLUE"), TagMatchMode.ALL));
+        List<Idea> any = ideaRepository.findAll(IdeaSpecifications.withTags(List.of("green", "blue"), TagMatchMode.ANY));
+
+        assertEquals(List.of(both.getId()), all.stream().map(Idea::getId).toList());
+        assertEquals(Set.of(both.getId(), greenOnly.getId()), any.stream().map(Idea::getId).collect(Collectors.toSet()));
+        assertNull(IdeaSpecifications.withTags(List.of(), TagMatchMode.ANY));
+    }
+
     @Test
     void combineFiltersByUserId() {
         User owner = userRepository.save(buildUser("owner", "owner@spec.com"));
@@ -79,7 +99,7 @@ class IdeaSpecificationsTest {
     }
 
     @Test
-    void combineExcludesDeletedWhenNoFiltersProvided() {
+    void combineExcludesHiddenAndDeletedWhenNoFiltersProvided() {
         User user = userRepository.save(buildUser("plain", "plain@example.com"));
         ideaRepository.save(buildIdea(user, "Idea1", "Desc", IdeaStatus.ACTIVE, Set.of()));
         ideaRepository.save(buildIdea(user, "Idea2", "Desc", IdeaStatus.HIDDEN, Set.of()));
@@ -88,8 +108,35 @@ class IdeaSpecificationsTest {
         IdeaQueryRequest request = IdeaQueryRequest.builder().build();
         List<Idea> results = ideaRepository.findAll(IdeaSpecifications.combine(request));
 
+        assertEquals(1, results.size());
+        assertTrue(results.stream().allMatch(idea -> idea.getStatus() == IdeaStatus.ACTIVE));
+    }
+
+    @Test
+    void afterCursorReturnsRowsBeyondValueAndId() {
+        User user = userRepository.save(buildUser("cursor", "cursor@example.com"));
+        Idea first = buildIdea(user, "Idea1", "Desc", IdeaStatus.ACTIVE, Set.of());
+        first.setLikeCount(5L);
+        Idea second = buildIdea(user, "Idea2", "Desc", IdeaStatus.ACTIVE, Set.of());
+        second.setLikeCount(5L);
+        Idea third = buildIdea(user, "Idea3", "Desc", IdeaStatus.ACTIVE, Set.of());
+        third.setLikeCount(2L);
+        first = ideaRepository.save(first);
+        second = ideaRepository.save(second);
+        third = ideaRepository.save(third);
+
+        List<Idea> results = ideaRepository.findAll(
+            IdeaSpecifications.afterCursor("likeCount", false, 5L, second.getId()));
+
         assertEquals(2, results.size());
-        assertTrue(results.stream().noneMatch(idea -> idea.getStatus() == IdeaStatus.DELETED));
+        List<Long> ids = results.stream().map(Idea::getId).toList();
+        assertTrue(ids.contains(first.getId()));
+        assertTrue(ids.contains(third.getId()));
+    }
+
+    @Test
+    void afterCursorReturnsNullWhenIncomplete() {
+        assertNull(IdeaSpecifications.afterCursor("likeCount", true, null, 1L));
     }
 
     private User buildUser(String username, String email) {
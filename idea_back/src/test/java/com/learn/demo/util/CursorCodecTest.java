@@ -0,0 +1,40 @@
+package com.learn.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.learn.demo.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        String cursor = CursorCodec.encode("createdAt", "DESC", "2024-01-01T10:00", "15");
+
+        String[] parts = CursorCodec.decode(cursor, 4);
+
+        assertArrayEquals(new String[] {"createdAt", "DESC", "2024-01-01T10:00", "15"}, parts);
+    }
+
+    @Test
+    void decodeRejectsBlankCursor() {
+        BusinessException ex = assertThrows(BusinessException.class, () -> CursorCodec.decode(" ", 2));
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void decodeRejectsMalformedBase64() {
+        BusinessException ex = assertThrows(BusinessException.class, () -> CursorCodec.decode("%%%", 2));
+        assertEquals(400, ex.getCode());
+    }
+
+    @Test
+    void decodeRejectsWrongPartCount() {
+        String cursor = CursorCodec.encode("a", "b");
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> CursorCodec.decode(cursor, 4));
+        assertEquals(400, ex.getCode());
+    }
+}
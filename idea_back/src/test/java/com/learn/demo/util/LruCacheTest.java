@@ -0,0 +1,89 @@
+package com.learn.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        LruCache<String, Integer> cache = new LruCache<>(() -> 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void boundsTheTotalWeight() {
+        LruCache<String, List<Integer>> cache = new LruCache<>(() -> 4, List::size);
+        cache.put("a", List.of(1, 2));
+        cache.put("b", List.of(1, 2));
+        cache.put("a", List.of(1));
+        cache.put("c", List.of(1, 2));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+
+        cache.put("huge", List.of(1, 2, 3, 4, 5, 6));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void readsTheCapacityOnEveryWrite() {
+        AtomicLong capacity = new AtomicLong(0);
+        LruCache<String, Integer> cache = new LruCache<>(capacity::get);
+        cache.put("a", 1);
+        assertEquals(0, cache.size());
+
+        capacity.set(1);
+        cache.put("a", 1);
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void conditionalWritesCompareTheCurrentValue() {
+        LruCache<String, Integer> cache = new LruCache<>(() -> 10);
+        Integer one = 1000;
+        assertNull(cache.putIfAbsent("a", one));
+        assertEquals(one, cache.putIfAbsent("a", 2000));
+
+        assertFalse(cache.replace("a", 2000, 3000));
+        assertTrue(cache.replace("a", one, 3000));
+        assertFalse(cache.remove("a", one));
+        assertTrue(cache.remove("a", cache.get("a")));
+        assertNull(cache.remove("a"));
+    }
+
+    @Test
+    void bulkOperationsSpanEverySegment() {
+        LruCache<Integer, Integer> cache = new LruCache<>(() -> 10_000);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        cache.putAll(Map.of(1000, 1000));
+        assertEquals(1001, cache.size());
+        assertEquals(1001, cache.entries().size());
+
+        cache.removeIf((key, value) -> key % 2 == 0);
+        assertEquals(500, cache.size());
+        assertEquals(501, cache.remove(501));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertTrue(cache.entries().isEmpty());
+    }
+}